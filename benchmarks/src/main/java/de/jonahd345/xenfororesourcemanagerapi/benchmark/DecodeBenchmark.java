@@ -0,0 +1,71 @@
+package de.jonahd345.xenfororesourcemanagerapi.benchmark;
+
+import com.google.gson.Gson;
+import de.jonahd345.xenfororesourcemanagerapi.json.ModelAdapters;
+import de.jonahd345.xenfororesourcemanagerapi.json.Projection;
+import de.jonahd345.xenfororesourcemanagerapi.model.Resource;
+import de.jonahd345.xenfororesourcemanagerapi.model.Update;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decodes one page of {@code listResources} and {@code getResourceUpdates}, with reflective Gson as the baseline,
+ * the pre-built type adapters of the client and the light projection.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DecodeBenchmark {
+    private final String resources = Fixtures.load("listResources");
+
+    private final String updates = Fixtures.load("getResourceUpdates");
+
+    private final Gson reflective = new Gson();
+
+    private final Gson adapters = ModelAdapters.gson();
+
+    private final Gson light = ModelAdapters.gson(Projection.LIGHT);
+
+    @Benchmark
+    public List<Resource> resourcesReflective() {
+        return reflective.fromJson(resources, ModelAdapters.RESOURCE_LIST);
+    }
+
+    @Benchmark
+    public List<Resource> resourcesAdapters() {
+        return adapters.fromJson(resources, ModelAdapters.RESOURCE_LIST);
+    }
+
+    @Benchmark
+    public List<Resource> resourcesLight() {
+        return light.fromJson(resources, ModelAdapters.RESOURCE_LIST);
+    }
+
+    @Benchmark
+    public List<Update> updatesReflective() {
+        return reflective.fromJson(updates, ModelAdapters.UPDATE_LIST);
+    }
+
+    @Benchmark
+    public List<Update> updatesAdapters() {
+        return adapters.fromJson(updates, ModelAdapters.UPDATE_LIST);
+    }
+
+    @Benchmark
+    public List<Update> updatesLight() {
+        return light.fromJson(updates, ModelAdapters.UPDATE_LIST);
+    }
+}
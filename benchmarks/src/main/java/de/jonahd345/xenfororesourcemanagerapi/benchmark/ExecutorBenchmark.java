@@ -0,0 +1,108 @@
+package de.jonahd345.xenfororesourcemanagerapi.benchmark;
+
+import de.jonahd345.xenfororesourcemanagerapi.XenforoResourceManagerAPI;
+import de.jonahd345.xenfororesourcemanagerapi.model.Resource;
+import de.jonahd345.xenfororesourcemanagerapi.transport.StubServer;
+import de.jonahd345.xenfororesourcemanagerapi.util.BulkResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the default common pool with a virtual thread per task for a large fan-out of {@code getResource} calls.
+ * {@code blocking} runs every blocking call as a task of the executor, {@code async} and {@code bulk} decode on it.
+ * Before Java 21 {@code virtual} falls back to the common pool, so both variants measure the same executor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExecutorBenchmark {
+    @Param({"256"})
+    private int resources;
+
+    @Param({"20"})
+    private int latencyMillis;
+
+    @Param({"commonPool", "virtual"})
+    private String executor;
+
+    private StubServer server;
+
+    private XenforoResourceManagerAPI api;
+
+    private ExecutorService executorService;
+
+    private List<Integer> ids;
+
+    @Setup
+    public void setup() {
+        String resource = Fixtures.load("getResource");
+
+        server = StubServer.builder().latency(Duration.ofMillis(latencyMillis)).threads(resources).build()
+                .respond("getResource", parameters -> resource)
+                .start();
+        api = XenforoResourceManagerAPI.builder()
+                .baseUrl(server.getBaseUrl())
+                .virtualThreads(executor.equals("virtual"))
+                .build();
+        executorService = api.getExecutorService();
+        ids = new ArrayList<>();
+        for (int i = 1; i <= resources; i++) {
+            ids.add(i);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public void blocking(Blackhole blackhole) {
+        List<CompletableFuture<Resource>> futures = new ArrayList<>(ids.size());
+
+        for (int id : ids) {
+            futures.add(CompletableFuture.supplyAsync(() -> api.getResource(id), executorService));
+        }
+        for (CompletableFuture<Resource> future : futures) {
+            blackhole.consume(future.join());
+        }
+    }
+
+    @Benchmark
+    public void async(Blackhole blackhole) {
+        List<CompletableFuture<Resource>> futures = new ArrayList<>(ids.size());
+
+        for (int id : ids) {
+            futures.add(api.getResourceAsync(id));
+        }
+        for (CompletableFuture<Resource> future : futures) {
+            blackhole.consume(future.join());
+        }
+    }
+
+    @Benchmark
+    public BulkResult<Resource> bulk() {
+        return api.getResourcesAsync(ids, resources, api.getExecutorService()).join();
+    }
+}
@@ -0,0 +1,92 @@
+package de.jonahd345.xenfororesourcemanagerapi.benchmark;
+
+import de.jonahd345.xenfororesourcemanagerapi.XenforoResourceManagerAPI;
+import de.jonahd345.xenfororesourcemanagerapi.model.Resource;
+import de.jonahd345.xenfororesourcemanagerapi.transport.StubServer;
+import de.jonahd345.xenfororesourcemanagerapi.util.BulkResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fetches a batch of resources from a {@link StubServer} with a simulated server latency,
+ * one after another with {@code getResource}, concurrently with {@code getResourceAsync} and with the bulk {@code getResourcesAsync}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FanOutBenchmark {
+    @Param({"16"})
+    private int resources;
+
+    @Param({"0", "5"})
+    private int latencyMillis;
+
+    private StubServer server;
+
+    private XenforoResourceManagerAPI api;
+
+    private List<Integer> ids;
+
+    @Setup
+    public void setup() {
+        String resource = Fixtures.load("getResource");
+
+        server = StubServer.builder().latency(Duration.ofMillis(latencyMillis)).build()
+                .respond("getResource", parameters -> resource)
+                .start();
+        api = XenforoResourceManagerAPI.builder().baseUrl(server.getBaseUrl()).build();
+        ids = new ArrayList<>();
+        for (int i = 1; i <= resources; i++) {
+            ids.add(i);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public void sync(Blackhole blackhole) {
+        for (int id : ids) {
+            blackhole.consume(api.getResource(id));
+        }
+    }
+
+    @Benchmark
+    public void async(Blackhole blackhole) {
+        List<CompletableFuture<Resource>> futures = new ArrayList<>(ids.size());
+
+        for (int id : ids) {
+            futures.add(api.getResourceAsync(id));
+        }
+        for (CompletableFuture<Resource> future : futures) {
+            blackhole.consume(future.join());
+        }
+    }
+
+    @Benchmark
+    public BulkResult<Resource> bulk() {
+        return api.getResourcesAsync(ids).join();
+    }
+}
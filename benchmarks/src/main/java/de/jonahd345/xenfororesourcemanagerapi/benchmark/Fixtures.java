@@ -0,0 +1,31 @@
+package de.jonahd345.xenfororesourcemanagerapi.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A utility class loading the JSON payloads the benchmarks decode and serve.
+ * The fixtures have the shape of real API responses, numbers are sent as strings like the API does.
+ */
+public class Fixtures {
+    private Fixtures() {}
+
+    /**
+     * Loads a fixture.
+     *
+     * @param action the action whose response the fixture is, e.g. {@code listResources}
+     * @return the JSON payload
+     */
+    public static String load(String action) {
+        try (InputStream in = Fixtures.class.getResourceAsStream("/fixtures/" + action + ".json")) {
+            if (in == null) {
+                throw new IllegalArgumentException("No fixture for " + action);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
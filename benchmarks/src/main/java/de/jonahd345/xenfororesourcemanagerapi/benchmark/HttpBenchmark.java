@@ -0,0 +1,63 @@
+package de.jonahd345.xenfororesourcemanagerapi.benchmark;
+
+import de.jonahd345.xenfororesourcemanagerapi.service.HttpClientService;
+import de.jonahd345.xenfororesourcemanagerapi.transport.StubServer;
+import de.jonahd345.xenfororesourcemanagerapi.util.RequestResponse;
+import de.jonahd345.xenfororesourcemanagerapi.util.StreamResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends requests to a {@link StubServer} on the loopback interface, measuring the overhead of the HTTP client
+ * and of materializing the body as a string compared to streaming it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HttpBenchmark {
+    private StubServer server;
+
+    private HttpClientService httpClientService;
+
+    private String url;
+
+    @Setup
+    public void setup() {
+        server = StubServer.builder().build().respond("listResources", Fixtures.load("listResources")).start();
+        httpClientService = new HttpClientService();
+        url = server.getBaseUrl() + "?action=listResources&page=1";
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public RequestResponse makeGetRequest() throws IOException {
+        return httpClientService.makeGetRequest(url);
+    }
+
+    @Benchmark
+    public long makeStreamingGetRequest() throws IOException {
+        try (StreamResponse response = httpClientService.makeStreamingGetRequest(url)) {
+            return response.getBody().transferTo(OutputStream.nullOutputStream());
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package de.jonahd345.xenfororesourcemanagerapi.benchmark;
+
+import de.jonahd345.xenfororesourcemanagerapi.XenforoResourceManagerAPI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds the URLs of the endpoints. The builders are private, so they are called through method handles,
+ * which the JIT compiles to direct calls since the handles are constants.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UrlBenchmark {
+    private static final MethodHandle LIST_RESOURCES = find("listResourcesUrl", Integer.class, Integer.class);
+
+    private static final MethodHandle GET_RESOURCE = find("getResourceUrl", int.class);
+
+    private static final MethodHandle GET_RESOURCES_BY_AUTHOR = find("getResourcesByAuthorUrl", int.class, Integer.class);
+
+    private static final MethodHandle GET_RESOURCE_UPDATES = find("getResourceUpdatesUrl", int.class, Integer.class);
+
+    private static final MethodHandle FIND_AUTHOR = find("findAuthorUrl", String.class);
+
+    private final XenforoResourceManagerAPI api = new XenforoResourceManagerAPI();
+
+    private Integer category = 4;
+
+    private Integer page = 3;
+
+    private int id = 102011;
+
+    private String name = "md_5";
+
+    @Benchmark
+    public String listResources() throws Throwable {
+        return (String) LIST_RESOURCES.invokeExact(api, category, page);
+    }
+
+    @Benchmark
+    public String getResource() throws Throwable {
+        return (String) GET_RESOURCE.invokeExact(api, id);
+    }
+
+    @Benchmark
+    public String getResourcesByAuthor() throws Throwable {
+        return (String) GET_RESOURCES_BY_AUTHOR.invokeExact(api, id, page);
+    }
+
+    @Benchmark
+    public String getResourceUpdates() throws Throwable {
+        return (String) GET_RESOURCE_UPDATES.invokeExact(api, id, page);
+    }
+
+    @Benchmark
+    public String findAuthor() throws Throwable {
+        return (String) FIND_AUTHOR.invokeExact(api, name);
+    }
+
+    private static MethodHandle find(String name, Class<?>... parameters) {
+        try {
+            return MethodHandles.privateLookupIn(XenforoResourceManagerAPI.class, MethodHandles.lookup())
+                    .findVirtual(XenforoResourceManagerAPI.class, name, MethodType.methodType(String.class, parameters));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+}
@@ -1,43 +1,240 @@
 package de.jonahd345.xenfororesourcemanagerapi;
 
 import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import de.jonahd345.xenfororesourcemanagerapi.cache.CacheEntry;
+import de.jonahd345.xenfororesourcemanagerapi.cache.ResponseCache;
+import de.jonahd345.xenfororesourcemanagerapi.cache.VersionCache;
+import de.jonahd345.xenfororesourcemanagerapi.json.ModelAdapters;
+import de.jonahd345.xenfororesourcemanagerapi.json.Projection;
+import de.jonahd345.xenfororesourcemanagerapi.metrics.RequestListener;
+import de.jonahd345.xenfororesourcemanagerapi.metrics.RequestTrace;
 import de.jonahd345.xenfororesourcemanagerapi.model.Author;
 import de.jonahd345.xenfororesourcemanagerapi.model.Category;
 import de.jonahd345.xenfororesourcemanagerapi.model.Error;
 import de.jonahd345.xenfororesourcemanagerapi.model.Resource;
+import de.jonahd345.xenfororesourcemanagerapi.model.ResourceVersion;
 import de.jonahd345.xenfororesourcemanagerapi.model.Update;
+import de.jonahd345.xenfororesourcemanagerapi.service.HedgePolicy;
 import de.jonahd345.xenfororesourcemanagerapi.service.HttpClientService;
+import de.jonahd345.xenfororesourcemanagerapi.service.RequestCoalescer;
+import de.jonahd345.xenfororesourcemanagerapi.service.RequestHedger;
+import de.jonahd345.xenfororesourcemanagerapi.service.TimeoutPolicy;
 import de.jonahd345.xenfororesourcemanagerapi.util.Constants;
-import de.jonahd345.xenfororesourcemanagerapi.util.RequestResponse;
+import de.jonahd345.xenfororesourcemanagerapi.transport.Transport;
+import de.jonahd345.xenfororesourcemanagerapi.util.AsyncSemaphore;
+import de.jonahd345.xenfororesourcemanagerapi.util.BulkResult;
+import de.jonahd345.xenfororesourcemanagerapi.util.CountingInputStream;
+import de.jonahd345.xenfororesourcemanagerapi.util.Futures;
+import de.jonahd345.xenfororesourcemanagerapi.util.PageIterator;
+import de.jonahd345.xenfororesourcemanagerapi.util.PagePublisher;
+import de.jonahd345.xenfororesourcemanagerapi.util.StreamResponse;
+import de.jonahd345.xenfororesourcemanagerapi.util.TimingInputStream;
+import de.jonahd345.xenfororesourcemanagerapi.util.VirtualThreads;
+import lombok.Builder;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.lang.reflect.Type;
+import java.time.Duration;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Flow;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 /**
  * The main class for interacting with the XenforoResourceManagerAPI from SpigotMC.
  * This class provides methods to list resources, fetch resource details, retrieve updates, and manage authors.
- * It provides asynchronous methods for non-blocking operations.
+ * It provides asynchronous methods for non-blocking operations, which do not block a thread while the request is in flight.
  */
 public class XenforoResourceManagerAPI {
+    /**
+     * The default maximum number of concurrent requests of the bulk methods.
+     */
+    public static final int DEFAULT_BULK_CONCURRENCY = 16;
+
     private Logger logger;
 
     private HttpClientService httpClientService;
 
+    private Transport transport;
+
+    private String baseUrl;
+
     private Gson gson;
 
+    private ResponseCache responseCache;
+
+    private RequestCoalescer requestCoalescer;
+
+    private TimeoutPolicy timeoutPolicy;
+
+    private RequestHedger requestHedger;
+
+    private VersionCache versionCache;
+
+    private RequestListener requestListener;
+
+    private ExecutorService executorService;
+
     /**
      * Constructor to initialize the API client.
      * Sets up the logger, HTTP client service and Gson instance
      */
     public XenforoResourceManagerAPI() {
+        this(new HttpClientService());
+    }
+
+    /**
+     * Constructor to initialize the API client with a custom {@link HttpClientService}.
+     * Use this to configure the connection pool with a {@link de.jonahd345.xenfororesourcemanagerapi.service.HttpClientConfig}
+     * or to share one service, and therefore its connections, between multiple API clients.
+     *
+     * @param httpClientService the HTTP client service used for all requests
+     */
+    public XenforoResourceManagerAPI(HttpClientService httpClientService) {
+        this(httpClientService, null, null, null, null, null, null, null, null, false);
+    }
+
+    /**
+     * Constructor used by {@link #builder()} to initialize the API client with optional components.
+     *
+     * @param httpClientService the HTTP client service used for all requests, a default one is created if null
+     * @param responseCache the cache for decoded responses, no responses are cached if null
+     * @param timeoutPolicy the read timeouts and deadlines per endpoint, {@link TimeoutPolicy#defaults()} if null
+     * @param hedgePolicy the policy for hedged requests, no requests are hedged if null
+     * @param versionCache the cache of {@link #getCurrentVersion(int)}, a {@link VersionCache} with the default time to live if null
+     * @param transport the transport all requests are sent through, the {@code httpClientService} if null
+     * @param baseUrl the URL of the API, {@link Constants#API_URL} if null, e.g. the URL of a {@link de.jonahd345.xenfororesourcemanagerapi.transport.StubServer}
+     * @param requestListener the listener receiving the metrics of every request, {@link RequestListener#NOOP} if null
+     * @param executorService the executor service of the asynchronous methods without an executor parameter, {@link ForkJoinPool#commonPool()} if null
+     * @param virtualThreads whether the asynchronous methods run on a {@link VirtualThreads#newExecutorService() virtual thread per task} if no executor service is given,
+     *                       which falls back to the common pool before Java 21
+     */
+    @Builder
+    private XenforoResourceManagerAPI(HttpClientService httpClientService, ResponseCache responseCache, TimeoutPolicy timeoutPolicy,
+                                      HedgePolicy hedgePolicy, VersionCache versionCache, Transport transport, String baseUrl,
+                                      RequestListener requestListener, ExecutorService executorService, boolean virtualThreads) {
         this.logger = Logger.getLogger(XenforoResourceManagerAPI.class.getName());
-        this.httpClientService = new HttpClientService();
-        this.gson = new Gson();
+        this.httpClientService = httpClientService != null ? httpClientService : new HttpClientService();
+        this.transport = transport != null ? transport : this.httpClientService;
+        this.baseUrl = baseUrl != null ? baseUrl : Constants.API_URL;
+        this.gson = ModelAdapters.gson();
+        this.responseCache = responseCache;
+        this.requestCoalescer = new RequestCoalescer();
+        this.timeoutPolicy = timeoutPolicy != null ? timeoutPolicy : TimeoutPolicy.defaults();
+        this.requestHedger = new RequestHedger(hedgePolicy);
+        this.versionCache = versionCache != null ? versionCache : new VersionCache();
+        this.requestListener = requestListener != null ? requestListener : RequestListener.NOOP;
+        if (executorService != null) {
+            this.executorService = executorService;
+        } else {
+            this.executorService = virtualThreads ? VirtualThreads.newExecutorService() : ForkJoinPool.commonPool();
+        }
+    }
+
+    /**
+     * Returns the HTTP client service used for all requests.
+     *
+     * @return the {@link HttpClientService}
+     */
+    public HttpClientService getHttpClientService() {
+        return httpClientService;
+    }
+
+    /**
+     * Returns the transport all requests are sent through.
+     *
+     * @return the {@link Transport}, the {@link HttpClientService} unless another transport was configured
+     */
+    public Transport getTransport() {
+        return transport;
+    }
+
+    /**
+     * Returns the URL of the API.
+     *
+     * @return the base URL all endpoint URLs are built from
+     */
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * Returns the executor service of the asynchronous methods which are called without an executor service.
+     *
+     * @return the {@link ExecutorService}, which is {@link ForkJoinPool#commonPool()} if none was configured
+     */
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * Returns the listener receiving the metrics of every request.
+     *
+     * @return the {@link RequestListener}, which is {@link RequestListener#NOOP} if none was configured
+     */
+    public RequestListener getRequestListener() {
+        return requestListener;
+    }
+
+    /**
+     * Returns the coalescer which deduplicates identical concurrent requests.
+     * Its counters show how many requests were saved.
+     *
+     * @return the {@link RequestCoalescer}
+     */
+    public RequestCoalescer getRequestCoalescer() {
+        return requestCoalescer;
+    }
+
+    /**
+     * Returns the cache of the current resource versions.
+     *
+     * @return the {@link VersionCache}
+     */
+    public VersionCache getVersionCache() {
+        return versionCache;
+    }
+
+    /**
+     * Returns the hedger which sends hedged requests and tracks the latency of every endpoint.
+     *
+     * @return the {@link RequestHedger}
+     */
+    public RequestHedger getRequestHedger() {
+        return requestHedger;
+    }
+
+    /**
+     * Returns the cache for decoded responses.
+     *
+     * @return the {@link ResponseCache}, which can be null if caching is disabled
+     */
+    public ResponseCache getResponseCache() {
+        return responseCache;
     }
 
     /**
@@ -48,18 +245,19 @@ public class XenforoResourceManagerAPI {
      * @return a {@link List} of {@link Resource}, which can be null if no {@link Resource} is found in this category or page, or if an error occurs
      */
     public List<Resource> listResources(Integer category, Integer page) {
-        Type listType = new TypeToken<List<Resource>>() {}.getType();
-        StringBuilder url = new StringBuilder();
+        return listResources(category, page, Projection.FULL);
+    }
 
-        url.append(Constants.API_URL).append("?action=listResources");
-        if (category != null) {
-            url.append("&category=").append(category);
-        }
-        if (page == null || page == 0) {
-            page = 1;
-        }
-        url.append("&page=").append(page);
-        return fetchData(url.toString(), "listResources", listType);
+    /**
+     * Retrieves a {@link List} of {@link Resource} in a category and on a pagination.
+     *
+     * @param category the category ID (optional)
+     * @param page the page number (optional)
+     * @param projection the fields to decode, e.g. {@link Projection#LIGHT} to skip the heavy text fields
+     * @return a {@link List} of {@link Resource}, which can be null if no {@link Resource} is found in this category or page, or if an error occurs
+     */
+    public List<Resource> listResources(Integer category, Integer page, Projection projection) {
+        return fetchData(listResourcesUrl(category, page), "listResources", ModelAdapters.RESOURCE_LIST, projection);
     }
 
     /**
@@ -89,7 +287,7 @@ public class XenforoResourceManagerAPI {
      * @return a CompletableFuture containing a {@link List} of {@link Resource}, which can be null if no {@link Resource} is found in this category or page, or if an error occurs
      */
     public CompletableFuture<List<Resource>> listResourcesAsync(Integer category, Integer page) {
-        return listResourcesAsync(category, page, ForkJoinPool.commonPool());
+        return listResourcesAsync(category, page, executorService);
     }
 
     /**
@@ -97,11 +295,24 @@ public class XenforoResourceManagerAPI {
      *
      * @param category the category ID (optional)
      * @param page the page number (optional)
-     * @param executorService the executor service to run the operation on
+     * @param executorService the executor service the result is decoded and completed on
      * @return a CompletableFuture containing a {@link List} of {@link Resource}, which can be null if no {@link Resource} is found in this category or page, or if an error occurs
      */
     public CompletableFuture<List<Resource>> listResourcesAsync(Integer category, Integer page, ExecutorService executorService) {
-        return CompletableFuture.supplyAsync(() -> listResources(category, page), executorService);
+        return listResourcesAsync(category, page, Projection.FULL, executorService);
+    }
+
+    /**
+     * Asynchronously retrieves a {@link List} of {@link Resource} with category and pagination.
+     *
+     * @param category the category ID (optional)
+     * @param page the page number (optional)
+     * @param projection the fields to decode, e.g. {@link Projection#LIGHT} to skip the heavy text fields
+     * @param executorService the executor service the result is decoded and completed on
+     * @return a CompletableFuture containing a {@link List} of {@link Resource}, which can be null if no {@link Resource} is found in this category or page, or if an error occurs
+     */
+    public CompletableFuture<List<Resource>> listResourcesAsync(Integer category, Integer page, Projection projection, ExecutorService executorService) {
+        return fetchDataAsync(listResourcesUrl(category, page), "listResources", ModelAdapters.RESOURCE_LIST, projection, executorService);
     }
 
     /**
@@ -110,17 +321,17 @@ public class XenforoResourceManagerAPI {
      * @return a CompletableFuture containing a {@link List} of {@link Resource}, which can be null if an error occurs
      */
     public CompletableFuture<List<Resource>> listResourcesAsync() {
-        return listResourcesAsync(ForkJoinPool.commonPool());
+        return listResourcesAsync(executorService);
     }
 
     /**
      * Asynchronously retrieves a {@link List} of {@link Resource} with default pagination.
      *
-     * @param executorService the executor service to run the operation on
+     * @param executorService the executor service the result is decoded and completed on
      * @return a CompletableFuture containing a {@link List} of {@link Resource}, which can be null if an error occurs
      */
     public CompletableFuture<List<Resource>> listResourcesAsync(ExecutorService executorService) {
-        return CompletableFuture.supplyAsync(() -> listResources(null, 1), executorService);
+        return listResourcesAsync(null, 1, executorService);
     }
 
     /**
@@ -130,18 +341,77 @@ public class XenforoResourceManagerAPI {
      * @return a CompletableFuture containing a {@link List} of {@link Resource}, which can be null if no {@link Resource} is found in this page, or if an error occurs
      */
     public CompletableFuture<List<Resource>> listResourcesAsync(Integer page) {
-        return listResourcesAsync(page, ForkJoinPool.commonPool());
+        return listResourcesAsync(page, executorService);
     }
 
     /**
      * Asynchronously retrieves a {@link List} of {@link Resource} with specified pagination.
      *
      * @param page the page number
-     * @param executorService the executor service to run the operation on
+     * @param executorService the executor service the result is decoded and completed on
      * @return a CompletableFuture containing a {@link List} of {@link Resource}, which can be null if no {@link Resource} is found in this page, or if an error occurs
      */
     public CompletableFuture<List<Resource>> listResourcesAsync(Integer page, ExecutorService executorService) {
-        return CompletableFuture.supplyAsync(() -> listResources(null, page), executorService);
+        return listResourcesAsync(null, page, executorService);
+    }
+
+    /**
+     * Lazily streams all {@link Resource} in a category, page by page.
+     * A page is only requested once the previous page is consumed, so {@code limit()} or an early
+     * {@code findFirst()} never fetch pages which are not read. The stream ends at the first empty page.
+     *
+     * @param category the category ID (optional)
+     * @return a lazy {@link Stream} of {@link Resource}, which should be closed if it is not consumed completely
+     */
+    public Stream<Resource> streamResources(Integer category) {
+        return streamResources(category, 0);
+    }
+
+    /**
+     * Lazily streams all {@link Resource} in a category, page by page, reading ahead a number of pages in the background.
+     *
+     * @param category the category ID (optional)
+     * @param readAhead the number of pages which are requested before they are consumed
+     * @return a lazy {@link Stream} of {@link Resource}, which should be closed if it is not consumed completely
+     */
+    public Stream<Resource> streamResources(Integer category, int readAhead) {
+        return streamResources(category, readAhead, Projection.FULL);
+    }
+
+    /**
+     * Lazily streams all {@link Resource} in a category, page by page, reading ahead a number of pages in the background.
+     *
+     * @param category the category ID (optional)
+     * @param readAhead the number of pages which are requested before they are consumed
+     * @param projection the fields to decode, e.g. {@link Projection#LIGHT} to skip the heavy text fields
+     * @return a lazy {@link Stream} of {@link Resource}, which should be closed if it is not consumed completely
+     */
+    public Stream<Resource> streamResources(Integer category, int readAhead, Projection projection) {
+        return new PageIterator<>(page -> listResourcesAsync(category, page, projection, executorService), readAhead).stream();
+    }
+
+    /**
+     * Publishes all {@link Resource} in a category with backpressure, page by page.
+     * A page is only requested once the subscriber requested more resources than the fetched pages contain.
+     *
+     * @param category the category ID (optional)
+     * @return a cold {@link Flow.Publisher} of {@link Resource}, every subscriber starts at the first page
+     */
+    public Flow.Publisher<Resource> publishResources(Integer category) {
+        return publishResources(category, 0, Projection.FULL);
+    }
+
+    /**
+     * Publishes all {@link Resource} in a category with backpressure, page by page, requesting a number of pages ahead while there is demand.
+     * Cancelling the subscription cancels the pending pages, failed requests are delivered through {@link Flow.Subscriber#onError(Throwable)}.
+     *
+     * @param category the category ID (optional)
+     * @param prefetch the number of pages which are requested ahead while the subscriber has unsatisfied demand
+     * @param projection the fields to decode, e.g. {@link Projection#LIGHT} to skip the heavy text fields
+     * @return a cold {@link Flow.Publisher} of {@link Resource}, every subscriber starts at the first page
+     */
+    public Flow.Publisher<Resource> publishResources(Integer category, int prefetch, Projection projection) {
+        return new PagePublisher<>(page -> listResourcesAsync(category, page, projection, executorService), prefetch);
     }
 
     /**
@@ -151,10 +421,18 @@ public class XenforoResourceManagerAPI {
      * @return the {@link Resource}, which can be null if no {@link Resource} is found or if an error occurs
      */
     public Resource getResource(int id) {
-        StringBuilder url = new StringBuilder();
+        return getResource(id, Projection.FULL);
+    }
 
-        url.append(Constants.API_URL).append("?action=getResource").append("&id=").append(id);
-        return fetchData(url.toString(), "getResource", Resource.class);
+    /**
+     * Retrieves detailed information about a specific {@link Resource}.
+     *
+     * @param id the resource ID
+     * @param projection the fields to decode, e.g. {@link Projection#LIGHT} to skip the heavy text fields
+     * @return the {@link Resource}, which can be null if no {@link Resource} is found or if an error occurs
+     */
+    public Resource getResource(int id, Projection projection) {
+        return fetchData(getResourceUrl(id), "getResource", Resource.class, projection);
     }
 
     /**
@@ -164,18 +442,30 @@ public class XenforoResourceManagerAPI {
      * @return a CompletableFuture containing the {@link Resource}, which can be null if no {@link Resource} is found or if an error occurs
      */
     public CompletableFuture<Resource> getResourceAsync(int id) {
-        return getResourceAsync(id, ForkJoinPool.commonPool());
+        return getResourceAsync(id, executorService);
     }
 
     /**
      * Asynchronously retrieves detailed information about a specific {@link Resource}.
      *
      * @param id the resource ID
-     * @param executorService the executor service to run the operation on
+     * @param executorService the executor service the result is decoded and completed on
      * @return a CompletableFuture containing the {@link Resource}, which can be null if no {@link Resource} is found or if an error occurs
      */
     public CompletableFuture<Resource> getResourceAsync(int id, ExecutorService executorService) {
-        return CompletableFuture.supplyAsync(() -> getResource(id), executorService);
+        return getResourceAsync(id, Projection.FULL, executorService);
+    }
+
+    /**
+     * Asynchronously retrieves detailed information about a specific {@link Resource}.
+     *
+     * @param id the resource ID
+     * @param projection the fields to decode, e.g. {@link Projection#LIGHT} to skip the heavy text fields
+     * @param executorService the executor service the result is decoded and completed on
+     * @return a CompletableFuture containing the {@link Resource}, which can be null if no {@link Resource} is found or if an error occurs
+     */
+    public CompletableFuture<Resource> getResourceAsync(int id, Projection projection, ExecutorService executorService) {
+        return fetchDataAsync(getResourceUrl(id), "getResource", Resource.class, projection, executorService);
     }
 
     /**
@@ -186,15 +476,19 @@ public class XenforoResourceManagerAPI {
      * @return a {@link List} of {@link Resource}, which can be null if the author has no {@link Resource}'s or if an error occurs
      */
     public List<Resource> getResourcesByAuthor(int id, Integer page) {
-        Type listType = new TypeToken<List<Resource>>() {}.getType();
-        StringBuilder url = new StringBuilder();
+        return getResourcesByAuthor(id, page, Projection.FULL);
+    }
 
-        url.append(Constants.API_URL).append("?action=getResourcesByAuthor").append("&id=").append(id);
-        if (page == null || page == 0) {
-            page = 1;
-        }
-        url.append("&page=").append(page);
-        return fetchData(url.toString(), "getResourcesByAuthor", listType);
+    /**
+     * Retrieves a {@link List} of {@link Resource} created by a specific author with pagination.
+     *
+     * @param id the author ID
+     * @param page the page number (optional)
+     * @param projection the fields to decode, e.g. {@link Projection#LIGHT} to skip the heavy text fields
+     * @return a {@link List} of {@link Resource}, which can be null if the author has no {@link Resource}'s or if an error occurs
+     */
+    public List<Resource> getResourcesByAuthor(int id, Integer page, Projection projection) {
+        return fetchData(getResourcesByAuthorUrl(id, page), "getResourcesByAuthor", ModelAdapters.RESOURCE_LIST, projection);
     }
 
     /**
@@ -215,7 +509,7 @@ public class XenforoResourceManagerAPI {
      * @return a CompletableFuture containing a {@link List} of {@link Resource}, which can be null if the author has no {@link Resource}'s or if an error occurs
      */
     public CompletableFuture<List<Resource>> getResourcesByAuthorAsync(int id, Integer page) {
-        return getResourcesByAuthorAsync(id, page, ForkJoinPool.commonPool());
+        return getResourcesByAuthorAsync(id, page, executorService);
     }
 
     /**
@@ -223,263 +517,1102 @@ public class XenforoResourceManagerAPI {
      *
      * @param id the author ID
      * @param page the page number (optional)
-     * @param executorService the executor service to run the operation on
+     * @param executorService the executor service the result is decoded and completed on
      * @return a CompletableFuture containing a {@link List} of {@link Resource}, which can be null if the author has no {@link Resource}'s or if an error occurs
      */
     public CompletableFuture<List<Resource>> getResourcesByAuthorAsync(int id, Integer page, ExecutorService executorService) {
-        return CompletableFuture.supplyAsync(() -> getResourcesByAuthor(id, page), executorService);
+        return getResourcesByAuthorAsync(id, page, Projection.FULL, executorService);
     }
 
     /**
-     * Asynchronously retrieves a {@link List} of {@link Resource} created by a specific author with default pagination.
+     * Asynchronously retrieves a {@link List} of {@link Resource} created by a specific author with pagination.
      *
      * @param id the author ID
+     * @param page the page number (optional)
+     * @param projection the fields to decode, e.g. {@link Projection#LIGHT} to skip the heavy text fields
+     * @param executorService the executor service the result is decoded and completed on
      * @return a CompletableFuture containing a {@link List} of {@link Resource}, which can be null if the author has no {@link Resource}'s or if an error occurs
      */
-    public CompletableFuture<List<Resource>> getResourcesByAuthorAsync(int id) {
-        return getResourcesByAuthorAsync(id, ForkJoinPool.commonPool());
+    public CompletableFuture<List<Resource>> getResourcesByAuthorAsync(int id, Integer page, Projection projection, ExecutorService executorService) {
+        return fetchDataAsync(getResourcesByAuthorUrl(id, page), "getResourcesByAuthor", ModelAdapters.RESOURCE_LIST, projection, executorService);
     }
 
     /**
      * Asynchronously retrieves a {@link List} of {@link Resource} created by a specific author with default pagination.
      *
      * @param id the author ID
-     * @param executorService the executor service to run the operation on
      * @return a CompletableFuture containing a {@link List} of {@link Resource}, which can be null if the author has no {@link Resource}'s or if an error occurs
      */
-    public CompletableFuture<List<Resource>> getResourcesByAuthorAsync(int id, ExecutorService executorService) {
-        return CompletableFuture.supplyAsync(() -> getResourcesByAuthor(id, 1), executorService);
+    public CompletableFuture<List<Resource>> getResourcesByAuthorAsync(int id) {
+        return getResourcesByAuthorAsync(id, executorService);
     }
 
     /**
-     * Retrieves a {@link List} of all available resource {@link Category}.
+     * Asynchronously retrieves a {@link List} of {@link Resource} created by a specific author with default pagination.
      *
-     * @return a {@link List} of {@link Category}, which can be null if an error occurs
+     * @param id the author ID
+     * @param executorService the executor service the result is decoded and completed on
+     * @return a CompletableFuture containing a {@link List} of {@link Resource}, which can be null if the author has no {@link Resource}'s or if an error occurs
      */
-    public List<Category> listResourceCategories() {
-        Type listType = new TypeToken<List<Category>>() {}.getType();
-        StringBuilder url = new StringBuilder();
-
-        url.append(Constants.API_URL).append("?action=listResourceCategories");
-        return fetchData(url.toString(), "listResourceCategories", listType);
+    public CompletableFuture<List<Resource>> getResourcesByAuthorAsync(int id, ExecutorService executorService) {
+        return getResourcesByAuthorAsync(id, 1, executorService);
     }
 
     /**
-     * Asynchronously retrieves a {@link List} of all available resource {@link Category}.
+     * Retrieves multiple {@link Resource} at once.
+     * Duplicate IDs are fetched only once and the requests are sent concurrently, at most {@value #DEFAULT_BULK_CONCURRENCY} at a time.
      *
-     * @return a CompletableFuture containing a {@link List} of {@link Category}, which can be null if an error occurs
+     * @param ids the resource IDs
+     * @return a {@link BulkResult} containing the {@link Resource} by ID and the IDs which were not found or failed
      */
-    public CompletableFuture<List<Category>> listResourceCategoriesAsync() {
-        return listResourceCategoriesAsync(ForkJoinPool.commonPool());
+    public BulkResult<Resource> getResources(Collection<Integer> ids) {
+        return getResources(ids, Projection.FULL);
     }
 
     /**
-     * Asynchronously retrieves a {@link List} of all available resource {@link Category}.
+     * Retrieves multiple {@link Resource} at once.
+     * Duplicate IDs are fetched only once and the requests are sent concurrently, at most {@value #DEFAULT_BULK_CONCURRENCY} at a time.
      *
-     * @param executorService the executor service to run the operation on
-     * @return a CompletableFuture containing a {@link List} of {@link Category}, which can be null if an error occurs
+     * @param ids the resource IDs
+     * @param projection the fields to decode, e.g. {@link Projection#LIGHT} to skip the heavy text fields
+     * @return a {@link BulkResult} containing the {@link Resource} by ID and the IDs which were not found or failed
      */
-    public CompletableFuture<List<Category>> listResourceCategoriesAsync(ExecutorService executorService) {
-        return CompletableFuture.supplyAsync(this::listResourceCategories, executorService);
+    public BulkResult<Resource> getResources(Collection<Integer> ids, Projection projection) {
+        return getResourcesAsync(ids, DEFAULT_BULK_CONCURRENCY, projection, executorService).join();
     }
 
     /**
-     * Retrieves details of a specific resource {@link Update}.
+     * Asynchronously retrieves multiple {@link Resource} at once.
+     * Duplicate IDs are fetched only once and the requests are sent concurrently, at most {@value #DEFAULT_BULK_CONCURRENCY} at a time.
      *
-     * @param id the update ID
-     * @return the {@link Update}, which can be null if no {@link Update} with the {@code id} is found or if an error occurs
+     * @param ids the resource IDs
+     * @return a CompletableFuture containing a {@link BulkResult}, which is completed once every request finished
      */
-    public Update getResourceUpdate(int id) {
-        StringBuilder url = new StringBuilder();
-
-        url.append(Constants.API_URL).append("?action=getResourceUpdate").append("&id=").append(id);
-        return fetchData(url.toString(), "getResourceUpdate", Update.class);
+    public CompletableFuture<BulkResult<Resource>> getResourcesAsync(Collection<Integer> ids) {
+        return getResourcesAsync(ids, DEFAULT_BULK_CONCURRENCY, executorService);
     }
 
     /**
-     * Asynchronously retrieves details of a specific resource {@link Update}.
+     * Asynchronously retrieves multiple {@link Resource} at once.
+     * Duplicate IDs are fetched only once and the requests are sent concurrently under the given limit.
+     * A failed request does not fail the whole batch, it is reported per ID in the {@link BulkResult}.
      *
-     * @param id the update ID
-     * @return a CompletableFuture containing the {@link Update}, which can be null if no {@link Update} with the {@code id} is found or if an error occurs
+     * @param ids the resource IDs
+     * @param maxConcurrency the maximum number of requests in flight at the same time
+     * @param executorService the executor service the results are decoded and completed on
+     * @return a CompletableFuture containing a {@link BulkResult}, which is completed once every request finished
      */
-    public CompletableFuture<Update> getResourceUpdateAsync(int id) {
-        return getResourceUpdateAsync(id, ForkJoinPool.commonPool());
+    public CompletableFuture<BulkResult<Resource>> getResourcesAsync(Collection<Integer> ids, int maxConcurrency, ExecutorService executorService) {
+        return getResourcesAsync(ids, maxConcurrency, Projection.FULL, executorService);
     }
 
     /**
-     * Asynchronously retrieves details of a specific resource {@link Update}.
+     * Asynchronously retrieves multiple {@link Resource} at once.
+     * Duplicate IDs are fetched only once and the requests are sent concurrently under the given limit.
+     * A failed request does not fail the whole batch, it is reported per ID in the {@link BulkResult}.
      *
-     * @param id the update ID
-     * @param executorService the executor service to run the operation on
-     * @return a CompletableFuture containing the {@link Update}, which can be null if no {@link Update} with the {@code id} is found or if an error occurs
+     * @param ids the resource IDs
+     * @param maxConcurrency the maximum number of requests in flight at the same time
+     * @param projection the fields to decode, e.g. {@link Projection#LIGHT} to skip the heavy text fields
+     * @param executorService the executor service the results are decoded and completed on
+     * @return a CompletableFuture containing a {@link BulkResult}, which is completed once every request finished
      */
-    public CompletableFuture<Update> getResourceUpdateAsync(int id, ExecutorService executorService) {
-        return CompletableFuture.supplyAsync(() -> getResourceUpdate(id), executorService);
+    public CompletableFuture<BulkResult<Resource>> getResourcesAsync(Collection<Integer> ids, int maxConcurrency, Projection projection, ExecutorService executorService) {
+        return fetchBulk(ids, maxConcurrency, id -> getResourceAsync(id, projection, executorService));
     }
 
     /**
-     * Retrieves a {@link List} of {@link Update} for a specific resource with pagination.
+     * Retrieves the current version of a specific resource.
+     * Only the ID and the version are decoded from the response, and the version is kept in the {@link VersionCache}.
      *
      * @param id the resource ID
-     * @param page the page number (optional)
-     * @return a {@link List} of {@link Update}, which can be null if no resource with the {@code id} is found or on the page, or if an error occurs
+     * @return the current version, which can be null if no resource is found or if an error occurs
      */
-    public List<Update> getResourceUpdates(int id, Integer page) {
-        Type listType = new TypeToken<List<Update>>() {}.getType();
-        StringBuilder url = new StringBuilder();
+    public String getCurrentVersion(int id) {
+        String cached = versionCache.get(id);
 
-        url.append(Constants.API_URL).append("?action=getResourceUpdates").append("&id=").append(id);
-        if (page == null || page == 0) {
-            page = 1;
+        if (cached != null) {
+            cacheHit("getCurrentVersion");
+            return cached;
         }
-        url.append("&page=").append(page);
-        return fetchData(url.toString(), "getResourceUpdates", listType);
+        String url = getResourceUrl(id);
+        ResourceVersion version = fetchData(url, url + "#version", "getCurrentVersion", ResourceVersion.class, Projection.FULL);
+
+        return cacheVersion(id, version);
     }
 
     /**
-     * Retrieves a {@link List} of {@link Update} for a specific resource with default pagination.
+     * Asynchronously retrieves the current version of a specific resource.
      *
      * @param id the resource ID
-     * @return a {@link List} of {@link Update}, which can be null if no resource with the {@code id} is found or if an error occurs
+     * @return a CompletableFuture containing the current version, which can be null if no resource is found or if an error occurs
      */
-    public List<Update> getResourceUpdates(int id) {
-        return getResourceUpdates(id, 1);
+    public CompletableFuture<String> getCurrentVersionAsync(int id) {
+        return getCurrentVersionAsync(id, executorService);
     }
 
     /**
-     * Asynchronously retrieves a {@link List} of {@link Update} for a specific resource with pagination.
+     * Asynchronously retrieves the current version of a specific resource.
+     * Only the ID and the version are decoded from the response, and the version is kept in the {@link VersionCache}.
      *
      * @param id the resource ID
-     * @param page the page number (optional)
-     * @return a CompletableFuture containing a {@link List} of {@link Update}, which can be null if no resource with the {@code id} is found or on the page, or if an error occurs
+     * @param executorService the executor service the result is decoded and completed on
+     * @return a CompletableFuture containing the current version, which can be null if no resource is found or if an error occurs
      */
-    public CompletableFuture<List<Update>> getResourceUpdatesAsync(int id, Integer page) {
-        return getResourceUpdatesAsync(id, page, ForkJoinPool.commonPool());
+    public CompletableFuture<String> getCurrentVersionAsync(int id, ExecutorService executorService) {
+        String cached = versionCache.get(id);
+
+        if (cached != null) {
+            cacheHit("getCurrentVersion");
+            return CompletableFuture.completedFuture(cached);
+        }
+        String url = getResourceUrl(id);
+        CompletableFuture<ResourceVersion> version = fetchDataAsync(url, url + "#version", "getCurrentVersion", ResourceVersion.class, Projection.FULL, executorService);
+
+        return Futures.propagateCancellation(version.thenApply(result -> cacheVersion(id, result)), version);
     }
 
     /**
-     * Asynchronously retrieves a {@link List} of {@link Update} for a specific resource with pagination.
+     * Retrieves the current versions of multiple resources at once, e.g. to check installed plugins for updates.
+     * Cached versions are returned without a request, the others are fetched concurrently, at most {@value #DEFAULT_BULK_CONCURRENCY} at a time.
      *
-     * @param id the resource ID
-     * @param page the page number (optional)
-     * @param executorService the executor service to run the operation on
-     * @return a CompletableFuture containing a {@link List} of {@link Update}, which can be null if no resource with the {@code id} is found or on the page, or if an error occurs
+     * @param ids the resource IDs
+     * @return a {@link BulkResult} containing the current version by resource ID and the IDs which were not found or failed
      */
-    public CompletableFuture<List<Update>> getResourceUpdatesAsync(int id, Integer page, ExecutorService executorService) {
-        return CompletableFuture.supplyAsync(() -> getResourceUpdates(id, page), executorService);
+    public BulkResult<String> getCurrentVersions(Collection<Integer> ids) {
+        return getCurrentVersionsAsync(ids).join();
     }
 
     /**
-     * Asynchronously retrieves a {@link List} of {@link Update} for a specific resource with default pagination.
+     * Asynchronously retrieves the current versions of multiple resources at once.
      *
-     * @param id the resource ID
-     * @return a CompletableFuture containing a {@link List} of {@link Update}, which can be null if no resource with the {@code id} is found or if an error occurs
+     * @param ids the resource IDs
+     * @return a CompletableFuture containing a {@link BulkResult}, which is completed once every request finished
      */
-    public CompletableFuture<List<Update>> getResourceUpdatesAsync(int id) {
-        return getResourceUpdatesAsync(id, ForkJoinPool.commonPool());
+    public CompletableFuture<BulkResult<String>> getCurrentVersionsAsync(Collection<Integer> ids) {
+        return getCurrentVersionsAsync(ids, DEFAULT_BULK_CONCURRENCY, executorService);
     }
 
     /**
-     * Asynchronously retrieves a {@link List} of {@link Update} for a specific resource with default pagination.
+     * Asynchronously retrieves the current versions of multiple resources at once.
+     * Duplicate IDs are fetched only once and the requests are sent concurrently under the given limit.
      *
-     * @param id the resource ID
-     * @param executorService the executor service to run the operation on
-     * @return a CompletableFuture containing a {@link List} of {@link Update}, which can be null if no resource with the {@code id} is found or if an error occurs
+     * @param ids the resource IDs
+     * @param maxConcurrency the maximum number of requests in flight at the same time
+     * @param executorService the executor service the results are decoded and completed on
+     * @return a CompletableFuture containing a {@link BulkResult}, which is completed once every request finished
      */
-    public CompletableFuture<List<Update>> getResourceUpdatesAsync(int id, ExecutorService executorService) {
-        return CompletableFuture.supplyAsync(() -> getResourceUpdates(id, 1), executorService);
+    public CompletableFuture<BulkResult<String>> getCurrentVersionsAsync(Collection<Integer> ids, int maxConcurrency, ExecutorService executorService) {
+        return fetchBulk(ids, maxConcurrency, id -> getCurrentVersionAsync(id, executorService));
     }
 
     /**
-     * Retrieves detailed information about a specific {@link Author}.
+     * Lazily streams all {@link Resource} created by a specific author, page by page.
      *
      * @param id the author ID
-     * @return the the {@link Author}, which can be null if no {@link Author} with the {@code id} is found or if an error occurs
+     * @return a lazy {@link Stream} of {@link Resource}, which should be closed if it is not consumed completely
      */
-    public Author getAuthor(int id) {
-        StringBuilder url = new StringBuilder();
-
-        url.append(Constants.API_URL).append("?action=getAuthor").append("&id=").append(id);
-        return fetchData(url.toString(), "getAuthor", Author.class);
+    public Stream<Resource> streamResourcesByAuthor(int id) {
+        return streamResourcesByAuthor(id, 0);
     }
 
     /**
-     * Asynchronously retrieves detailed information about a specific {@link Author}.
+     * Lazily streams all {@link Resource} created by a specific author, page by page, reading ahead a number of pages in the background.
      *
      * @param id the author ID
-     * @return a CompletableFuture containing the {@link Author}, which can be null if no {@link Author} with the {@code id} is found or if an error occurs
+     * @param readAhead the number of pages which are requested before they are consumed
+     * @return a lazy {@link Stream} of {@link Resource}, which should be closed if it is not consumed completely
      */
-    public CompletableFuture<Author> getAuthorAsync(int id) {
-        return getAuthorAsync(id, ForkJoinPool.commonPool());
+    public Stream<Resource> streamResourcesByAuthor(int id, int readAhead) {
+        return streamResourcesByAuthor(id, readAhead, Projection.FULL);
     }
 
     /**
-     * Asynchronously retrieves detailed information about a specific {@link Author}.
+     * Lazily streams all {@link Resource} created by a specific author, page by page, reading ahead a number of pages in the background.
      *
      * @param id the author ID
-     * @param executorService the executor service to run the operation on
-     * @return a CompletableFuture containing the {@link Author}, which can be null if no {@link Author} with the {@code id} is found or if an error occurs
+     * @param readAhead the number of pages which are requested before they are consumed
+     * @param projection the fields to decode, e.g. {@link Projection#LIGHT} to skip the heavy text fields
+     * @return a lazy {@link Stream} of {@link Resource}, which should be closed if it is not consumed completely
      */
-    public CompletableFuture<Author> getAuthorAsync(int id, ExecutorService executorService) {
-        return CompletableFuture.supplyAsync(() -> getAuthor(id), executorService);
+    public Stream<Resource> streamResourcesByAuthor(int id, int readAhead, Projection projection) {
+        return new PageIterator<>(page -> getResourcesByAuthorAsync(id, page, projection, executorService), readAhead).stream();
     }
 
     /**
-     * Searches for an {@link Author} by name.
+     * Publishes all {@link Resource} created by a specific author with backpressure, page by page.
      *
-     * @param name the author's name
-     * @return the {@link Author}, which can be null if no {@link Author} with the {@code name} is found or if an error occurs
+     * @param id the author ID
+     * @return a cold {@link Flow.Publisher} of {@link Resource}, every subscriber starts at the first page
      */
-    public Author findAuthor(String name) {
-        StringBuilder url = new StringBuilder();
-
-        url.append(Constants.API_URL).append("?action=findAuthor").append("&name=").append(name);
-        return fetchData(url.toString(), "findAuthor", Author.class);
+    public Flow.Publisher<Resource> publishResourcesByAuthor(int id) {
+        return publishResourcesByAuthor(id, 0, Projection.FULL);
     }
 
     /**
-     * Asynchronously searches for an {@link Author} by name.
+     * Publishes all {@link Resource} created by a specific author with backpressure, page by page, requesting a number of pages ahead while there is demand.
      *
-     * @param name the author's name
-     * @return a CompletableFuture containing the {@link Author}, which can be null if no {@link Author} with the {@code name} is found or if an error occurs
+     * @param id the author ID
+     * @param prefetch the number of pages which are requested ahead while the subscriber has unsatisfied demand
+     * @param projection the fields to decode, e.g. {@link Projection#LIGHT} to skip the heavy text fields
+     * @return a cold {@link Flow.Publisher} of {@link Resource}, every subscriber starts at the first page
      */
-    public CompletableFuture<Author> findAuthorAsync(String name) {
-        return CompletableFuture.supplyAsync(() -> findAuthor(name));
+    public Flow.Publisher<Resource> publishResourcesByAuthor(int id, int prefetch, Projection projection) {
+        return new PagePublisher<>(page -> getResourcesByAuthorAsync(id, page, projection, executorService), prefetch);
     }
 
     /**
-     * Asynchronously searches for an {@link Author} by name.
+     * Retrieves a {@link List} of all available resource {@link Category}.
      *
-     * @param name the author's name
-     * @param executorService the executor service to run the operation on
-     * @return a CompletableFuture containing the {@link Author}, which can be null if no {@link Author} with the {@code name} is found or if an error occurs
+     * @return a {@link List} of {@link Category}, which can be null if an error occurs
      */
-    public CompletableFuture<Author> findAuthorAsync(String name, ExecutorService executorService) {
-        return CompletableFuture.supplyAsync(() -> findAuthor(name), executorService);
+    public List<Category> listResourceCategories() {
+        return fetchData(listResourceCategoriesUrl(), "listResourceCategories", ModelAdapters.CATEGORY_LIST, Projection.FULL);
     }
 
     /**
-     * Fetches data from the specified URL and parses it into the specified type.
+     * Asynchronously retrieves a {@link List} of all available resource {@link Category}.
      *
-     * @param url the URL to fetch data from
-     * @param endpointName the name of the endpoint
-     * @param type the type to parse the data into
-     * @param <T> the type of the data
+     * @return a CompletableFuture containing a {@link List} of {@link Category}, which can be null if an error occurs
+     */
+    public CompletableFuture<List<Category>> listResourceCategoriesAsync() {
+        return listResourceCategoriesAsync(executorService);
+    }
+
+    /**
+     * Asynchronously retrieves a {@link List} of all available resource {@link Category}.
+     *
+     * @param executorService the executor service the result is decoded and completed on
+     * @return a CompletableFuture containing a {@link List} of {@link Category}, which can be null if an error occurs
+     */
+    public CompletableFuture<List<Category>> listResourceCategoriesAsync(ExecutorService executorService) {
+        return fetchDataAsync(listResourceCategoriesUrl(), "listResourceCategories", ModelAdapters.CATEGORY_LIST, Projection.FULL, executorService);
+    }
+
+    /**
+     * Retrieves details of a specific resource {@link Update}.
+     *
+     * @param id the update ID
+     * @return the {@link Update}, which can be null if no {@link Update} with the {@code id} is found or if an error occurs
+     */
+    public Update getResourceUpdate(int id) {
+        return getResourceUpdate(id, Projection.FULL);
+    }
+
+    /**
+     * Retrieves details of a specific resource {@link Update}.
+     *
+     * @param id the update ID
+     * @param projection the fields to decode, e.g. {@link Projection#LIGHT} to skip the heavy text fields
+     * @return the {@link Update}, which can be null if no {@link Update} with the {@code id} is found or if an error occurs
+     */
+    public Update getResourceUpdate(int id, Projection projection) {
+        return fetchData(getResourceUpdateUrl(id), "getResourceUpdate", Update.class, projection);
+    }
+
+    /**
+     * Asynchronously retrieves details of a specific resource {@link Update}.
+     *
+     * @param id the update ID
+     * @return a CompletableFuture containing the {@link Update}, which can be null if no {@link Update} with the {@code id} is found or if an error occurs
+     */
+    public CompletableFuture<Update> getResourceUpdateAsync(int id) {
+        return getResourceUpdateAsync(id, executorService);
+    }
+
+    /**
+     * Asynchronously retrieves details of a specific resource {@link Update}.
+     *
+     * @param id the update ID
+     * @param executorService the executor service the result is decoded and completed on
+     * @return a CompletableFuture containing the {@link Update}, which can be null if no {@link Update} with the {@code id} is found or if an error occurs
+     */
+    public CompletableFuture<Update> getResourceUpdateAsync(int id, ExecutorService executorService) {
+        return getResourceUpdateAsync(id, Projection.FULL, executorService);
+    }
+
+    /**
+     * Asynchronously retrieves details of a specific resource {@link Update}.
+     *
+     * @param id the update ID
+     * @param projection the fields to decode, e.g. {@link Projection#LIGHT} to skip the heavy text fields
+     * @param executorService the executor service the result is decoded and completed on
+     * @return a CompletableFuture containing the {@link Update}, which can be null if no {@link Update} with the {@code id} is found or if an error occurs
+     */
+    public CompletableFuture<Update> getResourceUpdateAsync(int id, Projection projection, ExecutorService executorService) {
+        return fetchDataAsync(getResourceUpdateUrl(id), "getResourceUpdate", Update.class, projection, executorService);
+    }
+
+    /**
+     * Retrieves a {@link List} of {@link Update} for a specific resource with pagination.
+     *
+     * @param id the resource ID
+     * @param page the page number (optional)
+     * @return a {@link List} of {@link Update}, which can be null if no resource with the {@code id} is found or on the page, or if an error occurs
+     */
+    public List<Update> getResourceUpdates(int id, Integer page) {
+        return getResourceUpdates(id, page, Projection.FULL);
+    }
+
+    /**
+     * Retrieves a {@link List} of {@link Update} for a specific resource with pagination.
+     *
+     * @param id the resource ID
+     * @param page the page number (optional)
+     * @param projection the fields to decode, e.g. {@link Projection#LIGHT} to skip the heavy text fields
+     * @return a {@link List} of {@link Update}, which can be null if no resource with the {@code id} is found or on the page, or if an error occurs
+     */
+    public List<Update> getResourceUpdates(int id, Integer page, Projection projection) {
+        return fetchData(getResourceUpdatesUrl(id, page), "getResourceUpdates", ModelAdapters.UPDATE_LIST, projection);
+    }
+
+    /**
+     * Retrieves a {@link List} of {@link Update} for a specific resource with default pagination.
+     *
+     * @param id the resource ID
+     * @return a {@link List} of {@link Update}, which can be null if no resource with the {@code id} is found or if an error occurs
+     */
+    public List<Update> getResourceUpdates(int id) {
+        return getResourceUpdates(id, 1);
+    }
+
+    /**
+     * Asynchronously retrieves a {@link List} of {@link Update} for a specific resource with pagination.
+     *
+     * @param id the resource ID
+     * @param page the page number (optional)
+     * @return a CompletableFuture containing a {@link List} of {@link Update}, which can be null if no resource with the {@code id} is found or on the page, or if an error occurs
+     */
+    public CompletableFuture<List<Update>> getResourceUpdatesAsync(int id, Integer page) {
+        return getResourceUpdatesAsync(id, page, executorService);
+    }
+
+    /**
+     * Asynchronously retrieves a {@link List} of {@link Update} for a specific resource with pagination.
+     *
+     * @param id the resource ID
+     * @param page the page number (optional)
+     * @param executorService the executor service the result is decoded and completed on
+     * @return a CompletableFuture containing a {@link List} of {@link Update}, which can be null if no resource with the {@code id} is found or on the page, or if an error occurs
+     */
+    public CompletableFuture<List<Update>> getResourceUpdatesAsync(int id, Integer page, ExecutorService executorService) {
+        return getResourceUpdatesAsync(id, page, Projection.FULL, executorService);
+    }
+
+    /**
+     * Asynchronously retrieves a {@link List} of {@link Update} for a specific resource with pagination.
+     *
+     * @param id the resource ID
+     * @param page the page number (optional)
+     * @param projection the fields to decode, e.g. {@link Projection#LIGHT} to skip the heavy text fields
+     * @param executorService the executor service the result is decoded and completed on
+     * @return a CompletableFuture containing a {@link List} of {@link Update}, which can be null if no resource with the {@code id} is found or on the page, or if an error occurs
+     */
+    public CompletableFuture<List<Update>> getResourceUpdatesAsync(int id, Integer page, Projection projection, ExecutorService executorService) {
+        return fetchDataAsync(getResourceUpdatesUrl(id, page), "getResourceUpdates", ModelAdapters.UPDATE_LIST, projection, executorService);
+    }
+
+    /**
+     * Asynchronously retrieves a {@link List} of {@link Update} for a specific resource with default pagination.
+     *
+     * @param id the resource ID
+     * @return a CompletableFuture containing a {@link List} of {@link Update}, which can be null if no resource with the {@code id} is found or if an error occurs
+     */
+    public CompletableFuture<List<Update>> getResourceUpdatesAsync(int id) {
+        return getResourceUpdatesAsync(id, executorService);
+    }
+
+    /**
+     * Asynchronously retrieves a {@link List} of {@link Update} for a specific resource with default pagination.
+     *
+     * @param id the resource ID
+     * @param executorService the executor service the result is decoded and completed on
+     * @return a CompletableFuture containing a {@link List} of {@link Update}, which can be null if no resource with the {@code id} is found or if an error occurs
+     */
+    public CompletableFuture<List<Update>> getResourceUpdatesAsync(int id, ExecutorService executorService) {
+        return getResourceUpdatesAsync(id, 1, executorService);
+    }
+
+    /**
+     * Lazily streams all {@link Update} of a specific resource, page by page.
+     *
+     * @param id the resource ID
+     * @return a lazy {@link Stream} of {@link Update}, which should be closed if it is not consumed completely
+     */
+    public Stream<Update> streamResourceUpdates(int id) {
+        return streamResourceUpdates(id, 0);
+    }
+
+    /**
+     * Lazily streams all {@link Update} of a specific resource, page by page, reading ahead a number of pages in the background.
+     *
+     * @param id the resource ID
+     * @param readAhead the number of pages which are requested before they are consumed
+     * @return a lazy {@link Stream} of {@link Update}, which should be closed if it is not consumed completely
+     */
+    public Stream<Update> streamResourceUpdates(int id, int readAhead) {
+        return streamResourceUpdates(id, readAhead, Projection.FULL);
+    }
+
+    /**
+     * Lazily streams all {@link Update} of a specific resource, page by page, reading ahead a number of pages in the background.
+     *
+     * @param id the resource ID
+     * @param readAhead the number of pages which are requested before they are consumed
+     * @param projection the fields to decode, e.g. {@link Projection#LIGHT} to skip the heavy text fields
+     * @return a lazy {@link Stream} of {@link Update}, which should be closed if it is not consumed completely
+     */
+    public Stream<Update> streamResourceUpdates(int id, int readAhead, Projection projection) {
+        return new PageIterator<>(page -> getResourceUpdatesAsync(id, page, projection, executorService), readAhead).stream();
+    }
+
+    /**
+     * Publishes all {@link Update} of a specific resource with backpressure, page by page.
+     *
+     * @param id the resource ID
+     * @return a cold {@link Flow.Publisher} of {@link Update}, every subscriber starts at the first page
+     */
+    public Flow.Publisher<Update> publishResourceUpdates(int id) {
+        return publishResourceUpdates(id, 0, Projection.FULL);
+    }
+
+    /**
+     * Publishes all {@link Update} of a specific resource with backpressure, page by page, requesting a number of pages ahead while there is demand.
+     *
+     * @param id the resource ID
+     * @param prefetch the number of pages which are requested ahead while the subscriber has unsatisfied demand
+     * @param projection the fields to decode, e.g. {@link Projection#LIGHT} to skip the heavy text fields
+     * @return a cold {@link Flow.Publisher} of {@link Update}, every subscriber starts at the first page
+     */
+    public Flow.Publisher<Update> publishResourceUpdates(int id, int prefetch, Projection projection) {
+        return new PagePublisher<>(page -> getResourceUpdatesAsync(id, page, projection, executorService), prefetch);
+    }
+
+    /**
+     * Retrieves detailed information about a specific {@link Author}.
+     *
+     * @param id the author ID
+     * @return the the {@link Author}, which can be null if no {@link Author} with the {@code id} is found or if an error occurs
+     */
+    public Author getAuthor(int id) {
+        return fetchData(getAuthorUrl(id), "getAuthor", Author.class, Projection.FULL);
+    }
+
+    /**
+     * Asynchronously retrieves detailed information about a specific {@link Author}.
+     *
+     * @param id the author ID
+     * @return a CompletableFuture containing the {@link Author}, which can be null if no {@link Author} with the {@code id} is found or if an error occurs
+     */
+    public CompletableFuture<Author> getAuthorAsync(int id) {
+        return getAuthorAsync(id, executorService);
+    }
+
+    /**
+     * Asynchronously retrieves detailed information about a specific {@link Author}.
+     *
+     * @param id the author ID
+     * @param executorService the executor service the result is decoded and completed on
+     * @return a CompletableFuture containing the {@link Author}, which can be null if no {@link Author} with the {@code id} is found or if an error occurs
+     */
+    public CompletableFuture<Author> getAuthorAsync(int id, ExecutorService executorService) {
+        return fetchDataAsync(getAuthorUrl(id), "getAuthor", Author.class, Projection.FULL, executorService);
+    }
+
+    /**
+     * Retrieves multiple {@link Author} at once.
+     * Duplicate IDs are fetched only once and the requests are sent concurrently, at most {@value #DEFAULT_BULK_CONCURRENCY} at a time.
+     *
+     * @param ids the author IDs
+     * @return a {@link BulkResult} containing the {@link Author} by ID and the IDs which were not found or failed
+     */
+    public BulkResult<Author> getAuthors(Collection<Integer> ids) {
+        return getAuthorsAsync(ids).join();
+    }
+
+    /**
+     * Asynchronously retrieves multiple {@link Author} at once.
+     * Duplicate IDs are fetched only once and the requests are sent concurrently, at most {@value #DEFAULT_BULK_CONCURRENCY} at a time.
+     *
+     * @param ids the author IDs
+     * @return a CompletableFuture containing a {@link BulkResult}, which is completed once every request finished
+     */
+    public CompletableFuture<BulkResult<Author>> getAuthorsAsync(Collection<Integer> ids) {
+        return getAuthorsAsync(ids, DEFAULT_BULK_CONCURRENCY, executorService);
+    }
+
+    /**
+     * Asynchronously retrieves multiple {@link Author} at once.
+     * Duplicate IDs are fetched only once and the requests are sent concurrently under the given limit.
+     * A failed request does not fail the whole batch, it is reported per ID in the {@link BulkResult}.
+     *
+     * @param ids the author IDs
+     * @param maxConcurrency the maximum number of requests in flight at the same time
+     * @param executorService the executor service the results are decoded and completed on
+     * @return a CompletableFuture containing a {@link BulkResult}, which is completed once every request finished
+     */
+    public CompletableFuture<BulkResult<Author>> getAuthorsAsync(Collection<Integer> ids, int maxConcurrency, ExecutorService executorService) {
+        return fetchBulk(ids, maxConcurrency, id -> getAuthorAsync(id, executorService));
+    }
+
+    /**
+     * Searches for an {@link Author} by name.
+     *
+     * @param name the author's name
+     * @return the {@link Author}, which can be null if no {@link Author} with the {@code name} is found or if an error occurs
+     */
+    public Author findAuthor(String name) {
+        return fetchData(findAuthorUrl(name), "findAuthor", Author.class, Projection.FULL);
+    }
+
+    /**
+     * Asynchronously searches for an {@link Author} by name.
+     *
+     * @param name the author's name
+     * @return a CompletableFuture containing the {@link Author}, which can be null if no {@link Author} with the {@code name} is found or if an error occurs
+     */
+    public CompletableFuture<Author> findAuthorAsync(String name) {
+        return findAuthorAsync(name, executorService);
+    }
+
+    /**
+     * Asynchronously searches for an {@link Author} by name.
+     *
+     * @param name the author's name
+     * @param executorService the executor service the result is decoded and completed on
+     * @return a CompletableFuture containing the {@link Author}, which can be null if no {@link Author} with the {@code name} is found or if an error occurs
+     */
+    public CompletableFuture<Author> findAuthorAsync(String name, ExecutorService executorService) {
+        return fetchDataAsync(findAuthorUrl(name), "findAuthor", Author.class, Projection.FULL, executorService);
+    }
+
+    /**
+     * Builds the URL of the {@code listResources} endpoint.
+     */
+    private String listResourcesUrl(Integer category, Integer page) {
+        StringBuilder url = new StringBuilder();
+
+        url.append(baseUrl).append("?action=listResources");
+        if (category != null) {
+            url.append("&category=").append(category);
+        }
+        if (page == null || page == 0) {
+            page = 1;
+        }
+        url.append("&page=").append(page);
+        return url.toString();
+    }
+
+    /**
+     * Builds the URL of the {@code getResource} endpoint.
+     */
+    private String getResourceUrl(int id) {
+        StringBuilder url = new StringBuilder();
+
+        url.append(baseUrl).append("?action=getResource").append("&id=").append(id);
+        return url.toString();
+    }
+
+    /**
+     * Builds the URL of the {@code getResourcesByAuthor} endpoint.
+     */
+    private String getResourcesByAuthorUrl(int id, Integer page) {
+        StringBuilder url = new StringBuilder();
+
+        url.append(baseUrl).append("?action=getResourcesByAuthor").append("&id=").append(id);
+        if (page == null || page == 0) {
+            page = 1;
+        }
+        url.append("&page=").append(page);
+        return url.toString();
+    }
+
+    /**
+     * Builds the URL of the {@code listResourceCategories} endpoint.
+     */
+    private String listResourceCategoriesUrl() {
+        StringBuilder url = new StringBuilder();
+
+        url.append(baseUrl).append("?action=listResourceCategories");
+        return url.toString();
+    }
+
+    /**
+     * Builds the URL of the {@code getResourceUpdate} endpoint.
+     */
+    private String getResourceUpdateUrl(int id) {
+        StringBuilder url = new StringBuilder();
+
+        url.append(baseUrl).append("?action=getResourceUpdate").append("&id=").append(id);
+        return url.toString();
+    }
+
+    /**
+     * Builds the URL of the {@code getResourceUpdates} endpoint.
+     */
+    private String getResourceUpdatesUrl(int id, Integer page) {
+        StringBuilder url = new StringBuilder();
+
+        url.append(baseUrl).append("?action=getResourceUpdates").append("&id=").append(id);
+        if (page == null || page == 0) {
+            page = 1;
+        }
+        url.append("&page=").append(page);
+        return url.toString();
+    }
+
+    /**
+     * Builds the URL of the {@code getAuthor} endpoint.
+     */
+    private String getAuthorUrl(int id) {
+        StringBuilder url = new StringBuilder();
+
+        url.append(baseUrl).append("?action=getAuthor").append("&id=").append(id);
+        return url.toString();
+    }
+
+    /**
+     * Builds the URL of the {@code findAuthor} endpoint.
+     */
+    private String findAuthorUrl(String name) {
+        StringBuilder url = new StringBuilder();
+
+        url.append(baseUrl).append("?action=findAuthor").append("&name=").append(URLEncoder.encode(name, StandardCharsets.UTF_8));
+        return url.toString();
+    }
+
+    /**
+     * Fetches data from the specified URL and parses it into the specified type.
+     * Identical concurrent requests, sync or async, share one request and one decoded result.
+     * An expired cache entry is revalidated with a conditional request.
+     *
+     * @param url the URL to fetch data from
+     * @param endpointName the name of the endpoint
+     * @param type the type to parse the data into
+     * @param projection the fields to decode
+     * @param <T> the type of the data
+     * @return the parsed data, which can be {@code null} if no data is found or if an error occurs
+     */
+    private <T> T fetchData(String url, String endpointName, Type type, Projection projection) {
+        return fetchData(url, projection.key(url), endpointName, type, projection);
+    }
+
+    /**
+     * Fetches data from the specified URL and parses it into the specified type, cached and coalesced under the given key.
+     *
+     * @param url the URL to fetch data from
+     * @param key the key of the cache and the coalescer, which identifies the URL and how its response is decoded
+     * @param endpointName the name of the endpoint
+     * @param type the type to parse the data into
+     * @param projection the fields to decode
+     * @param <T> the type of the data
+     * @return the parsed data, which can be {@code null} if no data is found or if an error occurs
+     */
+    private <T> T fetchData(String url, String key, String endpointName, Type type, Projection projection) {
+        T cached = getCached(key, endpointName);
+
+        if (cached != null) {
+            return cached;
+        }
+        if (timeoutPolicy.getDeadline(endpointName) != null || requestHedger.getPolicy() != null && requestHedger.getPolicy().isHedged(endpointName)) {
+            return await(fetchDataAsync(url, key, endpointName, type, projection, Runnable::run), url, endpointName);
+        }
+        return requestCoalescer.execute(key, () -> {
+            CacheEntry stale = getStale(key, endpointName);
+            long start = requestStarted(endpointName);
+            StreamResponse response;
+            try {
+                response = transport.makeStreamingGetRequest(url, timeoutPolicy.getReadTimeout(endpointName), conditionalHeaders(stale));
+            } catch (Exception e) {
+                RuntimeException failure = new RuntimeException("Failed by " + endpointName + " at endpoint: " + url + "\nException: " + e, e);
+
+                requestFailed(endpointName, url, false, start, failure);
+                throw failure;
+            }
+            return parseTraced(response, url, key, endpointName, type, projection, stale, false, start);
+        });
+    }
+
+    /**
+     * Asynchronously fetches data from the specified URL and parses it into the specified type.
+     * No thread is blocked while the request is in flight, the transport completes the returned future itself.
+     * Identical concurrent requests, sync or async, share one request and one decoded result.
+     * An expired cache entry is revalidated with a conditional request.
+     *
+     * @param url the URL to fetch data from
+     * @param endpointName the name of the endpoint
+     * @param type the type to parse the data into
+     * @param projection the fields to decode
+     * @param executor the executor the response is parsed and the returned future is completed on
+     * @param <T> the type of the data
+     * @return a CompletableFuture containing the parsed data, which can be {@code null} if no data is found or if an error occurs
+     */
+    private <T> CompletableFuture<T> fetchDataAsync(String url, String endpointName, Type type, Projection projection, Executor executor) {
+        return fetchDataAsync(url, projection.key(url), endpointName, type, projection, executor);
+    }
+
+    /**
+     * Asynchronously fetches data from the specified URL and parses it into the specified type, cached and coalesced under the given key.
+     *
+     * @param url the URL to fetch data from
+     * @param key the key of the cache and the coalescer, which identifies the URL and how its response is decoded
+     * @param endpointName the name of the endpoint
+     * @param type the type to parse the data into
+     * @param projection the fields to decode
+     * @param executor the executor the response is parsed and the returned future is completed on
+     * @param <T> the type of the data
+     * @return a CompletableFuture containing the parsed data, which can be {@code null} if no data is found or if an error occurs
+     */
+    private <T> CompletableFuture<T> fetchDataAsync(String url, String key, String endpointName, Type type, Projection projection, Executor executor) {
+        T cached = getCached(key, endpointName);
+
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        return requestCoalescer.executeAsync(key, () -> {
+            Duration readTimeout = timeoutPolicy.getReadTimeout(endpointName);
+            Duration deadline = timeoutPolicy.getDeadline(endpointName);
+            CacheEntry stale = getStale(key, endpointName);
+            Map<String, String> headers = conditionalHeaders(stale);
+            long start = requestStarted(endpointName);
+            CompletableFuture<StreamResponse> request;
+            try {
+                request = requestHedger.send(endpointName, () -> transport.makeStreamingGetRequestAsync(url, readTimeout, headers));
+            } catch (Exception e) {
+                RuntimeException failure = new RuntimeException("Failed by " + endpointName + " at endpoint: " + url + "\nException: " + e, e);
+
+                requestFailed(endpointName, url, true, start, failure);
+                return CompletableFuture.failedFuture(failure);
+            }
+            CompletableFuture<T> result = request.handleAsync((response, throwable) -> {
+                if (throwable != null) {
+                    Throwable cause = Futures.unwrap(throwable);
+                    RuntimeException failure = new RuntimeException("Failed by " + endpointName + " at endpoint: " + url + "\nException: " + cause, cause);
+
+                    requestFailed(endpointName, url, true, start, failure);
+                    throw failure;
+                }
+                return parseTraced(response, url, key, endpointName, type, projection, stale, true, start);
+            }, executor);
+
+            if (deadline != null) {
+                result.orTimeout(deadline.toMillis(), TimeUnit.MILLISECONDS);
+            }
+            return Futures.propagateCancellation(result, request);
+        });
+    }
+
+    /**
+     * Waits for the result of an asynchronous fetch on the calling thread.
+     * If the thread is interrupted, the request is cancelled.
+     *
+     * @param future the future of the fetch
+     * @param url the URL the data is fetched from
+     * @param endpointName the name of the endpoint
+     * @param <T> the type of the data
+     * @return the parsed data, which can be {@code null} if no data is found or if an error occurs
+     */
+    private <T> T await(CompletableFuture<T> future, String url, String endpointName) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Failed by " + endpointName + " at endpoint: " + url + "\nException: " + e, e);
+        } catch (ExecutionException e) {
+            Throwable cause = Futures.unwrap(e);
+
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeException("Failed by " + endpointName + " at endpoint: " + url + "\nException: " + cause, cause);
+        }
+    }
+
+    /**
+     * Puts a fetched version into the {@link VersionCache}.
+     *
+     * @param id the resource ID
+     * @param version the decoded version, which can be null
+     * @return the current version, which can be null
+     */
+    private String cacheVersion(int id, ResourceVersion version) {
+        if (version == null) {
+            return null;
+        }
+        versionCache.put(id, version.getCurrentVersion());
+        return version.getCurrentVersion();
+    }
+
+    /**
+     * Fetches objects by ID concurrently under a limit and collects the results per ID.
+     *
+     * @param ids the IDs, duplicates are removed
+     * @param maxConcurrency the maximum number of requests in flight at the same time
+     * @param fetcher the function fetching the object of an ID
+     * @param <T> the type of the objects
+     * @return a CompletableFuture containing a {@link BulkResult}, which is completed once every request finished
+     */
+    private <T> CompletableFuture<BulkResult<T>> fetchBulk(Collection<Integer> ids, int maxConcurrency, IntFunction<CompletableFuture<T>> fetcher) {
+        Set<Integer> uniqueIds = new LinkedHashSet<>(ids);
+        AsyncSemaphore semaphore = new AsyncSemaphore(Math.max(1, maxConcurrency));
+        Map<Integer, T> results = new ConcurrentHashMap<>();
+        Set<Integer> notFound = ConcurrentHashMap.newKeySet();
+        Map<Integer, Throwable> failures = new ConcurrentHashMap<>();
+        List<CompletableFuture<Void>> requests = new ArrayList<>(uniqueIds.size());
+
+        for (int id : uniqueIds) {
+            requests.add(semaphore.acquire()
+                    .thenCompose(ignored -> fetcher.apply(id))
+                    .handle((result, throwable) -> {
+                        semaphore.release();
+                        if (throwable != null) {
+                            failures.put(id, Futures.unwrap(throwable));
+                        } else if (result == null) {
+                            notFound.add(id);
+                        } else {
+                            results.put(id, result);
+                        }
+                        return null;
+                    }));
+        }
+        return CompletableFuture.allOf(requests.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> new BulkResult<>(results, notFound, failures));
+    }
+
+    /**
+     * Returns the cached data of the specified key, if the endpoint is cached.
+     *
+     * @param key the cache key of the data, the URL and the projection
+     * @param endpointName the name of the endpoint
+     * @param <T> the type of the data
+     * @return the cached data, which can be {@code null} if caching is disabled or no fresh data is cached
+     */
+    private <T> T getCached(String key, String endpointName) {
+        if (responseCache == null || !responseCache.isCached(endpointName)) {
+            return null;
+        }
+        T cached = responseCache.get(key);
+
+        if (cached != null) {
+            cacheHit(endpointName);
+        }
+        return cached;
+    }
+
+    /**
+     * Reports a response which was served from a cache to the {@link RequestListener}.
+     *
+     * @param endpointName the name of the endpoint
+     */
+    private void cacheHit(String endpointName) {
+        try {
+            requestListener.onCacheHit(endpointName);
+        } catch (RuntimeException e) {
+            listenerFailed("onCacheHit", endpointName, e);
+        }
+    }
+
+    /**
+     * Reports a finished request to the {@link RequestListener}.
+     *
+     * @param trace the timing and outcome of the request
+     */
+    private void requestEnded(RequestTrace trace) {
+        try {
+            requestListener.onRequestEnd(trace);
+        } catch (RuntimeException e) {
+            listenerFailed("onRequestEnd", trace.getEndpointName(), e);
+        }
+    }
+
+    /**
+     * Logs an exception thrown by the {@link RequestListener}, which must not fail the request it was reporting.
+     *
+     * @param method the name of the listener method
+     * @param endpointName the name of the endpoint
+     * @param e the exception thrown by the listener
+     */
+    private void listenerFailed(String method, String endpointName, RuntimeException e) {
+        logger.warning("Failed by request listener at " + method + " of endpoint: " + endpointName + "\nException: " + e);
+    }
+
+    /**
+     * Reports a request which is about to be sent to the {@link RequestListener}.
+     *
+     * @param endpointName the name of the endpoint
+     * @return the start time of the request in nanoseconds, {@code 0} if no listener is configured
+     */
+    private long requestStarted(String endpointName) {
+        if (requestListener == RequestListener.NOOP) {
+            return 0;
+        }
+        try {
+            requestListener.onRequestStart(endpointName);
+        } catch (RuntimeException e) {
+            listenerFailed("onRequestStart", endpointName, e);
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * Reports a request which failed before a response was received to the {@link RequestListener}.
+     *
+     * @param endpointName the name of the endpoint
+     * @param url the URL of the request
+     * @param async whether the request was sent asynchronously
+     * @param start the start time of the request in nanoseconds
+     * @param failure the exception the request failed with
+     */
+    private void requestFailed(String endpointName, String url, boolean async, long start, Throwable failure) {
+        if (requestListener == RequestListener.NOOP) {
+            return;
+        }
+        long elapsed = System.nanoTime() - start;
+
+        requestEnded(RequestTrace.builder()
+                .endpointName(endpointName)
+                .url(url)
+                .async(async)
+                .firstByteNanos(elapsed)
+                .totalNanos(elapsed)
+                .failure(failure)
+                .build());
+    }
+
+    /**
+     * Parses a response like {@link #parseResponse(StreamResponse, String, String, String, Type, Projection, CacheEntry)}
+     * and reports its timing to the {@link RequestListener}. Without a listener the response is parsed directly.
+     * The body is wrapped in a {@link TimingInputStream}, which separates the time waiting for the body from the time decoding it.
+     *
+     * @param response the response of the request
+     * @param url the URL the response was fetched from
+     * @param key the cache key of the response
+     * @param endpointName the name of the endpoint
+     * @param type the type to parse the data into
+     * @param projection the fields to decode
+     * @param stale the expired cache entry which was revalidated, which can be null
+     * @param async whether the request was sent asynchronously
+     * @param start the start time of the request in nanoseconds
+     * @param <T> the type of the data
      * @return the parsed data, which can be {@code null} if no data is found or if an error occurs
      */
-    private <T> T fetchData(String url, String endpointName, Type type) {
-        RequestResponse response;
+    private <T> T parseTraced(StreamResponse response, String url, String key, String endpointName, Type type, Projection projection,
+                              CacheEntry stale, boolean async, long start) {
+        if (requestListener == RequestListener.NOOP) {
+            return parseResponse(response, url, key, endpointName, type, projection, stale);
+        }
+        long received = System.nanoTime();
+        TimingInputStream body = response != null ? new TimingInputStream(response.getBody()) : null;
+        StreamResponse timed = null;
+        RequestTrace.RequestTraceBuilder trace = RequestTrace.builder()
+                .endpointName(endpointName)
+                .url(url)
+                .async(async)
+                .firstByteNanos(received - start);
+
+        if (response != null) {
+            timed = new StreamResponse(response.getCode(), response.getHeaders(), body);
+            timed.setRetries(response.getRetries());
+            trace.statusCode(response.getCode()).retries(response.getRetries());
+        }
         try {
-            response = httpClientService.makeGetRequest(url);
+            T data = parseResponse(timed, url, key, endpointName, type, projection, stale);
+
+            trace.revalidated(data != null && stale != null && data == stale.getValue());
+            return data;
+        } catch (RuntimeException e) {
+            trace.failure(e);
+            throw e;
+        } finally {
+            long end = System.nanoTime();
+            long download = body != null ? body.getNanos() : 0;
+
+            requestEnded(trace
+                    .downloadNanos(download)
+                    .decodeNanos(end - received - download)
+                    .totalNanos(end - start)
+                    .bytes(body != null ? body.getCount() : 0)
+                    .build());
+        }
+    }
+
+    /**
+     * Returns the expired cache entry of the specified key, which can be revalidated with a conditional request.
+     *
+     * @param key the cache key of the data, the URL and the projection
+     * @param endpointName the name of the endpoint
+     * @return the {@link CacheEntry}, which can be {@code null} if caching is disabled or no entry with validators is cached
+     */
+    private CacheEntry getStale(String key, String endpointName) {
+        if (responseCache == null || !responseCache.isCached(endpointName)) {
+            return null;
+        }
+        CacheEntry entry = responseCache.getEntry(key);
+
+        return entry != null && entry.hasValidators() ? entry : null;
+    }
+
+    /**
+     * Builds the headers of a conditional request for an expired cache entry.
+     *
+     * @param stale the expired cache entry, which can be null
+     * @return the {@code If-None-Match} and {@code If-Modified-Since} headers, which is empty if the entry has no validators of the server
+     */
+    private static Map<String, String> conditionalHeaders(CacheEntry stale) {
+        if (stale == null) {
+            return Map.of();
+        }
+        Map<String, String> headers = new HashMap<>();
+
+        if (stale.getEtag() != null) {
+            headers.put("If-None-Match", stale.getEtag());
+        }
+        if (stale.getLastModified() != null) {
+            headers.put("If-Modified-Since", stale.getLastModified());
+        }
+        return headers;
+    }
 
-            if (response == null) {
-                throw new IllegalStateException("The HTTP request returned a null response.");
+    /**
+     * Parses a response into the specified type, or logs the error if the request was not successful.
+     * The JSON is decoded directly from the body stream, which is closed afterwards.
+     * <br>
+     * If the response is {@code 304 Not Modified}, or the server sends no validators and the body has the same hash
+     * as the expired cache entry, the cached value is reused without decoding the body.
+     *
+     * @param response the response of the request
+     * @param url the URL the response was fetched from
+     * @param key the cache key of the response
+     * @param endpointName the name of the endpoint
+     * @param type the type to parse the data into
+     * @param projection the fields to decode
+     * @param stale the expired cache entry which was revalidated, which can be null
+     * @param <T> the type of the data
+     * @return the parsed data, which can be {@code null} if no data is found or if an error occurs
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T parseResponse(StreamResponse response, String url, String key, String endpointName, Type type, Projection projection, CacheEntry stale) {
+        if (response == null) {
+            IllegalStateException e = new IllegalStateException("The HTTP request returned a null response.");
+            throw new RuntimeException("Failed by " + endpointName + " at endpoint: " + url + "\nException: " + e, e);
+        }
+        try (response) {
+            if (response.getCode() == 304 && stale != null) {
+                responseCache.revalidated(key, endpointName, stale);
+                return (T) stale.getValue();
+            }
+            if (response.getCode() == 200 && responseCache != null && responseCache.isCached(endpointName)) {
+                return parseCacheable(response, key, endpointName, type, projection, stale);
             }
+            CountingInputStream body = new CountingInputStream(response.getBody());
+            JsonReader reader = new JsonReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+
             if (response.getCode() == 200) {
-                return gson.fromJson(response.getResponse(), type);
+                return ModelAdapters.gson(projection).fromJson(reader, type);
             } else {
                 try {
-                    Error error = gson.fromJson(response.getResponse(), Error.class);
+                    Error error = gson.fromJson(reader, Error.class);
 
                     if (error != null) {
                         logger.severe("Error by " + endpointName + " at endpoint: " + url + "\nCode: " + error.getCode() + "\nError: " + error.getMessage());
@@ -492,4 +1625,55 @@ public class XenforoResourceManagerAPI {
             throw new RuntimeException("Failed by " + endpointName + " at endpoint: " + url + "\nException: " + e, e);
         }
     }
+
+    /**
+     * Parses a successful response of a cached endpoint and caches it together with its validators.
+     * If the server sends neither an {@code ETag} nor a {@code Last-Modified} header, a SHA-256 hash of the body is used instead.
+     *
+     * @param response the response of the request
+     * @param key the cache key of the response
+     * @param endpointName the name of the endpoint
+     * @param type the type to parse the data into
+     * @param projection the fields to decode
+     * @param stale the expired cache entry which was revalidated, which can be null
+     * @param <T> the type of the data
+     * @return the parsed data
+     * @throws IOException if an I/O exception occurs
+     * @throws NoSuchAlgorithmException if SHA-256 is not available
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T parseCacheable(StreamResponse response, String key, String endpointName, Type type, Projection projection, CacheEntry stale) throws IOException, NoSuchAlgorithmException {
+        Gson decoder = ModelAdapters.gson(projection);
+        String etag = response.getHeaders().firstValue("ETag").orElse(null);
+        String lastModified = response.getHeaders().firstValue("Last-Modified").orElse(null);
+
+        if (etag != null || lastModified != null) {
+            CountingInputStream body = new CountingInputStream(response.getBody());
+            T data = decoder.fromJson(new JsonReader(new InputStreamReader(body, StandardCharsets.UTF_8)), type);
+
+            responseCache.put(key, endpointName, data, body.getCount(), etag, lastModified, null);
+            return data;
+        }
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+        if (stale != null && stale.getContentHash() != null) {
+            byte[] bytes = response.getBody().readAllBytes();
+
+            if (Arrays.equals(digest.digest(bytes), stale.getContentHash())) {
+                responseCache.revalidated(key, endpointName, stale);
+                return (T) stale.getValue();
+            }
+            T data = decoder.fromJson(new JsonReader(new InputStreamReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8)), type);
+
+            responseCache.put(key, endpointName, data, bytes.length, null, null, digest.digest(bytes));
+            return data;
+        }
+        CountingInputStream body = new CountingInputStream(response.getBody());
+        DigestInputStream in = new DigestInputStream(body, digest);
+        T data = decoder.fromJson(new JsonReader(new InputStreamReader(in, StandardCharsets.UTF_8)), type);
+
+        in.transferTo(OutputStream.nullOutputStream());
+        responseCache.put(key, endpointName, data, body.getCount(), null, null, digest.digest());
+        return data;
+    }
 }
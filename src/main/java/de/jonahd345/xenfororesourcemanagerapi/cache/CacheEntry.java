@@ -0,0 +1,89 @@
+package de.jonahd345.xenfororesourcemanagerapi.cache;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Represents an entry of a {@link ResponseCache}.
+ * Besides the decoded value it holds the validators of the response, which are used for conditional requests.
+ */
+@Getter
+public class CacheEntry {
+    /**
+     * The decoded value.
+     */
+    private final Object value;
+
+    /**
+     * The {@link System#nanoTime()} at which the entry expires.
+     */
+    private final long expiresAt;
+
+    /**
+     * The estimated size of the value in bytes.
+     */
+    private final long bytes;
+
+    /**
+     * The {@code ETag} header of the response, which can be null.
+     */
+    private final String etag;
+
+    /**
+     * The {@code Last-Modified} header of the response, which can be null.
+     */
+    private final String lastModified;
+
+    /**
+     * The SHA-256 hash of the response body, which can be null.
+     * It is used as a fallback if the server sends no validators.
+     */
+    private final byte[] contentHash;
+
+    /**
+     * Whether the expiry of the entry was counted, guarded by the lock of the {@link ResponseCache}.
+     */
+    @Getter(AccessLevel.NONE)
+    private boolean expirationCounted;
+
+    CacheEntry(Object value, long expiresAt, long bytes, String etag, String lastModified, byte[] contentHash) {
+        this.value = value;
+        this.expiresAt = expiresAt;
+        this.bytes = bytes;
+        this.etag = etag;
+        this.lastModified = lastModified;
+        this.contentHash = contentHash;
+    }
+
+    /**
+     * Checks whether the entry is expired.
+     *
+     * @param now the current {@link System#nanoTime()}
+     * @return {@code true} if the time to live of the entry is exceeded
+     */
+    public boolean isExpired(long now) {
+        return now - expiresAt >= 0;
+    }
+
+    /**
+     * Marks the expiry of the entry as counted, so an expired entry which is kept for revalidation is counted only once.
+     *
+     * @return {@code true} if the expiry was not counted before
+     */
+    boolean markExpirationCounted() {
+        if (expirationCounted) {
+            return false;
+        }
+        expirationCounted = true;
+        return true;
+    }
+
+    /**
+     * Checks whether the entry can be revalidated.
+     *
+     * @return {@code true} if the entry has an {@code ETag}, a {@code Last-Modified} date or a content hash
+     */
+    public boolean hasValidators() {
+        return etag != null || lastModified != null || contentHash != null;
+    }
+}
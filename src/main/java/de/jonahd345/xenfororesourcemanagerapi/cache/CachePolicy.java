@@ -0,0 +1,60 @@
+package de.jonahd345.xenfororesourcemanagerapi.cache;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * The policy of a {@link ResponseCache}.
+ * It defines the time to live per endpoint and the bounds of the cache.
+ * Endpoints without a time to live are not cached.
+ */
+@Getter
+@Builder
+public class CachePolicy {
+    /**
+     * The time to live per endpoint name, e.g. {@code getResource}.
+     */
+    @Singular("timeToLive")
+    private final Map<String, Duration> timeToLives;
+
+    /**
+     * The maximum number of cached responses.
+     */
+    @Builder.Default
+    private final int maxEntries = 10_000;
+
+    /**
+     * The maximum estimated size of all cached responses in bytes.
+     * The size of a response is estimated from the size of its JSON body.
+     */
+    @Builder.Default
+    private final long maxBytes = 64L * 1024 * 1024;
+
+    /**
+     * Returns the time to live of the given endpoint.
+     *
+     * @param endpointName the name of the endpoint
+     * @return the time to live, which can be null if the endpoint is not cached
+     */
+    public Duration getTimeToLive(String endpointName) {
+        return timeToLives.get(endpointName);
+    }
+
+    /**
+     * Returns the default policy, which caches categories for hours and resources, updates and authors for minutes.
+     *
+     * @return the default {@link CachePolicy}
+     */
+    public static CachePolicy defaults() {
+        return CachePolicy.builder()
+                .timeToLive("listResourceCategories", Duration.ofHours(6))
+                .timeToLive("getResource", Duration.ofMinutes(5))
+                .timeToLive("getResourceUpdate", Duration.ofHours(1))
+                .timeToLive("getAuthor", Duration.ofMinutes(30))
+                .build();
+    }
+}
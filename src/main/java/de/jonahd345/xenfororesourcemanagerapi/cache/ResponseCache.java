@@ -0,0 +1,309 @@
+package de.jonahd345.xenfororesourcemanagerapi.cache;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * An in-process cache for decoded API responses, keyed by the request URL (endpoint and parameters).
+ * Entries expire after the time to live of their endpoint and the least recently used entries are evicted
+ * once the entry count or the estimated byte size of the {@link CachePolicy} is exceeded.
+ * <br>
+ * Expired entries which carry validators ({@code ETag}, {@code Last-Modified} or a content hash) are kept
+ * until they are evicted, so they can be revalidated with a conditional request instead of being downloaded and decoded again.
+ * <br>
+ * Cached objects are shared between all callers and must not be modified.
+ * <br>
+ * The recency order is kept by an access-ordered {@link LinkedHashMap}, so every lookup takes one lock.
+ * The cache holds a bounded number of decoded responses which are looked up once per API call,
+ * so the lock is held for a few map operations per request.
+ */
+public class ResponseCache {
+    /**
+     * The policy of this cache.
+     */
+    @Getter
+    private final CachePolicy policy;
+
+    private final LinkedHashMap<String, CacheEntry> entries;
+
+    private final ReentrantLock lock;
+
+    private long totalBytes;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private final LongAdder expirations = new LongAdder();
+
+    private final LongAdder revalidations = new LongAdder();
+
+    /**
+     * Creates a cache with the default {@link CachePolicy}.
+     */
+    public ResponseCache() {
+        this(CachePolicy.defaults());
+    }
+
+    /**
+     * Creates a cache with the given policy.
+     *
+     * @param policy the policy of the cache
+     */
+    public ResponseCache(CachePolicy policy) {
+        this.policy = policy;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.lock = new ReentrantLock();
+    }
+
+    /**
+     * Checks whether responses of the given endpoint are cached.
+     *
+     * @param endpointName the name of the endpoint
+     * @return {@code true} if the policy defines a time to live for the endpoint
+     */
+    public boolean isCached(String endpointName) {
+        return policy.getTimeToLive(endpointName) != null;
+    }
+
+    /**
+     * Returns the cached value for the given key if it is present and not expired.
+     *
+     * @param key the cache key, the request URL
+     * @param <T> the type of the value
+     * @return the cached value, which can be null if there is no fresh entry for the key
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key) {
+        long now = System.nanoTime();
+
+        lock.lock();
+        try {
+            CacheEntry entry = entries.get(key);
+
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            if (entry.isExpired(now)) {
+                if (!entry.hasValidators()) {
+                    remove(key, entry);
+                }
+                if (entry.markExpirationCounted()) {
+                    expirations.increment();
+                }
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return (T) entry.getValue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the entry for the given key, even if it is expired, so it can be revalidated.
+     * This lookup is not counted as a hit or miss.
+     *
+     * @param key the cache key, the request URL
+     * @return the {@link CacheEntry}, which can be null if there is no entry for the key
+     */
+    public CacheEntry getEntry(String key) {
+        lock.lock();
+        try {
+            return entries.get(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Caches a value with the time to live of the given endpoint.
+     * Null values and values of endpoints without a time to live are not cached.
+     *
+     * @param key the cache key, the request URL
+     * @param endpointName the name of the endpoint
+     * @param value the decoded value
+     * @param estimatedBytes the estimated size of the value in bytes
+     */
+    public void put(String key, String endpointName, Object value, long estimatedBytes) {
+        put(key, endpointName, value, estimatedBytes, null, null, null);
+    }
+
+    /**
+     * Caches a value with the time to live of the given endpoint, together with the validators of its response.
+     * Null values and values of endpoints without a time to live are not cached.
+     *
+     * @param key the cache key, the request URL
+     * @param endpointName the name of the endpoint
+     * @param value the decoded value
+     * @param estimatedBytes the estimated size of the value in bytes
+     * @param etag the {@code ETag} header of the response, which can be null
+     * @param lastModified the {@code Last-Modified} header of the response, which can be null
+     * @param contentHash the hash of the response body, which can be null
+     */
+    public void put(String key, String endpointName, Object value, long estimatedBytes, String etag, String lastModified, byte[] contentHash) {
+        Duration timeToLive = policy.getTimeToLive(endpointName);
+
+        if (value == null || timeToLive == null || estimatedBytes > policy.getMaxBytes()) {
+            return;
+        }
+        CacheEntry entry = new CacheEntry(value, System.nanoTime() + timeToLive.toNanos(), estimatedBytes, etag, lastModified, contentHash);
+
+        lock.lock();
+        try {
+            CacheEntry previous = entries.put(key, entry);
+
+            if (previous != null) {
+                totalBytes -= previous.getBytes();
+            }
+            totalBytes += entry.getBytes();
+            evictIfNecessary();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Marks an entry as revalidated, e.g. after the server answered {@code 304 Not Modified},
+     * which renews its time to live without replacing the decoded value.
+     *
+     * @param key the cache key, the request URL
+     * @param endpointName the name of the endpoint
+     * @param entry the revalidated entry
+     */
+    public void revalidated(String key, String endpointName, CacheEntry entry) {
+        revalidations.increment();
+        put(key, endpointName, entry.getValue(), entry.getBytes(), entry.getEtag(), entry.getLastModified(), entry.getContentHash());
+    }
+
+    /**
+     * Removes the entry with the given key.
+     *
+     * @param key the cache key, the request URL
+     */
+    public void invalidate(String key) {
+        lock.lock();
+        try {
+            CacheEntry entry = entries.get(key);
+
+            if (entry != null) {
+                remove(key, entry);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            entries.clear();
+            totalBytes = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of cached entries.
+     *
+     * @return the number of entries, including expired entries which were not accessed since they expired
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the estimated size of all cached entries.
+     *
+     * @return the estimated size in bytes
+     */
+    public long getEstimatedBytes() {
+        lock.lock();
+        try {
+            return totalBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of lookups which returned a cached value.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups which found no fresh value.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of entries which were evicted to stay within the bounds of the policy.
+     *
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Returns the number of entries whose time to live was exceeded, counted once per entry.
+     *
+     * @return the expiration count
+     */
+    public long getExpirationCount() {
+        return expirations.sum();
+    }
+
+    /**
+     * Returns the number of expired entries which were revalidated without downloading or decoding them again.
+     *
+     * @return the revalidation count
+     */
+    public long getRevalidationCount() {
+        return revalidations.sum();
+    }
+
+    private void remove(String key, CacheEntry entry) {
+        entries.remove(key);
+        totalBytes -= entry.getBytes();
+    }
+
+    private void evictIfNecessary() {
+        Iterator<Map.Entry<String, CacheEntry>> iterator = entries.entrySet().iterator();
+
+        while ((entries.size() > policy.getMaxEntries() || totalBytes > policy.getMaxBytes()) && iterator.hasNext()) {
+            CacheEntry eldest = iterator.next().getValue();
+
+            iterator.remove();
+            totalBytes -= eldest.getBytes();
+            evictions.increment();
+        }
+    }
+}
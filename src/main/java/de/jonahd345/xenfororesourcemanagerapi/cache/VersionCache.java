@@ -0,0 +1,205 @@
+package de.jonahd345.xenfororesourcemanagerapi.cache;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A small cache for the current versions of resources, keyed by the primitive resource ID.
+ * The entries are stored in parallel arrays with open addressing, so no boxed keys or entry objects are allocated,
+ * which keeps checking thousands of resources on every start cheap.
+ */
+public class VersionCache {
+    private static final int EMPTY = 0;
+
+    /**
+     * The time after which a version is fetched again.
+     */
+    @Getter
+    private final Duration timeToLive;
+
+    private int[] ids;
+
+    private String[] versions;
+
+    private long[] expiresAt;
+
+    private int size;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a cache whose versions expire after five minutes.
+     */
+    public VersionCache() {
+        this(Duration.ofMinutes(5));
+    }
+
+    /**
+     * Creates a cache.
+     *
+     * @param timeToLive the time after which a version is fetched again
+     */
+    public VersionCache(Duration timeToLive) {
+        this.timeToLive = timeToLive;
+        this.ids = new int[64];
+        this.versions = new String[64];
+        this.expiresAt = new long[64];
+    }
+
+    /**
+     * Returns the cached version of a resource if it is present and not expired.
+     *
+     * @param id the resource ID
+     * @return the current version, which can be null if no fresh version is cached
+     */
+    public synchronized String get(int id) {
+        int index = indexOf(id);
+
+        if (index < 0 || System.nanoTime() - expiresAt[index] >= 0) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return versions[index];
+    }
+
+    /**
+     * Caches the current version of a resource.
+     *
+     * @param id the resource ID, IDs below {@code 1} are ignored
+     * @param version the current version, null values are ignored
+     */
+    public synchronized void put(int id, String version) {
+        if (id <= EMPTY || version == null) {
+            return;
+        }
+        if ((size + 1) * 4 > ids.length * 3) {
+            resize(ids.length * 2);
+        }
+        int index = slot(id, ids);
+
+        if (ids[index] == EMPTY) {
+            ids[index] = id;
+            size++;
+        }
+        versions[index] = version;
+        expiresAt[index] = System.nanoTime() + timeToLive.toNanos();
+    }
+
+    /**
+     * Removes the version of a resource.
+     *
+     * @param id the resource ID
+     */
+    public synchronized void invalidate(int id) {
+        int index = indexOf(id);
+
+        if (index < 0) {
+            return;
+        }
+        int mask = ids.length - 1;
+
+        // backward shift deletion keeps every probe sequence free of holes
+        for (int next = (index + 1) & mask; ids[next] != EMPTY; next = (next + 1) & mask) {
+            int home = hash(ids[next]) & mask;
+
+            if (((next - home) & mask) >= ((next - index) & mask)) {
+                ids[index] = ids[next];
+                versions[index] = versions[next];
+                expiresAt[index] = expiresAt[next];
+                index = next;
+            }
+        }
+        ids[index] = EMPTY;
+        versions[index] = null;
+        size--;
+    }
+
+    /**
+     * Removes all versions.
+     */
+    public synchronized void clear() {
+        ids = new int[64];
+        versions = new String[64];
+        expiresAt = new long[64];
+        size = 0;
+    }
+
+    /**
+     * Returns the number of cached versions.
+     *
+     * @return the number of versions, including expired versions
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of lookups which returned a cached version.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups which found no fresh version.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    private int indexOf(int id) {
+        if (id <= EMPTY) {
+            return -1;
+        }
+        int index = slot(id, ids);
+
+        return ids[index] == id ? index : -1;
+    }
+
+    private void resize(int capacity) {
+        int[] oldIds = ids;
+        String[] oldVersions = versions;
+        long[] oldExpiresAt = expiresAt;
+
+        ids = new int[capacity];
+        versions = new String[capacity];
+        expiresAt = new long[capacity];
+        for (int i = 0; i < oldIds.length; i++) {
+            if (oldIds[i] != EMPTY) {
+                int index = slot(oldIds[i], ids);
+
+                ids[index] = oldIds[i];
+                versions[index] = oldVersions[i];
+                expiresAt[index] = oldExpiresAt[i];
+            }
+        }
+    }
+
+    /**
+     * Returns the slot of an ID, which is either the slot holding it or the empty slot it would be inserted at.
+     */
+    private static int slot(int id, int[] ids) {
+        int mask = ids.length - 1;
+        int index = hash(id) & mask;
+
+        while (ids[index] != EMPTY && ids[index] != id) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private static int hash(int id) {
+        int h = id * 0x9E3779B9;
+
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,409 @@
+package de.jonahd345.xenfororesourcemanagerapi.catalog;
+
+import de.jonahd345.xenfororesourcemanagerapi.crawler.CrawlListener;
+import de.jonahd345.xenfororesourcemanagerapi.model.Resource;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+
+/**
+ * A queryable in-memory index over the resource catalog, fed by the results of {@code listResources} and {@code getResource}.
+ * Queries like "top downloads in category 4", "everything supporting 1.20" or "all resources by an author sorted by rating"
+ * are answered from the index without calling the API.
+ * <br>
+ * The resources are held in a {@link CompactCatalog}. The index maps categories, authors, Minecraft versions and the premium flag
+ * to sorted ID sets with primitive int keys, and keeps the {@link StatsColumn}s sorted for top-K queries.
+ * Every put or remove updates the index incrementally, {@link #putAll(Collection)} applies all changes to each set in one pass.
+ * <br>
+ * The index can be passed to a {@link de.jonahd345.xenfororesourcemanagerapi.crawler.CatalogCrawler} as its listener.
+ * It is thread-safe, queries run concurrently and updates are exclusive.
+ */
+public class CatalogIndex implements CrawlListener {
+    private static final int MIN_BULK_SIZE = 32;
+
+    private final CompactCatalog catalog = new CompactCatalog();
+
+    private final IntObjectMap<IdSet> byCategory = new IntObjectMap<>();
+
+    private final IntObjectMap<IdSet> byAuthor = new IntObjectMap<>();
+
+    private final IntObjectMap<IdSet> byVersion = new IntObjectMap<>();
+
+    private final IdSet premium = new IdSet();
+
+    private final IdSet free = new IdSet();
+
+    private final Map<StatsColumn, SortedColumn> columns = new EnumMap<>(StatsColumn.class);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Creates an empty index.
+     */
+    public CatalogIndex() {
+        for (StatsColumn column : StatsColumn.values()) {
+            columns.put(column, new SortedColumn());
+        }
+    }
+
+    /**
+     * Adds or replaces a resource.
+     *
+     * @param resource the resource
+     * @return the compact representation of the resource
+     */
+    public CompactResource put(Resource resource) {
+        lock.writeLock().lock();
+        try {
+            CompactResource previous = catalog.get(resource.getId());
+
+            if (previous != null) {
+                unindex(previous);
+            }
+            CompactResource compact = catalog.put(resource);
+
+            index(compact);
+            return compact;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds or replaces multiple resources.
+     * From {@value #MIN_BULK_SIZE} resources on the changes are collected per ID set and column and merged in one pass each,
+     * so loading a whole catalog takes {@code O(n log n)} instead of shifting the sorted arrays for every resource.
+     *
+     * @param resources the resources, e.g. one page of {@code listResources} or a whole snapshot
+     */
+    public void putAll(Collection<Resource> resources) {
+        Map<Integer, Resource> unique = new LinkedHashMap<>();
+
+        // only the last resource of an ID is indexed, so every deferred removal refers to the state before this call
+        for (Resource resource : resources) {
+            unique.put(resource.getId(), resource);
+        }
+        lock.writeLock().lock();
+        try {
+            if (unique.size() < MIN_BULK_SIZE) {
+                // shifting the arrays for a few resources is cheaper than merging every touched array once
+                unique.values().forEach(this::put);
+                return;
+            }
+            List<Touched> touched = new ArrayList<>();
+
+            for (Resource resource : unique.values()) {
+                CompactResource previous = catalog.get(resource.getId());
+
+                if (previous != null) {
+                    unindex(previous, touched);
+                }
+                index(catalog.put(resource), touched);
+            }
+            for (Touched entry : touched) {
+                entry.ids.flush();
+                if (entry.map != null && entry.ids.size() == 0) {
+                    entry.map.remove(entry.key);
+                }
+            }
+            columns.values().forEach(SortedColumn::flush);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a resource.
+     *
+     * @param id the resource ID
+     */
+    public void remove(int id) {
+        lock.writeLock().lock();
+        try {
+            CompactResource previous = catalog.remove(id);
+
+            if (previous != null) {
+                unindex(previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds the resources of a crawled page.
+     *
+     * @param categoryId the category ID
+     * @param page the page number
+     * @param resources the {@link Resource} on the page
+     */
+    @Override
+    public void onPage(int categoryId, int page, List<Resource> resources) {
+        putAll(resources);
+    }
+
+    /**
+     * Returns a resource.
+     *
+     * @param id the resource ID
+     * @return the {@link CompactResource}, which can be null if the resource is not indexed
+     */
+    public CompactResource get(int id) {
+        return catalog.get(id);
+    }
+
+    /**
+     * Returns the catalog holding the indexed resources.
+     *
+     * @return the {@link CompactCatalog}
+     */
+    public CompactCatalog getCatalog() {
+        return catalog;
+    }
+
+    /**
+     * Returns the number of indexed resources.
+     *
+     * @return the number of resources
+     */
+    public int size() {
+        return catalog.size();
+    }
+
+    /**
+     * Returns the IDs of the resources in a category.
+     *
+     * @param categoryId the category ID
+     * @return the resource IDs in ascending order
+     */
+    public int[] getByCategory(int categoryId) {
+        return query(byCategory.get(categoryId));
+    }
+
+    /**
+     * Returns the IDs of the resources of an author.
+     *
+     * @param authorId the author ID
+     * @return the resource IDs in ascending order
+     */
+    public int[] getByAuthor(int authorId) {
+        return query(byAuthor.get(authorId));
+    }
+
+    /**
+     * Returns the IDs of the resources supporting a Minecraft version.
+     *
+     * @param version the Minecraft version, e.g. {@code 1.20}
+     * @return the resource IDs in ascending order
+     */
+    public int[] getByMinecraftVersion(String version) {
+        int index = catalog.getVersions().indexOf(version);
+
+        return index >= 0 ? query(byVersion.get(index)) : new int[0];
+    }
+
+    /**
+     * Returns the IDs of the premium or the free resources.
+     *
+     * @param premium {@code true} for the premium resources, {@code false} for the free resources
+     * @return the resource IDs in ascending order
+     */
+    public int[] getByPremium(boolean premium) {
+        return query(premium ? this.premium : free);
+    }
+
+    /**
+     * Returns the IDs of the resources with the highest value of a column.
+     *
+     * @param column the column to sort by
+     * @param limit the maximum number of IDs
+     * @return the resource IDs in descending order of the column
+     */
+    public int[] top(StatsColumn column, int limit) {
+        return top(column, limit, null);
+    }
+
+    /**
+     * Returns the IDs of the resources of a category with the highest value of a column,
+     * e.g. the top downloads in a category.
+     *
+     * @param column the column to sort by
+     * @param categoryId the category ID
+     * @param limit the maximum number of IDs
+     * @return the resource IDs in descending order of the column
+     */
+    public int[] topInCategory(StatsColumn column, int categoryId, int limit) {
+        lock.readLock().lock();
+        try {
+            IdSet ids = byCategory.get(categoryId);
+
+            return ids != null ? columns.get(column).top(limit, ids::contains) : new int[0];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the IDs of the resources with the highest value of a column which match a filter.
+     *
+     * @param column the column to sort by
+     * @param limit the maximum number of IDs
+     * @param filter the filter of the resource IDs, which can be null to accept every resource
+     * @return the resource IDs in descending order of the column
+     */
+    public int[] top(StatsColumn column, int limit, IntPredicate filter) {
+        lock.readLock().lock();
+        try {
+            return columns.get(column).top(limit, filter);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the IDs of the resources of an author, sorted by a column, e.g. by rating.
+     *
+     * @param authorId the author ID
+     * @param column the column to sort by
+     * @return the resource IDs in descending order of the column
+     */
+    public int[] getByAuthor(int authorId, StatsColumn column) {
+        lock.readLock().lock();
+        try {
+            IdSet ids = byAuthor.get(authorId);
+
+            return ids != null ? columns.get(column).top(ids.size(), ids::contains) : new int[0];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int[] query(IdSet ids) {
+        lock.readLock().lock();
+        try {
+            return ids != null ? ids.toArray() : new int[0];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void index(CompactResource resource) {
+        int id = resource.getId();
+
+        if (resource.getCategoryId() > 0) {
+            byCategory.computeIfAbsent(resource.getCategoryId(), key -> new IdSet()).add(id);
+        }
+        if (resource.getAuthorId() > 0) {
+            byAuthor.computeIfAbsent(resource.getAuthorId(), key -> new IdSet()).add(id);
+        }
+        for (int version : resource.getSupportedVersionIndexes()) {
+            byVersion.computeIfAbsent(version, key -> new IdSet()).add(id);
+        }
+        (resource.isPremium() ? premium : free).add(id);
+        columns.forEach((column, sorted) -> sorted.add(id, column.sortKey(resource)));
+    }
+
+    private void unindex(CompactResource resource) {
+        int id = resource.getId();
+
+        if (resource.getCategoryId() > 0) {
+            remove(byCategory, resource.getCategoryId(), id);
+        }
+        if (resource.getAuthorId() > 0) {
+            remove(byAuthor, resource.getAuthorId(), id);
+        }
+        for (int version : resource.getSupportedVersionIndexes()) {
+            remove(byVersion, version, id);
+        }
+        (resource.isPremium() ? premium : free).remove(id);
+        columns.forEach((column, sorted) -> sorted.remove(id, column.sortKey(resource)));
+    }
+
+    /**
+     * Defers the indexing of a resource until the touched sets and the columns are flushed.
+     */
+    private void index(CompactResource resource, List<Touched> touched) {
+        int id = resource.getId();
+
+        if (resource.getCategoryId() > 0) {
+            defer(byCategory, resource.getCategoryId(), touched).deferAdd(id);
+        }
+        if (resource.getAuthorId() > 0) {
+            defer(byAuthor, resource.getAuthorId(), touched).deferAdd(id);
+        }
+        for (int version : resource.getSupportedVersionIndexes()) {
+            defer(byVersion, version, touched).deferAdd(id);
+        }
+        defer(resource.isPremium() ? premium : free, touched).deferAdd(id);
+        columns.forEach((column, sorted) -> sorted.deferAdd(id, column.sortKey(resource)));
+    }
+
+    /**
+     * Defers the removal of an indexed resource until the touched sets and the columns are flushed.
+     */
+    private void unindex(CompactResource resource, List<Touched> touched) {
+        int id = resource.getId();
+
+        if (resource.getCategoryId() > 0) {
+            defer(byCategory, resource.getCategoryId(), touched).deferRemove(id);
+        }
+        if (resource.getAuthorId() > 0) {
+            defer(byAuthor, resource.getAuthorId(), touched).deferRemove(id);
+        }
+        for (int version : resource.getSupportedVersionIndexes()) {
+            defer(byVersion, version, touched).deferRemove(id);
+        }
+        defer(resource.isPremium() ? premium : free, touched).deferRemove(id);
+        columns.forEach((column, sorted) -> sorted.deferRemove(id, column.sortKey(resource)));
+    }
+
+    private static IdSet defer(IntObjectMap<IdSet> map, int key, List<Touched> touched) {
+        IdSet ids = map.computeIfAbsent(key, k -> new IdSet());
+
+        if (!ids.isDirty()) {
+            touched.add(new Touched(map, key, ids));
+        }
+        return ids;
+    }
+
+    private static IdSet defer(IdSet ids, List<Touched> touched) {
+        if (!ids.isDirty()) {
+            touched.add(new Touched(null, 0, ids));
+        }
+        return ids;
+    }
+
+    private static void remove(IntObjectMap<IdSet> map, int key, int id) {
+        IdSet ids = map.get(key);
+
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.size() == 0) {
+                map.remove(key);
+            }
+        }
+    }
+
+    /**
+     * An ID set with deferred changes and the map entry it belongs to, which is removed if the set is empty after flushing.
+     */
+    private static class Touched {
+        private final IntObjectMap<IdSet> map;
+
+        private final int key;
+
+        private final IdSet ids;
+
+        private Touched(IntObjectMap<IdSet> map, int key, IdSet ids) {
+            this.map = map;
+            this.key = key;
+            this.ids = ids;
+        }
+    }
+}
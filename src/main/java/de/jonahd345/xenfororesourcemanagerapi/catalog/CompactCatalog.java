@@ -0,0 +1,215 @@
+package de.jonahd345.xenfororesourcemanagerapi.catalog;
+
+import de.jonahd345.xenfororesourcemanagerapi.model.Author;
+import de.jonahd345.xenfororesourcemanagerapi.model.Category;
+import de.jonahd345.xenfororesourcemanagerapi.model.Identities;
+import de.jonahd345.xenfororesourcemanagerapi.model.Resource;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An in-memory catalog of {@link CompactResource}, e.g. filled by a {@link de.jonahd345.xenfororesourcemanagerapi.crawler.CatalogCrawler}.
+ * <br>
+ * Categories and authors are stored once per ID, the resources only reference them by their ID.
+ * Minecraft versions are interned into one dictionary, and the few distinct currencies are shared.
+ * This keeps the retained heap of a large catalog a fraction of the heap of the same {@link Resource} objects.
+ */
+public class CompactCatalog {
+    private final Map<Integer, CompactResource> resources = new ConcurrentHashMap<>();
+
+    private final Map<Integer, Category> categories = new ConcurrentHashMap<>();
+
+    private final Map<Integer, Author> authors = new ConcurrentHashMap<>();
+
+    private final StringDictionary versions = new StringDictionary();
+
+    private final StringDictionary strings = new StringDictionary();
+
+    /**
+     * Adds or replaces a resource.
+     *
+     * @param resource the resource, e.g. from {@code listResources} or {@code getResource}
+     * @return the compact representation of the resource
+     */
+    public CompactResource put(Resource resource) {
+        canonical(resource.getCategory());
+        canonical(resource.getAuthor());
+
+        CompactResource compact = new CompactResource(resource, this, versions, strings);
+
+        resources.put(compact.getId(), compact);
+        return compact;
+    }
+
+    /**
+     * Adds or replaces multiple resources.
+     *
+     * @param resources the resources, e.g. one page of {@code listResources}
+     */
+    public void putAll(Collection<Resource> resources) {
+        for (Resource resource : resources) {
+            put(resource);
+        }
+    }
+
+    /**
+     * Returns a resource.
+     *
+     * @param id the resource ID
+     * @return the {@link CompactResource}, which can be null if the resource is not in the catalog
+     */
+    public CompactResource get(int id) {
+        return resources.get(id);
+    }
+
+    /**
+     * Removes a resource.
+     *
+     * @param id the resource ID
+     * @return the removed {@link CompactResource}, which can be null if the resource was not in the catalog
+     */
+    public CompactResource remove(int id) {
+        return resources.remove(id);
+    }
+
+    /**
+     * Returns all resources.
+     *
+     * @return an unmodifiable view of the resources
+     */
+    public Collection<CompactResource> getResources() {
+        return Collections.unmodifiableCollection(resources.values());
+    }
+
+    /**
+     * Returns the category with the given ID.
+     *
+     * @param id the category ID
+     * @return a copy of the {@link Category}, which can be null if no resource of the category was added
+     */
+    public Category getCategory(int id) {
+        return copy(categories.get(id));
+    }
+
+    /**
+     * Returns the author with the given ID.
+     *
+     * @param id the author ID
+     * @return a copy of the {@link Author}, which can be null if no resource of the author was added
+     */
+    public Author getAuthor(int id) {
+        return copy(authors.get(id));
+    }
+
+    /**
+     * Returns the dictionary of all Minecraft versions seen by the catalog.
+     * The bitsets of the resources are indexed by this dictionary.
+     *
+     * @return the {@link StringDictionary} of the Minecraft versions
+     */
+    public StringDictionary getVersions() {
+        return versions;
+    }
+
+    /**
+     * Returns all Minecraft versions seen by the catalog.
+     *
+     * @return a new {@link List} of the versions, in the order they were first seen
+     */
+    public List<String> getMinecraftVersions() {
+        List<String> result = new ArrayList<>(versions.size());
+
+        for (int i = 0; i < versions.size(); i++) {
+            result.add(versions.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of resources.
+     *
+     * @return the number of resources in the catalog
+     */
+    public int size() {
+        return resources.size();
+    }
+
+    /**
+     * Stores a category, replacing the stored one if its title changed, which all resources of the category then see.
+     */
+    private void canonical(Category category) {
+        if (category == null) {
+            return;
+        }
+        categories.compute(category.getId(), (id, existing) -> existing != null && existing.equals(category) ? existing : copy(category));
+    }
+
+    /**
+     * Stores an author, replacing the stored one if the author changed, which all resources of the author then see.
+     */
+    private void canonical(Author author) {
+        if (author == null) {
+            return;
+        }
+        authors.compute(author.getId(), (id, existing) -> existing != null && Objects.equals(existing, author) ? existing : copy(author));
+    }
+
+    /**
+     * Copies a category, so the stored instance is never exposed to or taken from the caller.
+     *
+     * @param category the category, which can be null
+     * @return the copy, which is null if the category is null
+     */
+    static Category copy(Category category) {
+        if (category == null) {
+            return null;
+        }
+        Category copy = new Category();
+
+        copy.setId(category.getId());
+        copy.setTitle(category.getTitle());
+        return copy;
+    }
+
+    /**
+     * Copies an author and its identities, so the stored instance is never exposed to or taken from the caller.
+     *
+     * @param author the author, which can be null
+     * @return the copy, which is null if the author is null
+     */
+    static Author copy(Author author) {
+        if (author == null) {
+            return null;
+        }
+        Author copy = new Author();
+        Identities identities = author.getIdentities();
+
+        copy.setId(author.getId());
+        copy.setUsername(author.getUsername());
+        copy.setResourceCount(author.getResourceCount());
+        copy.setAvatar(author.getAvatar());
+        if (identities != null) {
+            Identities identitiesCopy = new Identities();
+
+            identitiesCopy.setDiscord(identities.getDiscord());
+            identitiesCopy.setGithub(identities.getGithub());
+            identitiesCopy.setYoutube(identities.getYoutube());
+            identitiesCopy.setAim(identities.getAim());
+            identitiesCopy.setMsn(identities.getMsn());
+            identitiesCopy.setIcq(identities.getIcq());
+            identitiesCopy.setYahoo(identities.getYahoo());
+            identitiesCopy.setSkype(identities.getSkype());
+            identitiesCopy.setGtalk(identities.getGtalk());
+            identitiesCopy.setFacebook(identities.getFacebook());
+            identitiesCopy.setTwitter(identities.getTwitter());
+            copy.setIdentities(identitiesCopy);
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,305 @@
+package de.jonahd345.xenfororesourcemanagerapi.catalog;
+
+import de.jonahd345.xenfororesourcemanagerapi.model.Author;
+import de.jonahd345.xenfororesourcemanagerapi.model.Category;
+import de.jonahd345.xenfororesourcemanagerapi.model.Premium;
+import de.jonahd345.xenfororesourcemanagerapi.model.Resource;
+import de.jonahd345.xenfororesourcemanagerapi.model.Reviews;
+import de.jonahd345.xenfororesourcemanagerapi.model.Stats;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An immutable, compact representation of a {@link Resource}, created by a {@link CompactCatalog}.
+ * <br>
+ * Only the IDs of the {@link Category} and {@link Author} are stored, their other values are looked up in the catalog,
+ * so a changed author is seen by all of its resources. The getters return copies, which can be modified freely.
+ * The Minecraft versions are stored as indexes into the version dictionary of the catalog,
+ * the supported versions as a bitset, and the stats as primitives.
+ */
+@Getter
+public class CompactResource {
+    /**
+     * The unique identifier of the resource.
+     */
+    private final int id;
+
+    /**
+     * The title of the resource.
+     */
+    private final String title;
+
+    /**
+     * The tag of the resource.
+     */
+    private final String tag;
+
+    /**
+     * The current version of the resource, which is nearly unique per resource and therefore not shared.
+     */
+    private final String currentVersion;
+
+    /**
+     * The ID of the category of the resource, {@code 0} if the resource has no category.
+     */
+    private final int categoryId;
+
+    /**
+     * The ID of the author of the resource, {@code 0} if the resource has no author.
+     */
+    private final int authorId;
+
+    /**
+     * The link to the icon of the resource.
+     */
+    private final String iconLink;
+
+    /**
+     * The external download URL of the resource, which is nearly unique per resource and therefore not shared.
+     */
+    private final String externalDownloadUrl;
+
+    /**
+     * The description of the resource.
+     */
+    private final String description;
+
+    /**
+     * The currency of the premium resource, which is null if the resource is free.
+     */
+    private final String currency;
+
+    /**
+     * The price of the premium resource.
+     */
+    private final double price;
+
+    /**
+     * The number of downloads.
+     */
+    private final int downloads;
+
+    /**
+     * The number of updates.
+     */
+    private final int updates;
+
+    /**
+     * The unique number of reviews.
+     */
+    private final int uniqueReviews;
+
+    /**
+     * The total number of reviews.
+     */
+    private final int totalReviews;
+
+    /**
+     * The rating of the resource.
+     */
+    private final double rating;
+
+    @Getter(AccessLevel.NONE)
+    private final CompactCatalog catalog;
+
+    @Getter(AccessLevel.NONE)
+    private final StringDictionary versions;
+
+    @Getter(AccessLevel.NONE)
+    private final int nativeVersion;
+
+    @Getter(AccessLevel.NONE)
+    private final long[] supportedVersions;
+
+    CompactResource(Resource resource, CompactCatalog catalog, StringDictionary versions, StringDictionary strings) {
+        Stats stats = resource.getStats();
+        Reviews reviews = stats != null ? stats.getReviews() : null;
+        Premium premium = resource.getPremium();
+
+        this.id = resource.getId();
+        this.title = resource.getTitle();
+        this.tag = resource.getTag();
+        this.currentVersion = resource.getCurrentVersion();
+        this.categoryId = resource.getCategory() != null ? resource.getCategory().getId() : 0;
+        this.authorId = resource.getAuthor() != null ? resource.getAuthor().getId() : 0;
+        this.iconLink = resource.getIconLink();
+        this.externalDownloadUrl = resource.getExternalDownloadUrl();
+        this.description = resource.getDescription();
+        // the API sends a premium object with price 0.00 and an empty currency for free resources
+        if (premium != null && (premium.getPrice() > 0 || premium.getCurrency() != null && !premium.getCurrency().isEmpty())) {
+            this.currency = strings.canonical(premium.getCurrency() != null ? premium.getCurrency() : "");
+            this.price = premium.getPrice();
+        } else {
+            this.currency = null;
+            this.price = 0;
+        }
+        this.downloads = stats != null ? stats.getDownloads() : 0;
+        this.updates = stats != null ? stats.getUpdates() : 0;
+        this.uniqueReviews = reviews != null ? reviews.getUnique() : 0;
+        this.totalReviews = reviews != null ? reviews.getTotal() : 0;
+        this.rating = stats != null ? stats.getRating() : 0;
+        this.catalog = catalog;
+        this.versions = versions;
+        this.nativeVersion = versions.intern(resource.getNativeMinecraftVersion());
+        this.supportedVersions = toBitset(resource.getSupportedMinecraftVersions(), versions);
+    }
+
+    /**
+     * Checks whether the resource is a premium resource.
+     *
+     * @return {@code true} if the resource has a price or a currency
+     */
+    public boolean isPremium() {
+        return currency != null;
+    }
+
+    /**
+     * Returns the category of the resource.
+     *
+     * @return a copy of the current category in the catalog, which can be null if the resource has no category
+     */
+    public Category getCategory() {
+        return catalog.getCategory(categoryId);
+    }
+
+    /**
+     * Returns the author of the resource.
+     *
+     * @return a copy of the current author in the catalog, which can be null if the resource has no author
+     */
+    public Author getAuthor() {
+        return catalog.getAuthor(authorId);
+    }
+
+    /**
+     * Returns the native Minecraft version of the resource.
+     *
+     * @return the shared version string, which can be null
+     */
+    public String getNativeMinecraftVersion() {
+        return versions.get(nativeVersion);
+    }
+
+    /**
+     * Returns the supported Minecraft versions of the resource.
+     *
+     * @return a new {@link List} of the shared version strings, in the order they were first seen by the catalog
+     */
+    public List<String> getSupportedMinecraftVersions() {
+        int[] indexes = getSupportedVersionIndexes();
+        List<String> result = new ArrayList<>(indexes.length);
+
+        for (int index : indexes) {
+            result.add(versions.get(index));
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether the resource supports a Minecraft version.
+     *
+     * @param version the Minecraft version, e.g. {@code 1.20}
+     * @return {@code true} if the version is one of the supported versions
+     */
+    public boolean supports(String version) {
+        int index = versions.indexOf(version);
+
+        return index >= 0 && supports(index);
+    }
+
+    /**
+     * Checks whether the resource supports a Minecraft version by its dictionary index.
+     *
+     * @param versionIndex the index of the version in the version dictionary of the catalog
+     * @return {@code true} if the version is one of the supported versions
+     */
+    public boolean supports(int versionIndex) {
+        int word = versionIndex >>> 6;
+
+        return word < supportedVersions.length && (supportedVersions[word] & 1L << versionIndex) != 0;
+    }
+
+    /**
+     * Returns the dictionary indexes of the supported Minecraft versions.
+     *
+     * @return the indexes in ascending order
+     */
+    public int[] getSupportedVersionIndexes() {
+        int count = 0;
+
+        for (long word : supportedVersions) {
+            count += Long.bitCount(word);
+        }
+        int[] indexes = new int[count];
+        int position = 0;
+
+        for (int word = 0; word < supportedVersions.length; word++) {
+            for (long bits = supportedVersions[word]; bits != 0; bits &= bits - 1) {
+                indexes[position++] = word * 64 + Long.numberOfTrailingZeros(bits);
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * Converts this resource back to a mutable {@link Resource}.
+     *
+     * @return a new {@link Resource} with the same values
+     */
+    public Resource toResource() {
+        Resource resource = new Resource();
+        Stats stats = new Stats();
+        Reviews reviews = new Reviews();
+
+        resource.setId(id);
+        resource.setTitle(title);
+        resource.setTag(tag);
+        resource.setCurrentVersion(currentVersion);
+        resource.setCategory(getCategory());
+        resource.setNativeMinecraftVersion(getNativeMinecraftVersion());
+        resource.setSupportedMinecraftVersions(getSupportedMinecraftVersions());
+        resource.setIconLink(iconLink);
+        resource.setAuthor(getAuthor());
+        if (isPremium()) {
+            Premium premium = new Premium();
+
+            premium.setPrice(price);
+            premium.setCurrency(currency);
+            resource.setPremium(premium);
+        }
+        reviews.setUnique(uniqueReviews);
+        reviews.setTotal(totalReviews);
+        stats.setDownloads(downloads);
+        stats.setUpdates(updates);
+        stats.setReviews(reviews);
+        stats.setRating(rating);
+        resource.setStats(stats);
+        resource.setExternalDownloadUrl(externalDownloadUrl);
+        resource.setDescription(description);
+        return resource;
+    }
+
+    private static long[] toBitset(List<String> supported, StringDictionary versions) {
+        if (supported == null || supported.isEmpty()) {
+            return new long[0];
+        }
+        int[] indexes = new int[supported.size()];
+        int max = -1;
+
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = versions.intern(supported.get(i));
+            max = Math.max(max, indexes[i]);
+        }
+        long[] bits = new long[(max >>> 6) + 1];
+
+        for (int index : indexes) {
+            if (index >= 0) {
+                bits[index >>> 6] |= 1L << index;
+            }
+        }
+        return bits;
+    }
+}
@@ -0,0 +1,170 @@
+package de.jonahd345.xenfororesourcemanagerapi.catalog;
+
+import java.util.Arrays;
+
+/**
+ * A set of resource IDs, stored as a sorted primitive array.
+ * Membership is checked with a binary search and the IDs are iterated in ascending order.
+ * <br>
+ * Single adds and removes shift the array. Many changes at once are deferred with {@link #deferAdd(int)} and
+ * {@link #deferRemove(int)} and applied by {@link #flush()} in one pass, so a bulk load is not quadratic.
+ * It is not thread-safe.
+ */
+class IdSet {
+    private static final int[] EMPTY = new int[0];
+
+    private int[] ids = new int[4];
+
+    private int size;
+
+    private int sortedSize;
+
+    private int[] removed = EMPTY;
+
+    private int removedCount;
+
+    /**
+     * Adds an ID.
+     *
+     * @param id the ID
+     */
+    void add(int id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+
+        if (index >= 0) {
+            return;
+        }
+        index = -index - 1;
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        System.arraycopy(ids, index, ids, index + 1, size - index);
+        ids[index] = id;
+        size++;
+        sortedSize = size;
+    }
+
+    /**
+     * Removes an ID.
+     *
+     * @param id the ID
+     */
+    void remove(int id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+
+        if (index < 0) {
+            return;
+        }
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        size--;
+        sortedSize = size;
+    }
+
+    /**
+     * Adds an ID once {@link #flush()} is called. Until then the set must not be read or changed otherwise.
+     *
+     * @param id the ID
+     */
+    void deferAdd(int id) {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        ids[size++] = id;
+    }
+
+    /**
+     * Removes an ID which was contained before the deferred changes once {@link #flush()} is called.
+     *
+     * @param id the ID
+     */
+    void deferRemove(int id) {
+        if (removedCount == removed.length) {
+            removed = Arrays.copyOf(removed, Math.max(4, removedCount * 2));
+        }
+        removed[removedCount++] = id;
+    }
+
+    /**
+     * Checks whether there are deferred changes.
+     *
+     * @return {@code true} if {@link #flush()} has to be called
+     */
+    boolean isDirty() {
+        return sortedSize != size || removedCount > 0;
+    }
+
+    /**
+     * Applies the deferred changes: the removals are filtered out of the sorted IDs,
+     * and the added IDs are sorted and merged into them.
+     */
+    void flush() {
+        int added = size - sortedSize;
+        int kept = sortedSize;
+
+        if (removedCount > 0) {
+            Arrays.sort(removed, 0, removedCount);
+            kept = 0;
+            for (int i = 0; i < sortedSize; i++) {
+                if (Arrays.binarySearch(removed, 0, removedCount, ids[i]) < 0) {
+                    ids[kept++] = ids[i];
+                }
+            }
+            removed = EMPTY;
+            removedCount = 0;
+        }
+        if (added > 0) {
+            int[] tail = Arrays.copyOfRange(ids, sortedSize, size);
+
+            Arrays.sort(tail);
+            // merges from the back, so the sorted IDs are never overwritten before they are moved
+            int i = kept - 1;
+            int j = added - 1;
+
+            for (int k = kept + added - 1; j >= 0; k--) {
+                ids[k] = i >= 0 && ids[i] > tail[j] ? ids[i--] : tail[j--];
+            }
+            kept = dedupe(ids, kept + added);
+        }
+        size = kept;
+        sortedSize = kept;
+    }
+
+    /**
+     * Checks whether an ID is contained.
+     *
+     * @param id the ID
+     * @return {@code true} if the set contains the ID
+     */
+    boolean contains(int id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    /**
+     * Returns the number of IDs.
+     *
+     * @return the size of the set
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the IDs.
+     *
+     * @return a new array of the IDs in ascending order
+     */
+    int[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    private static int dedupe(int[] values, int length) {
+        int count = Math.min(1, length);
+
+        for (int i = 1; i < length; i++) {
+            if (values[i] != values[count - 1]) {
+                values[count++] = values[i];
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,154 @@
+package de.jonahd345.xenfororesourcemanagerapi.catalog;
+
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+/**
+ * A map from primitive int keys to objects with open addressing, so no boxed keys or entry objects are allocated.
+ * It is not thread-safe.
+ *
+ * @param <V> the type of the values
+ */
+class IntObjectMap<V> {
+    private int[] keys = new int[16];
+
+    private Object[] values = new Object[16];
+
+    private boolean[] used = new boolean[16];
+
+    private int size;
+
+    /**
+     * Returns the value of a key.
+     *
+     * @param key the key
+     * @return the value, which can be null if the key is not contained
+     */
+    @SuppressWarnings("unchecked")
+    V get(int key) {
+        int index = slot(key, keys, used);
+
+        return used[index] ? (V) values[index] : null;
+    }
+
+    /**
+     * Returns the value of a key, creating it if the key is not contained.
+     *
+     * @param key the key
+     * @param factory the function creating the value
+     * @return the existing or created value
+     */
+    @SuppressWarnings("unchecked")
+    V computeIfAbsent(int key, IntFunction<V> factory) {
+        int index = slot(key, keys, used);
+
+        if (used[index]) {
+            return (V) values[index];
+        }
+        V value = factory.apply(key);
+
+        put(key, value);
+        return value;
+    }
+
+    /**
+     * Sets the value of a key.
+     *
+     * @param key the key
+     * @param value the value
+     */
+    void put(int key, V value) {
+        if ((size + 1) * 4 > keys.length * 3) {
+            resize(keys.length * 2);
+        }
+        int index = slot(key, keys, used);
+
+        if (!used[index]) {
+            used[index] = true;
+            keys[index] = key;
+            size++;
+        }
+        values[index] = value;
+    }
+
+    /**
+     * Removes a key.
+     *
+     * @param key the key
+     */
+    void remove(int key) {
+        int index = slot(key, keys, used);
+
+        if (!used[index]) {
+            return;
+        }
+        int mask = keys.length - 1;
+
+        // backward shift deletion keeps every probe sequence free of holes
+        for (int next = (index + 1) & mask; used[next]; next = (next + 1) & mask) {
+            int home = hash(keys[next]) & mask;
+
+            if (((next - home) & mask) >= ((next - index) & mask)) {
+                keys[index] = keys[next];
+                values[index] = values[next];
+                index = next;
+            }
+        }
+        used[index] = false;
+        values[index] = null;
+        size--;
+    }
+
+    /**
+     * Removes all keys.
+     */
+    void clear() {
+        Arrays.fill(used, false);
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Returns the number of keys.
+     *
+     * @return the size of the map
+     */
+    int size() {
+        return size;
+    }
+
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        boolean[] oldUsed = used;
+
+        keys = new int[capacity];
+        values = new Object[capacity];
+        used = new boolean[capacity];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldUsed[i]) {
+                int index = slot(oldKeys[i], keys, used);
+
+                used[index] = true;
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private static int slot(int key, int[] keys, boolean[] used) {
+        int mask = keys.length - 1;
+        int index = hash(key) & mask;
+
+        while (used[index] && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private static int hash(int key) {
+        int h = key * 0x9E3779B9;
+
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,164 @@
+package de.jonahd345.xenfororesourcemanagerapi.catalog;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * A column of resource IDs sorted by one of their stats.
+ * Each entry packs the sortable value and the ID into one {@code long}, so the column is a single primitive array
+ * which is updated with a binary search and read from the top for top-K queries.
+ * <br>
+ * Like {@link IdSet}, many changes at once are deferred and applied by {@link #flush()} in one pass.
+ * It is not thread-safe.
+ */
+class SortedColumn {
+    private static final long[] EMPTY = new long[0];
+
+    private long[] entries = new long[16];
+
+    private int size;
+
+    private int sortedSize;
+
+    private long[] removed = EMPTY;
+
+    private int removedCount;
+
+    /**
+     * Adds an ID with its value.
+     *
+     * @param id the resource ID
+     * @param key the sortable value
+     */
+    void add(int id, int key) {
+        long entry = pack(id, key);
+        int index = Arrays.binarySearch(entries, 0, size, entry);
+
+        if (index >= 0) {
+            return;
+        }
+        index = -index - 1;
+        if (size == entries.length) {
+            entries = Arrays.copyOf(entries, size * 2);
+        }
+        System.arraycopy(entries, index, entries, index + 1, size - index);
+        entries[index] = entry;
+        size++;
+        sortedSize = size;
+    }
+
+    /**
+     * Removes an ID with the value it was added with.
+     *
+     * @param id the resource ID
+     * @param key the sortable value
+     */
+    void remove(int id, int key) {
+        int index = Arrays.binarySearch(entries, 0, size, pack(id, key));
+
+        if (index < 0) {
+            return;
+        }
+        System.arraycopy(entries, index + 1, entries, index, size - index - 1);
+        size--;
+        sortedSize = size;
+    }
+
+    /**
+     * Adds an ID with its value once {@link #flush()} is called. Until then the column must not be read or changed otherwise.
+     *
+     * @param id the resource ID
+     * @param key the sortable value
+     */
+    void deferAdd(int id, int key) {
+        if (size == entries.length) {
+            entries = Arrays.copyOf(entries, size * 2);
+        }
+        entries[size++] = pack(id, key);
+    }
+
+    /**
+     * Removes an ID with the value it was added with before the deferred changes once {@link #flush()} is called.
+     *
+     * @param id the resource ID
+     * @param key the sortable value
+     */
+    void deferRemove(int id, int key) {
+        if (removedCount == removed.length) {
+            removed = Arrays.copyOf(removed, Math.max(4, removedCount * 2));
+        }
+        removed[removedCount++] = pack(id, key);
+    }
+
+    /**
+     * Applies the deferred changes: the removals are filtered out of the sorted entries,
+     * and the added entries are sorted and merged into them.
+     */
+    void flush() {
+        int added = size - sortedSize;
+        int kept = sortedSize;
+
+        if (removedCount > 0) {
+            Arrays.sort(removed, 0, removedCount);
+            kept = 0;
+            for (int i = 0; i < sortedSize; i++) {
+                if (Arrays.binarySearch(removed, 0, removedCount, entries[i]) < 0) {
+                    entries[kept++] = entries[i];
+                }
+            }
+            removed = EMPTY;
+            removedCount = 0;
+        }
+        if (added > 0) {
+            long[] tail = Arrays.copyOfRange(entries, sortedSize, size);
+
+            Arrays.sort(tail);
+            // merges from the back, so the sorted entries are never overwritten before they are moved
+            int i = kept - 1;
+            int j = added - 1;
+
+            for (int k = kept + added - 1; j >= 0; k--) {
+                entries[k] = i >= 0 && entries[i] > tail[j] ? entries[i--] : tail[j--];
+            }
+            kept = dedupe(entries, kept + added);
+        }
+        size = kept;
+        sortedSize = kept;
+    }
+
+    /**
+     * Returns the IDs with the highest values which match the filter.
+     *
+     * @param limit the maximum number of IDs
+     * @param filter the filter of the IDs, which can be null to accept every ID
+     * @return the IDs in descending order of their values
+     */
+    int[] top(int limit, IntPredicate filter) {
+        int[] result = new int[Math.max(0, Math.min(limit, size))];
+        int count = 0;
+
+        for (int i = size - 1; i >= 0 && count < result.length; i--) {
+            int id = (int) entries[i];
+
+            if (filter == null || filter.test(id)) {
+                result[count++] = id;
+            }
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    private static int dedupe(long[] values, int length) {
+        int count = Math.min(1, length);
+
+        for (int i = 1; i < length; i++) {
+            if (values[i] != values[count - 1]) {
+                values[count++] = values[i];
+            }
+        }
+        return count;
+    }
+
+    private static long pack(int id, int key) {
+        return (long) key << 32 | (id & 0xffffffffL);
+    }
+}
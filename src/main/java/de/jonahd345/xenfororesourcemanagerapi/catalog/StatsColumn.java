@@ -0,0 +1,40 @@
+package de.jonahd345.xenfororesourcemanagerapi.catalog;
+
+/**
+ * The stats of a resource which are kept sorted by a {@link CatalogIndex} for top-K queries.
+ */
+public enum StatsColumn {
+    /**
+     * The number of downloads.
+     */
+    DOWNLOADS,
+
+    /**
+     * The rating.
+     */
+    RATING,
+
+    /**
+     * The number of updates.
+     */
+    UPDATES;
+
+    /**
+     * Returns the value of this column as an int which sorts like the value.
+     *
+     * @param resource the resource
+     * @return the sortable value
+     */
+    int sortKey(CompactResource resource) {
+        switch (this) {
+            case DOWNLOADS:
+                return resource.getDownloads();
+            case RATING:
+                int bits = Float.floatToIntBits((float) resource.getRating());
+
+                return bits ^ ((bits >> 31) & 0x7fffffff);
+            default:
+                return resource.getUpdates();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package de.jonahd345.xenfororesourcemanagerapi.catalog;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A dictionary which assigns every distinct string a small index, so repeated strings are stored only once
+ * and can be referenced by their index, e.g. in a bitset.
+ * <br>
+ * Strings are never removed, so the dictionary is meant for values with few distinct strings like Minecraft versions or currencies.
+ * Lookups by index do not lock, interning new strings is synchronized.
+ */
+public class StringDictionary {
+    private final Map<String, Integer> indexes = new HashMap<>();
+
+    private volatile String[] values = new String[16];
+
+    private volatile int size;
+
+    /**
+     * Returns the index of a string, adding it to the dictionary if it is not contained yet.
+     *
+     * @param value the string
+     * @return the index of the string, or {@code -1} if the string is null
+     */
+    public synchronized int intern(String value) {
+        if (value == null) {
+            return -1;
+        }
+        Integer index = indexes.get(value);
+
+        if (index != null) {
+            return index;
+        }
+        int next = size;
+
+        if (next == values.length) {
+            values = Arrays.copyOf(values, next * 2);
+        }
+        values[next] = value;
+        indexes.put(value, next);
+        // publishes the new string to the unsynchronized reads of get
+        size = next + 1;
+        return next;
+    }
+
+    /**
+     * Returns the shared instance of a string, adding it to the dictionary if it is not contained yet.
+     *
+     * @param value the string
+     * @return the equal string held by the dictionary, which is null if the string is null
+     */
+    public String canonical(String value) {
+        return value == null ? null : get(intern(value));
+    }
+
+    /**
+     * Returns the index of a string without adding it.
+     *
+     * @param value the string
+     * @return the index of the string, or {@code -1} if it is not contained
+     */
+    public synchronized int indexOf(String value) {
+        Integer index = value != null ? indexes.get(value) : null;
+
+        return index != null ? index : -1;
+    }
+
+    /**
+     * Returns the string of an index.
+     *
+     * @param index the index
+     * @return the string, which is null if the index is negative or not assigned
+     */
+    public String get(int index) {
+        if (index < 0 || index >= size) {
+            return null;
+        }
+        return values[index];
+    }
+
+    /**
+     * Returns the number of strings in the dictionary.
+     *
+     * @return the number of distinct strings
+     */
+    public int size() {
+        return size;
+    }
+}
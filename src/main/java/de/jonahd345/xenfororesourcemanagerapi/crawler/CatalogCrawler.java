@@ -0,0 +1,255 @@
+package de.jonahd345.xenfororesourcemanagerapi.crawler;
+
+import de.jonahd345.xenfororesourcemanagerapi.XenforoResourceManagerAPI;
+import de.jonahd345.xenfororesourcemanagerapi.json.Projection;
+import de.jonahd345.xenfororesourcemanagerapi.model.Category;
+import de.jonahd345.xenfororesourcemanagerapi.model.Resource;
+import lombok.Builder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+
+/**
+ * Crawls the complete resource catalog with bounded concurrency.
+ * Pages are fetched concurrently across all categories and across page ranges within a category.
+ * Once a category returns an empty page its last page is known and no further pages of it are requested.
+ * <br>
+ * Pages are delivered to the {@link CrawlListener} either in page order per category or as soon as they arrive.
+ * The returned {@link CrawlCheckpoint} can be used to resume an interrupted or failed crawl.
+ */
+public class CatalogCrawler {
+    private final XenforoResourceManagerAPI api;
+
+    private final int maxConcurrency;
+
+    private final int maxPagesPerCategory;
+
+    private final boolean ordered;
+
+    private final CrawlListener listener;
+
+    private final ExecutorService executorService;
+
+    private final Projection projection;
+
+    /**
+     * Constructor used by {@link #builder()} to initialize the crawler.
+     *
+     * @param api the API client used to fetch the pages
+     * @param maxConcurrency the maximum number of pages fetched at the same time, {@code 8} if null
+     * @param maxPagesPerCategory the maximum number of pages of one category fetched at the same time, {@code maxConcurrency} if null
+     * @param ordered whether pages are delivered in page order per category instead of as soon as they arrive
+     * @param listener the listener receiving the pages and the progress
+     * @param executorService the executor service the listener is called on, the executor service of the API client if null
+     * @param projection the fields of the resources to decode, {@link Projection#FULL} if null
+     */
+    @Builder
+    private CatalogCrawler(XenforoResourceManagerAPI api, Integer maxConcurrency, Integer maxPagesPerCategory, boolean ordered,
+                           CrawlListener listener, ExecutorService executorService, Projection projection) {
+        if (api == null || listener == null) {
+            throw new IllegalArgumentException("The API client and the listener must not be null.");
+        }
+        this.api = api;
+        this.maxConcurrency = maxConcurrency != null ? Math.max(1, maxConcurrency) : 8;
+        this.maxPagesPerCategory = maxPagesPerCategory != null ? Math.max(1, maxPagesPerCategory) : this.maxConcurrency;
+        this.ordered = ordered;
+        this.listener = listener;
+        this.executorService = executorService != null ? executorService : api.getExecutorService();
+        this.projection = projection != null ? projection : Projection.FULL;
+    }
+
+    /**
+     * Crawls all categories from the start.
+     *
+     * @return a CompletableFuture containing the final {@link CrawlCheckpoint}, completed once every category was crawled
+     */
+    public CompletableFuture<CrawlCheckpoint> crawl() {
+        return crawl(new CrawlCheckpoint());
+    }
+
+    /**
+     * Crawls all categories, resuming from the given checkpoint.
+     *
+     * @param checkpoint the checkpoint of a previous crawl
+     * @return a CompletableFuture containing the final {@link CrawlCheckpoint}, completed once every category was crawled
+     */
+    public CompletableFuture<CrawlCheckpoint> crawl(CrawlCheckpoint checkpoint) {
+        return api.listResourceCategoriesAsync(executorService).thenCompose(categories -> {
+            if (categories == null) {
+                throw new IllegalStateException("The resource categories could not be fetched.");
+            }
+            return crawl(categories.stream().map(Category::getId).collect(Collectors.toList()), checkpoint);
+        });
+    }
+
+    /**
+     * Crawls the given categories, resuming from the given checkpoint.
+     * Categories which are marked as completed in the checkpoint are skipped.
+     *
+     * @param categoryIds the IDs of the categories to crawl
+     * @param checkpoint the checkpoint of a previous crawl
+     * @return a CompletableFuture containing the final {@link CrawlCheckpoint}, completed once every category was crawled.
+     *         On failure the checkpoint of the last {@link CrawlProgress} can be used to resume.
+     */
+    public CompletableFuture<CrawlCheckpoint> crawl(Collection<Integer> categoryIds, CrawlCheckpoint checkpoint) {
+        return new Run(categoryIds, checkpoint.copy()).start();
+    }
+
+    private class Run {
+        private final List<CategoryState> active = new ArrayList<>();
+
+        private final CrawlCheckpoint checkpoint;
+
+        private final CompletableFuture<CrawlCheckpoint> result = new CompletableFuture<>();
+
+        private final int categories;
+
+        private int completedCategories;
+
+        private long pages;
+
+        private long resources;
+
+        private int inFlight;
+
+        private int cursor;
+
+        private Run(Collection<Integer> categoryIds, CrawlCheckpoint checkpoint) {
+            this.checkpoint = checkpoint;
+            for (int categoryId : categoryIds) {
+                if (!checkpoint.getCompletedCategories().contains(categoryId)) {
+                    active.add(new CategoryState(categoryId, checkpoint.getNextPage(categoryId)));
+                }
+            }
+            this.categories = categoryIds.size();
+            this.completedCategories = categories - active.size();
+        }
+
+        private synchronized CompletableFuture<CrawlCheckpoint> start() {
+            pump();
+            completeIfDone();
+            return result;
+        }
+
+        /**
+         * Schedules pages round-robin over the active categories until the concurrency limit is reached.
+         */
+        private void pump() {
+            while (!result.isDone() && inFlight < maxConcurrency) {
+                CategoryState state = nextSchedulable();
+
+                if (state == null) {
+                    return;
+                }
+                int page = state.nextToSchedule++;
+
+                state.inFlight++;
+                inFlight++;
+                api.listResourcesAsync(state.categoryId, page, projection, executorService)
+                        .whenCompleteAsync((list, throwable) -> onPage(state, page, list, throwable), executorService);
+            }
+        }
+
+        private CategoryState nextSchedulable() {
+            for (int i = 0; i < active.size(); i++) {
+                CategoryState state = active.get((cursor + i) % active.size());
+
+                if (state.nextToSchedule <= state.lastPage && state.inFlight < maxPagesPerCategory) {
+                    cursor = (cursor + i + 1) % active.size();
+                    return state;
+                }
+            }
+            return null;
+        }
+
+        private synchronized void onPage(CategoryState state, int page, List<Resource> list, Throwable throwable) {
+            state.inFlight--;
+            inFlight--;
+            if (result.isDone()) {
+                return;
+            }
+            if (throwable != null) {
+                result.completeExceptionally(throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable);
+                return;
+            }
+            if (list == null) {
+                // an error response, e.g. a 5xx or a 429 after the retries, must not be mistaken for the end of the category
+                result.completeExceptionally(new IllegalStateException("Page " + page + " of category " + state.categoryId + " could not be fetched."));
+                return;
+            }
+            try {
+                if (list.isEmpty()) {
+                    state.lastPage = Math.min(state.lastPage, page - 1);
+                } else if (page <= state.lastPage) {
+                    pages++;
+                    resources += list.size();
+                    if (!ordered) {
+                        listener.onPage(state.categoryId, page, list);
+                    }
+                    state.completed.put(page, ordered ? list : Collections.emptyList());
+                }
+                deliver(state);
+                listener.onProgress(new CrawlProgress(categories, completedCategories, pages, resources, checkpoint.copy()));
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+                return;
+            }
+            pump();
+            completeIfDone();
+        }
+
+        /**
+         * Delivers all contiguous pages of a category and advances its checkpoint.
+         */
+        private void deliver(CategoryState state) {
+            while (state.completed.containsKey(state.nextToDeliver)) {
+                List<Resource> list = state.completed.remove(state.nextToDeliver);
+
+                if (ordered) {
+                    listener.onPage(state.categoryId, state.nextToDeliver, list);
+                }
+                state.nextToDeliver++;
+                checkpoint.getNextPages().put(state.categoryId, state.nextToDeliver);
+            }
+            if (state.nextToDeliver > state.lastPage && state.inFlight == 0) {
+                active.remove(state);
+                completedCategories++;
+                checkpoint.getCompletedCategories().add(state.categoryId);
+                listener.onCategoryComplete(state.categoryId, state.lastPage);
+            }
+        }
+
+        private void completeIfDone() {
+            if (active.isEmpty() && inFlight == 0) {
+                result.complete(checkpoint.copy());
+            }
+        }
+    }
+
+    private static class CategoryState {
+        private final int categoryId;
+
+        private final TreeMap<Integer, List<Resource>> completed = new TreeMap<>();
+
+        private int nextToSchedule;
+
+        private int nextToDeliver;
+
+        private int lastPage = Integer.MAX_VALUE;
+
+        private int inFlight;
+
+        private CategoryState(int categoryId, int firstPage) {
+            this.categoryId = categoryId;
+            this.nextToSchedule = firstPage;
+            this.nextToDeliver = firstPage;
+        }
+    }
+}
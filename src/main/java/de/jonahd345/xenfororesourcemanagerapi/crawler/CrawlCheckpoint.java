@@ -0,0 +1,49 @@
+package de.jonahd345.xenfororesourcemanagerapi.crawler;
+
+import lombok.Data;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Represents a resumable checkpoint of a {@link CatalogCrawler}.
+ * For every category it holds the first page which was not delivered yet, all pages before it were delivered.
+ * The checkpoint is a plain data object and can be persisted, e.g. with Gson.
+ */
+@Data
+public class CrawlCheckpoint {
+    /**
+     * The next page to deliver per category ID.
+     */
+    private final Map<Integer, Integer> nextPages = new HashMap<>();
+
+    /**
+     * The IDs of the categories whose pages were all delivered.
+     */
+    private final Set<Integer> completedCategories = new HashSet<>();
+
+    /**
+     * Returns the next page to deliver of the given category.
+     *
+     * @param categoryId the category ID
+     * @return the page number, {@code 1} if the category was not crawled yet
+     */
+    public int getNextPage(int categoryId) {
+        return nextPages.getOrDefault(categoryId, 1);
+    }
+
+    /**
+     * Creates a copy of this checkpoint.
+     *
+     * @return a new {@link CrawlCheckpoint} with the same state
+     */
+    public CrawlCheckpoint copy() {
+        CrawlCheckpoint copy = new CrawlCheckpoint();
+
+        copy.nextPages.putAll(nextPages);
+        copy.completedCategories.addAll(completedCategories);
+        return copy;
+    }
+}
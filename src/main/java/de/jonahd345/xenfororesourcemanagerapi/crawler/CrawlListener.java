@@ -0,0 +1,35 @@
+package de.jonahd345.xenfororesourcemanagerapi.crawler;
+
+import de.jonahd345.xenfororesourcemanagerapi.model.Resource;
+
+import java.util.List;
+
+/**
+ * Receives the results and the progress of a {@link CatalogCrawler}.
+ * Calls are serialized, so implementations do not need to be thread-safe.
+ */
+public interface CrawlListener {
+    /**
+     * Called for every fetched page of a category.
+     *
+     * @param categoryId the category ID
+     * @param page the page number
+     * @param resources the {@link Resource} on the page, never empty
+     */
+    void onPage(int categoryId, int page, List<Resource> resources);
+
+    /**
+     * Called after every fetched page.
+     *
+     * @param progress the current progress of the crawl
+     */
+    default void onProgress(CrawlProgress progress) {}
+
+    /**
+     * Called once the last page of a category is known and all its pages were delivered.
+     *
+     * @param categoryId the category ID
+     * @param lastPage the last page which contained resources, {@code 0} if the category is empty
+     */
+    default void onCategoryComplete(int categoryId, int lastPage) {}
+}
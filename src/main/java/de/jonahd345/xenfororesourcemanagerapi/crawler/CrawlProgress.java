@@ -0,0 +1,34 @@
+package de.jonahd345.xenfororesourcemanagerapi.crawler;
+
+import lombok.Data;
+
+/**
+ * Represents the progress of a {@link CatalogCrawler}.
+ */
+@Data
+public class CrawlProgress {
+    /**
+     * The number of categories which are crawled.
+     */
+    private final int categories;
+
+    /**
+     * The number of categories whose pages were all delivered.
+     */
+    private final int completedCategories;
+
+    /**
+     * The number of fetched pages which contained resources.
+     */
+    private final long pages;
+
+    /**
+     * The number of fetched resources.
+     */
+    private final long resources;
+
+    /**
+     * A checkpoint of the delivered pages, which can be used to resume the crawl if it fails later.
+     */
+    private final CrawlCheckpoint checkpoint;
+}
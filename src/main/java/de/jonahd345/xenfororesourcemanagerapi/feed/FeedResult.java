@@ -0,0 +1,34 @@
+package de.jonahd345.xenfororesourcemanagerapi.feed;
+
+import lombok.Data;
+
+/**
+ * Represents the result of one poll of an {@link UpdateFeed}.
+ */
+@Data
+public class FeedResult {
+    /**
+     * The number of polled resources.
+     */
+    private final int polled;
+
+    /**
+     * The number of fetched pages.
+     */
+    private final int pages;
+
+    /**
+     * The number of new updates which were delivered.
+     */
+    private final int updates;
+
+    /**
+     * The number of resources whose poll failed.
+     */
+    private final int failures;
+
+    /**
+     * The time of the next due poll in epoch milliseconds, {@link Long#MAX_VALUE} if no resource is polled.
+     */
+    private final long nextPollAt;
+}
@@ -0,0 +1,27 @@
+package de.jonahd345.xenfororesourcemanagerapi.feed;
+
+import lombok.Data;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Represents the state of an {@link UpdateFeed}, the {@link UpdateWatermark} of every polled resource.
+ * The state is a plain data object and can be persisted between runs, e.g. with Gson.
+ */
+@Data
+public class FeedState {
+    /**
+     * The watermarks by resource ID.
+     */
+    private final ConcurrentHashMap<Integer, UpdateWatermark> watermarks = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the watermark of a resource.
+     *
+     * @param resourceId the ID of the resource
+     * @return the {@link UpdateWatermark}, which can be null if the resource was never polled
+     */
+    public UpdateWatermark getWatermark(int resourceId) {
+        return watermarks.get(resourceId);
+    }
+}
@@ -0,0 +1,265 @@
+package de.jonahd345.xenfororesourcemanagerapi.feed;
+
+import de.jonahd345.xenfororesourcemanagerapi.XenforoResourceManagerAPI;
+import de.jonahd345.xenfororesourcemanagerapi.json.Projection;
+import de.jonahd345.xenfororesourcemanagerapi.model.Update;
+import de.jonahd345.xenfororesourcemanagerapi.util.AsyncSemaphore;
+import de.jonahd345.xenfororesourcemanagerapi.util.Futures;
+import lombok.Builder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * Polls the updates of many resources and delivers only the updates which were not seen before.
+ * The highest seen update ID of every resource is kept as its {@link UpdateWatermark}, so a poll stops paginating
+ * as soon as it reaches a known update, usually after the first page.
+ * <br>
+ * Every resource is polled at its own interval, which is halved whenever new updates are found and grows
+ * while there are none, so frequently released resources are polled often and abandoned ones rarely.
+ * The first poll of a resource only records its watermark, the existing updates are not delivered unless {@code deliverInitial} is set.
+ */
+public class UpdateFeed {
+    private final XenforoResourceManagerAPI api;
+
+    private final UpdateListener listener;
+
+    private final int maxConcurrency;
+
+    private final int maxPages;
+
+    private final long minInterval;
+
+    private final long maxInterval;
+
+    private final double backoff;
+
+    private final boolean deliverInitial;
+
+    private final Projection projection;
+
+    private final ExecutorService executorService;
+
+    private final Clock clock;
+
+    private final Set<Integer> polling = ConcurrentHashMap.newKeySet();
+
+    private final Logger logger = Logger.getLogger(UpdateFeed.class.getName());
+
+    /**
+     * Constructor used by {@link #builder()} to initialize the feed.
+     *
+     * @param api the API client used to fetch the updates
+     * @param listener the listener receiving the new updates
+     * @param maxConcurrency the maximum number of resources polled at the same time, {@code 4} if null
+     * @param maxPages the maximum number of pages fetched per resource and poll, {@code 5} if null
+     * @param minInterval the shortest polling interval of a resource, 5 minutes if null
+     * @param maxInterval the longest polling interval of a resource, 24 hours if null
+     * @param backoff the factor the interval grows by after a poll without new updates, {@code 1.5} if null
+     * @param deliverInitial whether the existing updates are delivered on the first poll of a resource
+     * @param projection the fields of the updates to decode, {@link Projection#FULL} if null
+     * @param executorService the executor service the updates are decoded and the listener is called on, the executor service of the API client if null
+     * @param clock the clock the polls are scheduled with, the system clock if null
+     */
+    @Builder
+    private UpdateFeed(XenforoResourceManagerAPI api, UpdateListener listener, Integer maxConcurrency, Integer maxPages,
+                       Duration minInterval, Duration maxInterval, Double backoff, boolean deliverInitial,
+                       Projection projection, ExecutorService executorService, Clock clock) {
+        if (api == null || listener == null) {
+            throw new IllegalArgumentException("The API client and the listener must not be null.");
+        }
+        this.api = api;
+        this.listener = listener;
+        this.maxConcurrency = maxConcurrency != null ? Math.max(1, maxConcurrency) : 4;
+        this.maxPages = maxPages != null ? Math.max(1, maxPages) : 5;
+        this.minInterval = minInterval != null ? Math.max(1, minInterval.toMillis()) : TimeUnit.MINUTES.toMillis(5);
+        this.maxInterval = Math.max(this.minInterval, maxInterval != null ? maxInterval.toMillis() : TimeUnit.HOURS.toMillis(24));
+        this.backoff = backoff != null ? Math.max(1, backoff) : 1.5;
+        this.deliverInitial = deliverInitial;
+        this.projection = projection != null ? projection : Projection.FULL;
+        this.executorService = executorService != null ? executorService : api.getExecutorService();
+        this.clock = clock != null ? clock : Clock.systemUTC();
+    }
+
+    /**
+     * Polls the resources which are due according to their interval, and every resource which was never polled.
+     *
+     * @param state the state of the feed, which is updated in place
+     * @param resourceIds the IDs of the followed resources
+     * @return a CompletableFuture containing the {@link FeedResult}, completed once every due resource was polled
+     */
+    public CompletableFuture<FeedResult> poll(FeedState state, Collection<Integer> resourceIds) {
+        return poll(state, resourceIds, false);
+    }
+
+    /**
+     * Polls every resource regardless of its interval.
+     *
+     * @param state the state of the feed, which is updated in place
+     * @param resourceIds the IDs of the followed resources
+     * @return a CompletableFuture containing the {@link FeedResult}, completed once every resource was polled
+     */
+    public CompletableFuture<FeedResult> pollAll(FeedState state, Collection<Integer> resourceIds) {
+        return poll(state, resourceIds, true);
+    }
+
+    /**
+     * Polls the due resources periodically until the returned future is cancelled.
+     * A poll is never started while the previous one is still running.
+     *
+     * @param state the state of the feed, which is updated in place
+     * @param resourceIds the IDs of the followed resources, which can be modified concurrently if the collection is thread-safe
+     * @param scheduler the scheduler triggering the polls
+     * @param tick the delay between the end of a poll and the check for due resources
+     * @return the {@link ScheduledFuture} of the periodic task
+     */
+    public ScheduledFuture<?> start(FeedState state, Collection<Integer> resourceIds, ScheduledExecutorService scheduler, Duration tick) {
+        return scheduler.scheduleWithFixedDelay(() -> poll(state, resourceIds).join(), 0, tick.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Polls the due resources under the concurrency limit.
+     */
+    private CompletableFuture<FeedResult> poll(FeedState state, Collection<Integer> resourceIds, boolean all) {
+        long now = clock.millis();
+        AsyncSemaphore semaphore = new AsyncSemaphore(maxConcurrency);
+        List<CompletableFuture<Void>> polls = new ArrayList<>();
+        AtomicInteger pages = new AtomicInteger();
+        AtomicInteger updates = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+
+        for (int resourceId : new ArrayList<>(resourceIds)) {
+            UpdateWatermark watermark = state.getWatermarks().get(resourceId);
+
+            if (!all && watermark != null && watermark.getNextPollAt() > now || !polling.add(resourceId)) {
+                continue;
+            }
+            UpdateWatermark current = watermark != null ? watermark : state.getWatermarks().computeIfAbsent(resourceId, id -> new UpdateWatermark());
+
+            polls.add(semaphore.acquire()
+                    .thenComposeAsync(ignored -> pollResource(resourceId, current, pages, updates), executorService)
+                    .handle((ignored, throwable) -> {
+                        try {
+                            if (throwable != null) {
+                                failures.incrementAndGet();
+                                onFailure(resourceId, current, Futures.unwrap(throwable));
+                            }
+                        } finally {
+                            polling.remove(resourceId);
+                            semaphore.release();
+                        }
+                        return null;
+                    }));
+        }
+        return CompletableFuture.allOf(polls.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> new FeedResult(polls.size(), pages.get(), updates.get(), failures.get(), nextPollAt(state, resourceIds)));
+    }
+
+    /**
+     * Fetches the pages of one resource until a known update is reached and delivers the new updates.
+     */
+    private CompletableFuture<Void> pollResource(int resourceId, UpdateWatermark watermark, AtomicInteger pages, AtomicInteger updates) {
+        List<Update> found = new ArrayList<>();
+        boolean initial = !watermark.isPolled();
+
+        return fetchPages(resourceId, 1, watermark.getLastUpdateId(), initial && !deliverInitial ? 1 : maxPages, found, pages)
+                .thenAccept(ignored -> {
+                    long now = clock.millis();
+                    long interval = watermark.getInterval() > 0 ? watermark.getInterval() : minInterval;
+
+                    found.sort(Comparator.comparingInt(Update::getId));
+                    // deliver before advancing the watermark, so updates are redelivered if the listener fails
+                    if (!found.isEmpty() && (!initial || deliverInitial)) {
+                        listener.onUpdates(resourceId, found);
+                        updates.addAndGet(found.size());
+                    }
+                    if (!found.isEmpty()) {
+                        watermark.setLastUpdateId(found.get(found.size() - 1).getId());
+                    }
+                    if (!found.isEmpty() && !initial) {
+                        watermark.setLastReleaseAt(now);
+                        interval = Math.max(minInterval, interval / 2);
+                    } else if (!initial) {
+                        interval = Math.min(maxInterval, (long) (interval * backoff));
+                    }
+                    watermark.setPolled(true);
+                    watermark.setInterval(interval);
+                    watermark.setNextPollAt(now + interval);
+                    watermark.setFailures(0);
+                });
+    }
+
+    /**
+     * Fetches the next page if every update of the current page is newer than the watermark.
+     * A page which cannot be fetched fails the poll of the resource, so its watermark is kept.
+     */
+    private CompletableFuture<Void> fetchPages(int resourceId, int page, int lastUpdateId, int maxPages, List<Update> found, AtomicInteger pages) {
+        return api.getResourceUpdatesAsync(resourceId, page, projection, executorService).thenCompose(list -> {
+            pages.incrementAndGet();
+            if (list == null) {
+                // an error response must not be mistaken for the end of the updates, or the updates of this page are skipped
+                return CompletableFuture.failedFuture(new IllegalStateException("Page " + page + " of the updates of resource " + resourceId + " could not be fetched."));
+            }
+            if (list.isEmpty()) {
+                return CompletableFuture.completedFuture(null);
+            }
+            boolean reachedKnown = false;
+
+            for (Update update : list) {
+                if (update.getId() > lastUpdateId) {
+                    found.add(update);
+                } else {
+                    reachedKnown = true;
+                }
+            }
+            if (reachedKnown || page >= maxPages) {
+                return CompletableFuture.completedFuture(null);
+            }
+            return fetchPages(resourceId, page + 1, lastUpdateId, maxPages, found, pages);
+        });
+    }
+
+    /**
+     * Keeps the watermark of a failed resource and polls it again after its current interval.
+     */
+    private void onFailure(int resourceId, UpdateWatermark watermark, Throwable throwable) {
+        long interval = watermark.getInterval() > 0 ? watermark.getInterval() : minInterval;
+
+        watermark.setInterval(interval);
+        watermark.setNextPollAt(clock.millis() + interval);
+        watermark.setFailures(watermark.getFailures() + 1);
+        try {
+            listener.onFailure(resourceId, throwable);
+        } catch (RuntimeException e) {
+            // a throwing listener must not fail the whole poll, which would end the periodic task of start
+            logger.warning("Failed by update listener at onFailure of resource: " + resourceId + "\nException: " + e);
+        }
+    }
+
+    /**
+     * Returns the time of the next due poll of the given resources.
+     */
+    private static long nextPollAt(FeedState state, Collection<Integer> resourceIds) {
+        long next = Long.MAX_VALUE;
+
+        for (int resourceId : resourceIds) {
+            UpdateWatermark watermark = state.getWatermarks().get(resourceId);
+
+            next = Math.min(next, watermark != null ? watermark.getNextPollAt() : 0);
+        }
+        return next;
+    }
+}
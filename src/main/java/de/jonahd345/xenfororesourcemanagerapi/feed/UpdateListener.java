@@ -0,0 +1,27 @@
+package de.jonahd345.xenfororesourcemanagerapi.feed;
+
+import de.jonahd345.xenfororesourcemanagerapi.model.Update;
+
+import java.util.List;
+
+/**
+ * Receives the new updates found by an {@link UpdateFeed}.
+ * Calls for different resources can happen concurrently, calls for the same resource never do.
+ */
+public interface UpdateListener {
+    /**
+     * Called with the updates of a resource which were released since the last poll.
+     *
+     * @param resourceId the ID of the resource
+     * @param updates the new updates, oldest first
+     */
+    void onUpdates(int resourceId, List<Update> updates);
+
+    /**
+     * Called when a poll of a resource failed. The resource is polled again after its current interval.
+     *
+     * @param resourceId the ID of the resource
+     * @param throwable the cause of the failure
+     */
+    default void onFailure(int resourceId, Throwable throwable) {}
+}
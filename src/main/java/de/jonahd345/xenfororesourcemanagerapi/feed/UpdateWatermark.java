@@ -0,0 +1,39 @@
+package de.jonahd345.xenfororesourcemanagerapi.feed;
+
+import lombok.Data;
+
+/**
+ * Represents the polling state of one resource in an {@link UpdateFeed}.
+ */
+@Data
+public class UpdateWatermark {
+    /**
+     * Whether the resource was polled successfully at least once, so later polls deliver every new update.
+     */
+    private boolean polled;
+
+    /**
+     * The highest update ID which was seen, {@code 0} if the resource was never polled or has no updates yet.
+     */
+    private int lastUpdateId;
+
+    /**
+     * The current polling interval in milliseconds.
+     */
+    private long interval;
+
+    /**
+     * The time of the next poll in epoch milliseconds.
+     */
+    private long nextPollAt;
+
+    /**
+     * The time of the last poll which found new updates in epoch milliseconds, {@code 0} if there was none.
+     */
+    private long lastReleaseAt;
+
+    /**
+     * The number of consecutive failed polls.
+     */
+    private int failures;
+}
@@ -0,0 +1,64 @@
+package de.jonahd345.xenfororesourcemanagerapi.json;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import de.jonahd345.xenfororesourcemanagerapi.model.Author;
+
+import java.io.IOException;
+
+/**
+ * A {@link TypeAdapter} for {@link Author}, which binds the fields without reflection.
+ */
+final class AuthorAdapter extends TypeAdapter<Author> {
+    static final AuthorAdapter INSTANCE = new AuthorAdapter();
+
+    @Override
+    public Author read(JsonReader reader) throws IOException {
+        if (JsonValues.skipNull(reader)) {
+            return null;
+        }
+        Author value = new Author();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "id":
+                    value.setId(JsonValues.nextInt(reader, 0));
+                    break;
+                case "username":
+                    value.setUsername(JsonValues.nextString(reader));
+                    break;
+                case "resource_count":
+                    value.setResourceCount(JsonValues.nextInt(reader, 0));
+                    break;
+                case "identities":
+                    value.setIdentities(IdentitiesAdapter.INSTANCE.read(reader));
+                    break;
+                case "avatar":
+                    value.setAvatar(JsonValues.nextString(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void write(JsonWriter writer, Author value) throws IOException {
+        if (value == null) {
+            writer.nullValue();
+            return;
+        }
+        writer.beginObject();
+        writer.name("id").value(value.getId());
+        writer.name("username").value(value.getUsername());
+        writer.name("resource_count").value(value.getResourceCount());
+        writer.name("identities");
+        IdentitiesAdapter.INSTANCE.write(writer, value.getIdentities());
+        writer.name("avatar").value(value.getAvatar());
+        writer.endObject();
+    }
+}
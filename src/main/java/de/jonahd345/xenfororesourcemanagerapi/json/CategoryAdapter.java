@@ -0,0 +1,51 @@
+package de.jonahd345.xenfororesourcemanagerapi.json;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import de.jonahd345.xenfororesourcemanagerapi.model.Category;
+
+import java.io.IOException;
+
+/**
+ * A {@link TypeAdapter} for {@link Category}, which binds the fields without reflection.
+ */
+final class CategoryAdapter extends TypeAdapter<Category> {
+    static final CategoryAdapter INSTANCE = new CategoryAdapter();
+
+    @Override
+    public Category read(JsonReader reader) throws IOException {
+        if (JsonValues.skipNull(reader)) {
+            return null;
+        }
+        Category value = new Category();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "id":
+                    value.setId(JsonValues.nextInt(reader, 0));
+                    break;
+                case "title":
+                    value.setTitle(JsonValues.nextString(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void write(JsonWriter writer, Category value) throws IOException {
+        if (value == null) {
+            writer.nullValue();
+            return;
+        }
+        writer.beginObject();
+        writer.name("id").value(value.getId());
+        writer.name("title").value(value.getTitle());
+        writer.endObject();
+    }
+}
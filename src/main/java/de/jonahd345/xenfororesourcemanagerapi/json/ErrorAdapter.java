@@ -0,0 +1,51 @@
+package de.jonahd345.xenfororesourcemanagerapi.json;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import de.jonahd345.xenfororesourcemanagerapi.model.Error;
+
+import java.io.IOException;
+
+/**
+ * A {@link TypeAdapter} for {@link Error}, which binds the fields without reflection.
+ */
+final class ErrorAdapter extends TypeAdapter<Error> {
+    static final ErrorAdapter INSTANCE = new ErrorAdapter();
+
+    @Override
+    public Error read(JsonReader reader) throws IOException {
+        if (JsonValues.skipNull(reader)) {
+            return null;
+        }
+        Error value = new Error();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "code":
+                    value.setCode(JsonValues.nextInt(reader, 0));
+                    break;
+                case "message":
+                    value.setMessage(JsonValues.nextString(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void write(JsonWriter writer, Error value) throws IOException {
+        if (value == null) {
+            writer.nullValue();
+            return;
+        }
+        writer.beginObject();
+        writer.name("code").value(value.getCode());
+        writer.name("message").value(value.getMessage());
+        writer.endObject();
+    }
+}
@@ -0,0 +1,87 @@
+package de.jonahd345.xenfororesourcemanagerapi.json;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import de.jonahd345.xenfororesourcemanagerapi.model.Identities;
+
+import java.io.IOException;
+
+/**
+ * A {@link TypeAdapter} for {@link Identities}, which binds the fields without reflection.
+ */
+final class IdentitiesAdapter extends TypeAdapter<Identities> {
+    static final IdentitiesAdapter INSTANCE = new IdentitiesAdapter();
+
+    @Override
+    public Identities read(JsonReader reader) throws IOException {
+        if (JsonValues.skipNull(reader)) {
+            return null;
+        }
+        Identities value = new Identities();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "discord":
+                    value.setDiscord(JsonValues.nextString(reader));
+                    break;
+                case "github":
+                    value.setGithub(JsonValues.nextString(reader));
+                    break;
+                case "youtube":
+                    value.setYoutube(JsonValues.nextString(reader));
+                    break;
+                case "aim":
+                    value.setAim(JsonValues.nextString(reader));
+                    break;
+                case "msn":
+                    value.setMsn(JsonValues.nextString(reader));
+                    break;
+                case "icq":
+                    value.setIcq(JsonValues.nextString(reader));
+                    break;
+                case "yahoo":
+                    value.setYahoo(JsonValues.nextString(reader));
+                    break;
+                case "skype":
+                    value.setSkype(JsonValues.nextString(reader));
+                    break;
+                case "gtalk":
+                    value.setGtalk(JsonValues.nextString(reader));
+                    break;
+                case "facebook":
+                    value.setFacebook(JsonValues.nextString(reader));
+                    break;
+                case "twitter":
+                    value.setTwitter(JsonValues.nextString(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void write(JsonWriter writer, Identities value) throws IOException {
+        if (value == null) {
+            writer.nullValue();
+            return;
+        }
+        writer.beginObject();
+        writer.name("discord").value(value.getDiscord());
+        writer.name("github").value(value.getGithub());
+        writer.name("youtube").value(value.getYoutube());
+        writer.name("aim").value(value.getAim());
+        writer.name("msn").value(value.getMsn());
+        writer.name("icq").value(value.getIcq());
+        writer.name("yahoo").value(value.getYahoo());
+        writer.name("skype").value(value.getSkype());
+        writer.name("gtalk").value(value.getGtalk());
+        writer.name("facebook").value(value.getFacebook());
+        writer.name("twitter").value(value.getTwitter());
+        writer.endObject();
+    }
+}
@@ -0,0 +1,119 @@
+package de.jonahd345.xenfororesourcemanagerapi.json;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Null tolerant reading of JSON values, shared by the model adapters.
+ * Like the reflective Gson binding, numbers may be sent as strings and {@code null} keeps the default value.
+ */
+final class JsonValues {
+    private JsonValues() {}
+
+    /**
+     * Reads a string value.
+     *
+     * @param reader the reader positioned at the value
+     * @return the string, which can be null if the value is {@code null}
+     * @throws IOException if an I/O exception occurs or the value is no string
+     */
+    static String nextString(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        return reader.nextString();
+    }
+
+    /**
+     * Reads an int value.
+     *
+     * @param reader the reader positioned at the value
+     * @param defaultValue the value returned if the value is {@code null}
+     * @return the int
+     * @throws IOException if an I/O exception occurs or the value is no int
+     */
+    static int nextInt(JsonReader reader, int defaultValue) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return defaultValue;
+        }
+        return reader.nextInt();
+    }
+
+    /**
+     * Reads a double value.
+     *
+     * @param reader the reader positioned at the value
+     * @param defaultValue the value returned if the value is {@code null}
+     * @return the double
+     * @throws IOException if an I/O exception occurs or the value is no number
+     */
+    static double nextDouble(JsonReader reader, double defaultValue) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return defaultValue;
+        }
+        return reader.nextDouble();
+    }
+
+    /**
+     * Checks whether the next value is {@code null} and consumes it if so.
+     *
+     * @param reader the reader positioned at the value
+     * @return {@code true} if the value was {@code null}
+     * @throws IOException if an I/O exception occurs
+     */
+    static boolean skipNull(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Reads an array of strings.
+     *
+     * @param reader the reader positioned at the value
+     * @return the {@link List} of strings, which can be null if the value is {@code null}
+     * @throws IOException if an I/O exception occurs or the value is no array
+     */
+    static List<String> nextStringList(JsonReader reader) throws IOException {
+        if (skipNull(reader)) {
+            return null;
+        }
+        List<String> values = new ArrayList<>();
+
+        reader.beginArray();
+        while (reader.hasNext()) {
+            values.add(nextString(reader));
+        }
+        reader.endArray();
+        return values;
+    }
+
+    /**
+     * Writes an array of strings.
+     *
+     * @param writer the writer
+     * @param values the strings, which can be null
+     * @throws IOException if an I/O exception occurs
+     */
+    static void writeStringList(JsonWriter writer, List<String> values) throws IOException {
+        if (values == null) {
+            writer.nullValue();
+            return;
+        }
+        writer.beginArray();
+        for (String value : values) {
+            writer.value(value);
+        }
+        writer.endArray();
+    }
+}
@@ -0,0 +1,93 @@
+package de.jonahd345.xenfororesourcemanagerapi.json;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import de.jonahd345.xenfororesourcemanagerapi.model.Author;
+import de.jonahd345.xenfororesourcemanagerapi.model.Category;
+import de.jonahd345.xenfororesourcemanagerapi.model.Error;
+import de.jonahd345.xenfororesourcemanagerapi.model.Identities;
+import de.jonahd345.xenfororesourcemanagerapi.model.Premium;
+import de.jonahd345.xenfororesourcemanagerapi.model.Resource;
+import de.jonahd345.xenfororesourcemanagerapi.model.ResourceVersion;
+import de.jonahd345.xenfororesourcemanagerapi.model.Reviews;
+import de.jonahd345.xenfororesourcemanagerapi.model.Stats;
+import de.jonahd345.xenfororesourcemanagerapi.model.Update;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The pre-built {@link com.google.gson.TypeAdapter}s of all model classes and the {@link Type}s of the list responses.
+ * The adapters bind the fields without reflection, and the types are created once instead of on every request.
+ */
+public final class ModelAdapters {
+    /**
+     * The type of a {@link List} of {@link Resource}.
+     */
+    public static final Type RESOURCE_LIST = new TypeToken<List<Resource>>() {}.getType();
+
+    /**
+     * The type of a {@link List} of {@link Category}.
+     */
+    public static final Type CATEGORY_LIST = new TypeToken<List<Category>>() {}.getType();
+
+    /**
+     * The type of a {@link List} of {@link Update}.
+     */
+    public static final Type UPDATE_LIST = new TypeToken<List<Update>>() {}.getType();
+
+    private static final Gson GSON = register(new GsonBuilder()).create();
+
+    private static final Map<Projection, Gson> PROJECTED = new ConcurrentHashMap<>();
+
+    private ModelAdapters() {}
+
+    /**
+     * Returns the shared {@link Gson} instance with all model adapters registered.
+     * {@link Gson} is thread-safe and caches the adapters of every type, so one instance is shared by all API clients.
+     *
+     * @return the shared {@link Gson}
+     */
+    public static Gson gson() {
+        return GSON;
+    }
+
+    /**
+     * Returns a shared {@link Gson} instance which only decodes the fields selected by the projection.
+     *
+     * @param projection the fields to decode
+     * @return the shared {@link Gson} of the projection
+     */
+    public static Gson gson(Projection projection) {
+        if (projection == null || projection.equals(Projection.FULL)) {
+            return GSON;
+        }
+        return PROJECTED.computeIfAbsent(projection, key -> register(new GsonBuilder())
+                .registerTypeAdapter(Resource.class, new ResourceAdapter(key))
+                .registerTypeAdapter(Update.class, new UpdateAdapter(key))
+                .create());
+    }
+
+    /**
+     * Registers the adapters of all model classes.
+     *
+     * @param builder the builder to register the adapters on
+     * @return the same builder
+     */
+    public static GsonBuilder register(GsonBuilder builder) {
+        return builder
+                .registerTypeAdapter(Resource.class, ResourceAdapter.INSTANCE)
+                .registerTypeAdapter(ResourceVersion.class, ResourceVersionAdapter.INSTANCE)
+                .registerTypeAdapter(Author.class, AuthorAdapter.INSTANCE)
+                .registerTypeAdapter(Identities.class, IdentitiesAdapter.INSTANCE)
+                .registerTypeAdapter(Category.class, CategoryAdapter.INSTANCE)
+                .registerTypeAdapter(Premium.class, PremiumAdapter.INSTANCE)
+                .registerTypeAdapter(Stats.class, StatsAdapter.INSTANCE)
+                .registerTypeAdapter(Reviews.class, ReviewsAdapter.INSTANCE)
+                .registerTypeAdapter(Update.class, UpdateAdapter.INSTANCE)
+                .registerTypeAdapter(Error.class, ErrorAdapter.INSTANCE);
+    }
+}
@@ -0,0 +1,51 @@
+package de.jonahd345.xenfororesourcemanagerapi.json;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import de.jonahd345.xenfororesourcemanagerapi.model.Premium;
+
+import java.io.IOException;
+
+/**
+ * A {@link TypeAdapter} for {@link Premium}, which binds the fields without reflection.
+ */
+final class PremiumAdapter extends TypeAdapter<Premium> {
+    static final PremiumAdapter INSTANCE = new PremiumAdapter();
+
+    @Override
+    public Premium read(JsonReader reader) throws IOException {
+        if (JsonValues.skipNull(reader)) {
+            return null;
+        }
+        Premium value = new Premium();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "price":
+                    value.setPrice(JsonValues.nextDouble(reader, 0));
+                    break;
+                case "currency":
+                    value.setCurrency(JsonValues.nextString(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void write(JsonWriter writer, Premium value) throws IOException {
+        if (value == null) {
+            writer.nullValue();
+            return;
+        }
+        writer.beginObject();
+        writer.name("price").value(value.getPrice());
+        writer.name("currency").value(value.getCurrency());
+        writer.endObject();
+    }
+}
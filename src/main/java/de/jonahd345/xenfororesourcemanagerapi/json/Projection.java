@@ -0,0 +1,59 @@
+package de.jonahd345.xenfororesourcemanagerapi.json;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * Selects which heavy fields of {@link de.jonahd345.xenfororesourcemanagerapi.model.Resource}
+ * and {@link de.jonahd345.xenfororesourcemanagerapi.model.Update} are decoded.
+ * Excluded fields are skipped by the streaming parser without materializing them and stay null.
+ * <br>
+ * Responses decoded with different projections are cached and coalesced separately.
+ */
+@Getter
+@Builder
+@EqualsAndHashCode
+public class Projection {
+    /**
+     * Decodes every field.
+     */
+    public static final Projection FULL = Projection.builder().build();
+
+    /**
+     * Skips {@code description}, {@code supportedMinecraftVersions} and {@code message},
+     * for callers which only need IDs, versions and stats, e.g. bulk crawls.
+     */
+    public static final Projection LIGHT = Projection.builder().description(false).supportedMinecraftVersions(false).message(false).build();
+
+    /**
+     * Whether {@code Resource.description} is decoded.
+     */
+    @Builder.Default
+    private final boolean description = true;
+
+    /**
+     * Whether {@code Resource.supportedMinecraftVersions} is decoded.
+     */
+    @Builder.Default
+    private final boolean supportedMinecraftVersions = true;
+
+    /**
+     * Whether {@code Update.message} is decoded.
+     */
+    @Builder.Default
+    private final boolean message = true;
+
+    /**
+     * Returns the key identifying a request decoded with this projection, used by the cache and the coalescer.
+     *
+     * @param url the request URL
+     * @return the URL itself for {@link #FULL}, otherwise the URL with a suffix naming the skipped fields
+     */
+    public String key(String url) {
+        if (description && supportedMinecraftVersions && message) {
+            return url;
+        }
+        return url + "#skip=" + (description ? "" : "d") + (supportedMinecraftVersions ? "" : "v") + (message ? "" : "m");
+    }
+}
@@ -0,0 +1,119 @@
+package de.jonahd345.xenfororesourcemanagerapi.json;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import de.jonahd345.xenfororesourcemanagerapi.model.Resource;
+
+import java.io.IOException;
+
+/**
+ * A {@link TypeAdapter} for {@link Resource}, which binds the fields without reflection.
+ */
+final class ResourceAdapter extends TypeAdapter<Resource> {
+    static final ResourceAdapter INSTANCE = new ResourceAdapter(Projection.FULL);
+
+    private final Projection projection;
+
+    /**
+     * Creates an adapter which only decodes the fields selected by the projection.
+     *
+     * @param projection the fields to decode
+     */
+    ResourceAdapter(Projection projection) {
+        this.projection = projection;
+    }
+
+    @Override
+    public Resource read(JsonReader reader) throws IOException {
+        if (JsonValues.skipNull(reader)) {
+            return null;
+        }
+        Resource value = new Resource();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "id":
+                    value.setId(JsonValues.nextInt(reader, 0));
+                    break;
+                case "title":
+                    value.setTitle(JsonValues.nextString(reader));
+                    break;
+                case "tag":
+                    value.setTag(JsonValues.nextString(reader));
+                    break;
+                case "current_version":
+                    value.setCurrentVersion(JsonValues.nextString(reader));
+                    break;
+                case "category":
+                    value.setCategory(CategoryAdapter.INSTANCE.read(reader));
+                    break;
+                case "native_minecraft_version":
+                    value.setNativeMinecraftVersion(JsonValues.nextString(reader));
+                    break;
+                case "supported_minecraft_versions":
+                    if (projection.isSupportedMinecraftVersions()) {
+                        value.setSupportedMinecraftVersions(JsonValues.nextStringList(reader));
+                    } else {
+                        reader.skipValue();
+                    }
+                    break;
+                case "icon_link":
+                    value.setIconLink(JsonValues.nextString(reader));
+                    break;
+                case "author":
+                    value.setAuthor(AuthorAdapter.INSTANCE.read(reader));
+                    break;
+                case "premium":
+                    value.setPremium(PremiumAdapter.INSTANCE.read(reader));
+                    break;
+                case "stats":
+                    value.setStats(StatsAdapter.INSTANCE.read(reader));
+                    break;
+                case "external_download_url":
+                    value.setExternalDownloadUrl(JsonValues.nextString(reader));
+                    break;
+                case "description":
+                    if (projection.isDescription()) {
+                        value.setDescription(JsonValues.nextString(reader));
+                    } else {
+                        reader.skipValue();
+                    }
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void write(JsonWriter writer, Resource value) throws IOException {
+        if (value == null) {
+            writer.nullValue();
+            return;
+        }
+        writer.beginObject();
+        writer.name("id").value(value.getId());
+        writer.name("title").value(value.getTitle());
+        writer.name("tag").value(value.getTag());
+        writer.name("current_version").value(value.getCurrentVersion());
+        writer.name("category");
+        CategoryAdapter.INSTANCE.write(writer, value.getCategory());
+        writer.name("native_minecraft_version").value(value.getNativeMinecraftVersion());
+        writer.name("supported_minecraft_versions");
+        JsonValues.writeStringList(writer, value.getSupportedMinecraftVersions());
+        writer.name("icon_link").value(value.getIconLink());
+        writer.name("author");
+        AuthorAdapter.INSTANCE.write(writer, value.getAuthor());
+        writer.name("premium");
+        PremiumAdapter.INSTANCE.write(writer, value.getPremium());
+        writer.name("stats");
+        StatsAdapter.INSTANCE.write(writer, value.getStats());
+        writer.name("external_download_url").value(value.getExternalDownloadUrl());
+        writer.name("description").value(value.getDescription());
+        writer.endObject();
+    }
+}
@@ -0,0 +1,52 @@
+package de.jonahd345.xenfororesourcemanagerapi.json;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import de.jonahd345.xenfororesourcemanagerapi.model.ResourceVersion;
+
+import java.io.IOException;
+
+/**
+ * A {@link TypeAdapter} for {@link ResourceVersion}, which decodes only {@code id} and {@code current_version}
+ * of a resource and skips every other field, including the nested objects, without materializing it.
+ */
+final class ResourceVersionAdapter extends TypeAdapter<ResourceVersion> {
+    static final ResourceVersionAdapter INSTANCE = new ResourceVersionAdapter();
+
+    @Override
+    public ResourceVersion read(JsonReader reader) throws IOException {
+        if (JsonValues.skipNull(reader)) {
+            return null;
+        }
+        ResourceVersion value = new ResourceVersion();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "id":
+                    value.setId(JsonValues.nextInt(reader, 0));
+                    break;
+                case "current_version":
+                    value.setCurrentVersion(JsonValues.nextString(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void write(JsonWriter writer, ResourceVersion value) throws IOException {
+        if (value == null) {
+            writer.nullValue();
+            return;
+        }
+        writer.beginObject();
+        writer.name("id").value(value.getId());
+        writer.name("current_version").value(value.getCurrentVersion());
+        writer.endObject();
+    }
+}
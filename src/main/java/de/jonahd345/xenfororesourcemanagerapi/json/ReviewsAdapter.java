@@ -0,0 +1,51 @@
+package de.jonahd345.xenfororesourcemanagerapi.json;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import de.jonahd345.xenfororesourcemanagerapi.model.Reviews;
+
+import java.io.IOException;
+
+/**
+ * A {@link TypeAdapter} for {@link Reviews}, which binds the fields without reflection.
+ */
+final class ReviewsAdapter extends TypeAdapter<Reviews> {
+    static final ReviewsAdapter INSTANCE = new ReviewsAdapter();
+
+    @Override
+    public Reviews read(JsonReader reader) throws IOException {
+        if (JsonValues.skipNull(reader)) {
+            return null;
+        }
+        Reviews value = new Reviews();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "unique":
+                    value.setUnique(JsonValues.nextInt(reader, 0));
+                    break;
+                case "total":
+                    value.setTotal(JsonValues.nextInt(reader, 0));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void write(JsonWriter writer, Reviews value) throws IOException {
+        if (value == null) {
+            writer.nullValue();
+            return;
+        }
+        writer.beginObject();
+        writer.name("unique").value(value.getUnique());
+        writer.name("total").value(value.getTotal());
+        writer.endObject();
+    }
+}
@@ -0,0 +1,60 @@
+package de.jonahd345.xenfororesourcemanagerapi.json;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import de.jonahd345.xenfororesourcemanagerapi.model.Stats;
+
+import java.io.IOException;
+
+/**
+ * A {@link TypeAdapter} for {@link Stats}, which binds the fields without reflection.
+ */
+final class StatsAdapter extends TypeAdapter<Stats> {
+    static final StatsAdapter INSTANCE = new StatsAdapter();
+
+    @Override
+    public Stats read(JsonReader reader) throws IOException {
+        if (JsonValues.skipNull(reader)) {
+            return null;
+        }
+        Stats value = new Stats();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "downloads":
+                    value.setDownloads(JsonValues.nextInt(reader, 0));
+                    break;
+                case "updates":
+                    value.setUpdates(JsonValues.nextInt(reader, 0));
+                    break;
+                case "reviews":
+                    value.setReviews(ReviewsAdapter.INSTANCE.read(reader));
+                    break;
+                case "rating":
+                    value.setRating(JsonValues.nextDouble(reader, 0));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void write(JsonWriter writer, Stats value) throws IOException {
+        if (value == null) {
+            writer.nullValue();
+            return;
+        }
+        writer.beginObject();
+        writer.name("downloads").value(value.getDownloads());
+        writer.name("updates").value(value.getUpdates());
+        writer.name("reviews");
+        ReviewsAdapter.INSTANCE.write(writer, value.getReviews());
+        writer.name("rating").value(value.getRating());
+        writer.endObject();
+    }
+}
@@ -0,0 +1,74 @@
+package de.jonahd345.xenfororesourcemanagerapi.json;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import de.jonahd345.xenfororesourcemanagerapi.model.Update;
+
+import java.io.IOException;
+
+/**
+ * A {@link TypeAdapter} for {@link Update}, which binds the fields without reflection.
+ */
+final class UpdateAdapter extends TypeAdapter<Update> {
+    static final UpdateAdapter INSTANCE = new UpdateAdapter(Projection.FULL);
+
+    private final Projection projection;
+
+    /**
+     * Creates an adapter which only decodes the fields selected by the projection.
+     *
+     * @param projection the fields to decode
+     */
+    UpdateAdapter(Projection projection) {
+        this.projection = projection;
+    }
+
+    @Override
+    public Update read(JsonReader reader) throws IOException {
+        if (JsonValues.skipNull(reader)) {
+            return null;
+        }
+        Update value = new Update();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "id":
+                    value.setId(JsonValues.nextInt(reader, 0));
+                    break;
+                case "resource_id":
+                    value.setResourceId(JsonValues.nextInt(reader, 0));
+                    break;
+                case "title":
+                    value.setTitle(JsonValues.nextString(reader));
+                    break;
+                case "message":
+                    if (projection.isMessage()) {
+                        value.setMessage(JsonValues.nextString(reader));
+                    } else {
+                        reader.skipValue();
+                    }
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void write(JsonWriter writer, Update value) throws IOException {
+        if (value == null) {
+            writer.nullValue();
+            return;
+        }
+        writer.beginObject();
+        writer.name("id").value(value.getId());
+        writer.name("resource_id").value(value.getResourceId());
+        writer.name("title").value(value.getTitle());
+        writer.name("message").value(value.getMessage());
+        writer.endObject();
+    }
+}
@@ -0,0 +1,55 @@
+package de.jonahd345.xenfororesourcemanagerapi.metrics;
+
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * A {@link RequestListener} which calls multiple listeners in order, created by {@link RequestListener#of(RequestListener...)}.
+ * An exception thrown by one listener is logged and does not prevent the following listeners from being called.
+ */
+final class CompositeRequestListener implements RequestListener {
+    private static final Logger LOGGER = Logger.getLogger(CompositeRequestListener.class.getName());
+
+    private final List<RequestListener> listeners;
+
+    CompositeRequestListener(List<RequestListener> listeners) {
+        this.listeners = listeners;
+    }
+
+    @Override
+    public void onCacheHit(String endpointName) {
+        for (RequestListener listener : listeners) {
+            try {
+                listener.onCacheHit(endpointName);
+            } catch (RuntimeException e) {
+                failed(listener, "onCacheHit", e);
+            }
+        }
+    }
+
+    @Override
+    public void onRequestStart(String endpointName) {
+        for (RequestListener listener : listeners) {
+            try {
+                listener.onRequestStart(endpointName);
+            } catch (RuntimeException e) {
+                failed(listener, "onRequestStart", e);
+            }
+        }
+    }
+
+    @Override
+    public void onRequestEnd(RequestTrace trace) {
+        for (RequestListener listener : listeners) {
+            try {
+                listener.onRequestEnd(trace);
+            } catch (RuntimeException e) {
+                failed(listener, "onRequestEnd", e);
+            }
+        }
+    }
+
+    private static void failed(RequestListener listener, String method, RuntimeException e) {
+        LOGGER.warning("Failed by request listener " + listener.getClass().getName() + " at " + method + "\nException: " + e);
+    }
+}
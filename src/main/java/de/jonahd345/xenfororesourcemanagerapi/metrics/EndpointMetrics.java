@@ -0,0 +1,214 @@
+package de.jonahd345.xenfororesourcemanagerapi.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The metrics of one endpoint, collected by {@link RequestMetrics}.
+ * All counters are lock-free and can be read while requests are running.
+ */
+public class EndpointMetrics {
+    private final String endpointName;
+
+    private final LongAdder requests = new LongAdder();
+
+    private final LongAdder failures = new LongAdder();
+
+    private final LongAdder cacheHits = new LongAdder();
+
+    private final LongAdder revalidations = new LongAdder();
+
+    private final LongAdder retries = new LongAdder();
+
+    private final LongAdder inFlight = new LongAdder();
+
+    private final LongAdder bytes = new LongAdder();
+
+    private final Map<Integer, LongAdder> statusCodes = new ConcurrentHashMap<>();
+
+    private final LatencyHistogram total = new LatencyHistogram();
+
+    private final LatencyHistogram firstByte = new LatencyHistogram();
+
+    private final LatencyHistogram download = new LatencyHistogram();
+
+    private final LatencyHistogram decode = new LatencyHistogram();
+
+    /**
+     * Creates the metrics of an endpoint.
+     *
+     * @param endpointName the name of the endpoint
+     */
+    EndpointMetrics(String endpointName) {
+        this.endpointName = endpointName;
+    }
+
+    /**
+     * Counts a response served from the cache.
+     */
+    void cacheHit() {
+        cacheHits.increment();
+    }
+
+    /**
+     * Counts a request which was sent.
+     */
+    void start() {
+        inFlight.increment();
+    }
+
+    /**
+     * Records a finished request.
+     *
+     * @param trace the timing and outcome of the request
+     */
+    void end(RequestTrace trace) {
+        inFlight.decrement();
+        requests.increment();
+        retries.add(trace.getRetries());
+        bytes.add(trace.getBytes());
+        if (!trace.isSuccessful()) {
+            failures.increment();
+        }
+        if (trace.isRevalidated()) {
+            revalidations.increment();
+        }
+        if (trace.getStatusCode() != 0) {
+            statusCodes.computeIfAbsent(trace.getStatusCode(), code -> new LongAdder()).increment();
+        }
+        total.record(trace.getTotalNanos());
+        firstByte.record(trace.getFirstByteNanos());
+        if (trace.isSuccessful() && trace.getStatusCode() != 304) {
+            download.record(trace.getDownloadNanos());
+            decode.record(trace.getDecodeNanos());
+        }
+    }
+
+    /**
+     * Returns the name of the endpoint.
+     *
+     * @return the endpoint name
+     */
+    public String getEndpointName() {
+        return endpointName;
+    }
+
+    /**
+     * Returns the number of finished requests, successful or not.
+     *
+     * @return the request count
+     */
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    /**
+     * Returns the number of requests which failed with an exception.
+     *
+     * @return the failure count
+     */
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    /**
+     * Returns the number of calls which were answered from the cache without a request.
+     *
+     * @return the cache hit count
+     */
+    public long getCacheHitCount() {
+        return cacheHits.sum();
+    }
+
+    /**
+     * Returns the number of requests which revalidated an expired cache entry instead of decoding the body.
+     *
+     * @return the revalidation count
+     */
+    public long getRevalidationCount() {
+        return revalidations.sum();
+    }
+
+    /**
+     * Returns the number of retries of all requests.
+     *
+     * @return the retry count
+     */
+    public long getRetryCount() {
+        return retries.sum();
+    }
+
+    /**
+     * Returns the number of requests which are currently in flight.
+     *
+     * @return the in-flight request count
+     */
+    public long getInFlightCount() {
+        return inFlight.sum();
+    }
+
+    /**
+     * Returns the decoded size of all response bodies.
+     *
+     * @return the size in bytes
+     */
+    public long getBytes() {
+        return bytes.sum();
+    }
+
+    /**
+     * Returns the number of responses per HTTP status code.
+     *
+     * @return the counts by status code, sorted by status code
+     */
+    public Map<Integer, Long> getStatusCodes() {
+        Map<Integer, Long> counts = new TreeMap<>();
+
+        statusCodes.forEach((code, count) -> counts.put(code, count.sum()));
+        return counts;
+    }
+
+    /**
+     * Returns the histogram of the total latency of the requests.
+     *
+     * @return the {@link LatencyHistogram}
+     */
+    public LatencyHistogram getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns the histogram of the time until the response was received, see {@link RequestTrace#getFirstByteNanos()}.
+     *
+     * @return the {@link LatencyHistogram}
+     */
+    public LatencyHistogram getFirstByte() {
+        return firstByte;
+    }
+
+    /**
+     * Returns the histogram of the time spent waiting for the body while decoding, see {@link RequestTrace#getDownloadNanos()}.
+     *
+     * @return the {@link LatencyHistogram}
+     */
+    public LatencyHistogram getDownload() {
+        return download;
+    }
+
+    /**
+     * Returns the histogram of the time spent decoding the body.
+     *
+     * @return the {@link LatencyHistogram}
+     */
+    public LatencyHistogram getDecode() {
+        return decode;
+    }
+
+    @Override
+    public String toString() {
+        return endpointName + "{requests=" + getRequestCount() + ", failures=" + getFailureCount() + ", cacheHits=" + getCacheHitCount()
+                + ", inFlight=" + getInFlightCount() + ", p50=" + total.percentile(0.5).toMillis() + "ms, p99=" + total.percentile(0.99).toMillis() + "ms}";
+    }
+}
@@ -0,0 +1,30 @@
+package de.jonahd345.xenfororesourcemanagerapi.metrics;
+
+/**
+ * A {@link RequestListener} which commits a JFR event for every request, named {@code de.jonahd345.xenfororesourcemanagerapi.Request}.
+ * The events are only recorded while a recording with the event enabled is running, e.g. with {@code -XX:StartFlightRecording}.
+ * The event is committed when the request finished, so its timestamp is the end of the request and its phases are fields of the event.
+ */
+public class JfrRequestListener implements RequestListener {
+    @Override
+    public void onRequestEnd(RequestTrace trace) {
+        RequestEvent event = new RequestEvent();
+
+        if (!event.isEnabled()) {
+            return;
+        }
+        event.endpointName = trace.getEndpointName();
+        event.url = trace.getUrl();
+        event.async = trace.isAsync();
+        event.statusCode = trace.getStatusCode();
+        event.retries = trace.getRetries();
+        event.revalidated = trace.isRevalidated();
+        event.total = trace.getTotalNanos();
+        event.firstByte = trace.getFirstByteNanos();
+        event.download = trace.getDownloadNanos();
+        event.decode = trace.getDecodeNanos();
+        event.bytes = trace.getBytes();
+        event.failure = trace.getFailure() != null ? trace.getFailure().toString() : null;
+        event.commit();
+    }
+}
@@ -0,0 +1,121 @@
+package de.jonahd345.xenfororesourcemanagerapi.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of latencies with logarithmic buckets.
+ * Every power of two is split into {@value #SUB_BUCKETS} buckets, so a percentile is accurate to about 25 percent
+ * over the whole range from nanoseconds to hours, with a fixed memory footprint.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKETS = 4;
+
+    private static final int SUB_BITS = 2;
+
+    private final LongAdder[] buckets = new LongAdder[64 * SUB_BUCKETS];
+
+    private final LongAdder count = new LongAdder();
+
+    private final LongAdder sum = new LongAdder();
+
+    /**
+     * Creates an empty histogram.
+     */
+    public LatencyHistogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos the latency in nanoseconds, negative values are recorded as {@code 0}
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+
+        buckets[index(value)].increment();
+        count.increment();
+        sum.add(value);
+    }
+
+    /**
+     * Returns the number of recorded latencies.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the mean of the recorded latencies.
+     *
+     * @return the mean, {@link Duration#ZERO} if nothing was recorded
+     */
+    public Duration getMean() {
+        long samples = count.sum();
+
+        return samples == 0 ? Duration.ZERO : Duration.ofNanos(sum.sum() / samples);
+    }
+
+    /**
+     * Returns a percentile of the recorded latencies, the upper bound of the bucket which contains it.
+     *
+     * @param percentile the percentile between {@code 0} and {@code 1}, e.g. {@code 0.99}
+     * @return the latency, {@link Duration#ZERO} if nothing was recorded
+     */
+    public Duration percentile(double percentile) {
+        long[] counts = new long[buckets.length];
+        long total = 0;
+
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+        if (total == 0) {
+            return Duration.ZERO;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile * total));
+        long seen = 0;
+
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Duration.ofNanos(upperBound(i));
+            }
+        }
+        return Duration.ofNanos(upperBound(counts.length - 1));
+    }
+
+    /**
+     * Maps a value to its bucket: the position of the highest bit and the {@value #SUB_BITS} bits below it.
+     */
+    private static int index(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+
+        return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * Returns the largest value of a bucket.
+     */
+    private static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BITS - 1;
+        long sub = index % SUB_BUCKETS;
+
+        if (exponent >= 62) {
+            return Long.MAX_VALUE;
+        }
+        return ((SUB_BUCKETS + sub + 1) << (exponent - SUB_BITS)) - 1;
+    }
+}
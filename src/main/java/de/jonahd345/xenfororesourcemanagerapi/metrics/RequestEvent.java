@@ -0,0 +1,61 @@
+package de.jonahd345.xenfororesourcemanagerapi.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * The JFR event of one request, committed by {@link JfrRequestListener}.
+ */
+@Name("de.jonahd345.xenfororesourcemanagerapi.Request")
+@Label("API Request")
+@Category({"XenforoResourceManagerAPI"})
+@Description("A request to the XenforoResourceManagerAPI")
+@StackTrace(false)
+class RequestEvent extends Event {
+    @Label("Endpoint")
+    String endpointName;
+
+    @Label("URL")
+    String url;
+
+    @Label("Async")
+    boolean async;
+
+    @Label("Status Code")
+    int statusCode;
+
+    @Label("Retries")
+    int retries;
+
+    @Label("Revalidated")
+    boolean revalidated;
+
+    @Label("Total")
+    @Timespan(Timespan.NANOSECONDS)
+    long total;
+
+    @Label("First Byte")
+    @Timespan(Timespan.NANOSECONDS)
+    long firstByte;
+
+    @Label("Download")
+    @Timespan(Timespan.NANOSECONDS)
+    long download;
+
+    @Label("Decode")
+    @Timespan(Timespan.NANOSECONDS)
+    long decode;
+
+    @Label("Bytes")
+    @DataAmount(DataAmount.BYTES)
+    long bytes;
+
+    @Label("Failure")
+    String failure;
+}
@@ -0,0 +1,49 @@
+package de.jonahd345.xenfororesourcemanagerapi.metrics;
+
+import java.util.List;
+
+/**
+ * Receives the metrics of the requests of an API client, e.g. to export them to a monitoring system.
+ * All methods have an empty default, listeners are called on the thread of the request and must not block.
+ * An exception thrown by a listener is logged by the client and does not affect the request.
+ * <br>
+ * The default listener is {@link #NOOP}, with which the client skips the instrumentation entirely.
+ */
+public interface RequestListener {
+    /**
+     * A listener which ignores every event.
+     */
+    RequestListener NOOP = new RequestListener() {};
+
+    /**
+     * Called when a fresh cached response is returned without a request.
+     *
+     * @param endpointName the name of the endpoint
+     */
+    default void onCacheHit(String endpointName) {}
+
+    /**
+     * Called when a request is sent. Identical concurrent calls which are coalesced into one request are only reported once.
+     *
+     * @param endpointName the name of the endpoint
+     */
+    default void onRequestStart(String endpointName) {}
+
+    /**
+     * Called when a request finished, successfully or not. Every {@link #onRequestStart(String)} is followed by exactly one call.
+     *
+     * @param trace the timing and outcome of the request
+     */
+    default void onRequestEnd(RequestTrace trace) {}
+
+    /**
+     * Combines multiple listeners into one, which calls them in the given order.
+     * An exception thrown by one listener is logged and does not prevent the following listeners from being called.
+     *
+     * @param listeners the listeners
+     * @return the combined {@link RequestListener}
+     */
+    static RequestListener of(RequestListener... listeners) {
+        return new CompositeRequestListener(List.of(listeners));
+    }
+}
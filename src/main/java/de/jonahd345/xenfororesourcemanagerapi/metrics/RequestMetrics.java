@@ -0,0 +1,47 @@
+package de.jonahd345.xenfororesourcemanagerapi.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link RequestListener} which aggregates the requests into {@link EndpointMetrics} per endpoint,
+ * e.g. to scrape the latency percentiles of every endpoint periodically.
+ */
+public class RequestMetrics implements RequestListener {
+    private final Map<String, EndpointMetrics> endpoints = new ConcurrentHashMap<>();
+
+    @Override
+    public void onCacheHit(String endpointName) {
+        getEndpoint(endpointName).cacheHit();
+    }
+
+    @Override
+    public void onRequestStart(String endpointName) {
+        getEndpoint(endpointName).start();
+    }
+
+    @Override
+    public void onRequestEnd(RequestTrace trace) {
+        getEndpoint(trace.getEndpointName()).end(trace);
+    }
+
+    /**
+     * Returns the metrics of an endpoint, which are created on first use.
+     *
+     * @param endpointName the name of the endpoint, e.g. {@code getResource}
+     * @return the {@link EndpointMetrics}
+     */
+    public EndpointMetrics getEndpoint(String endpointName) {
+        return endpoints.computeIfAbsent(endpointName, EndpointMetrics::new);
+    }
+
+    /**
+     * Returns the metrics of every endpoint which was called so far.
+     *
+     * @return the {@link EndpointMetrics} by endpoint name, sorted by name
+     */
+    public Map<String, EndpointMetrics> getEndpoints() {
+        return new TreeMap<>(endpoints);
+    }
+}
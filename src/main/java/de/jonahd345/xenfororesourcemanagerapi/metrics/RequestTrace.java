@@ -0,0 +1,84 @@
+package de.jonahd345.xenfororesourcemanagerapi.metrics;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Represents the timing and outcome of one request of an endpoint, reported to {@link RequestListener#onRequestEnd(RequestTrace)}.
+ * <br>
+ * The JDK HTTP client does not report when a connection is established, so connecting is part of {@link #firstByteNanos}.
+ * Synchronous requests decode the body while it is streamed, {@link #downloadNanos} is the time spent waiting for the body
+ * during decoding. Asynchronous requests receive the whole body before decoding, so their download is part of {@link #firstByteNanos}.
+ */
+@Getter
+@Builder
+public class RequestTrace {
+    /**
+     * The name of the endpoint.
+     */
+    private final String endpointName;
+
+    /**
+     * The requested URL.
+     */
+    private final String url;
+
+    /**
+     * Whether the request was sent asynchronously.
+     */
+    private final boolean async;
+
+    /**
+     * The HTTP response code, {@code 0} if no response was received.
+     */
+    private final int statusCode;
+
+    /**
+     * The number of retries of the request.
+     */
+    private final int retries;
+
+    /**
+     * Whether an expired cache entry was reused because the response was {@code 304} or had the same content hash.
+     */
+    private final boolean revalidated;
+
+    /**
+     * The time from sending the request until the response was received, including rate limiting, retries and connecting.
+     */
+    private final long firstByteNanos;
+
+    /**
+     * The time spent waiting for the body while decoding.
+     */
+    private final long downloadNanos;
+
+    /**
+     * The time spent decoding the body, without waiting for it.
+     */
+    private final long decodeNanos;
+
+    /**
+     * The total time of the request.
+     */
+    private final long totalNanos;
+
+    /**
+     * The decoded size of the body in bytes.
+     */
+    private final long bytes;
+
+    /**
+     * The exception the request failed with, which is null if it succeeded.
+     */
+    private final Throwable failure;
+
+    /**
+     * Checks whether the request succeeded, which includes API error responses which were decoded as null.
+     *
+     * @return {@code true} if the request did not fail with an exception
+     */
+    public boolean isSuccessful() {
+        return failure == null;
+    }
+}
@@ -1,9 +1,12 @@
 package de.jonahd345.xenfororesourcemanagerapi.model;
 
+import lombok.Data;
+
 /**
  * Represents a premium feature in the Xenforo Resource Manager API.
  * This class contains the price and currency of the premium feature.
  */
+@Data
 public class Premium {
     /**
      * The price of the premium feature.
@@ -0,0 +1,23 @@
+package de.jonahd345.xenfororesourcemanagerapi.model;
+
+import com.google.gson.annotations.SerializedName;
+import lombok.Data;
+
+/**
+ * Represents the version of a resource in the Xenforo Resource Manager API.
+ * This class contains only the resource's ID and current version, decoded from a {@code getResource} response
+ * without materializing the rest of the {@link Resource}.
+ */
+@Data
+public class ResourceVersion {
+    /**
+     * The unique identifier of the resource.
+     */
+    private int id;
+
+    /**
+     * The current version of the resource.
+     */
+    @SerializedName("current_version")
+    private String currentVersion;
+}
@@ -0,0 +1,144 @@
+package de.jonahd345.xenfororesourcemanagerapi.service;
+
+import java.net.http.HttpClient;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Connection metrics of a {@link HttpClientService}.
+ * They are used to confirm that connections are actually reused instead of being opened for every request.
+ * <br>
+ * A connection is counted when a TLS handshake is started for it, so plain {@code http://} connections are not counted.
+ */
+public class ConnectionStats {
+    private final LongAdder requests = new LongAdder();
+
+    private final LongAdder http2Responses = new LongAdder();
+
+    private final LongAdder retries = new LongAdder();
+
+    private final LongAdder compressedResponses = new LongAdder();
+
+    private final LongAdder wireBytes = new LongAdder();
+
+    private final LongAdder decodedBytes = new LongAdder();
+
+    private final Map<String, LongAdder> connectionsOpened = new ConcurrentHashMap<>();
+
+    void recordConnectionOpened(String host, int port) {
+        connectionsOpened.computeIfAbsent(host + ":" + port, key -> new LongAdder()).increment();
+    }
+
+    void recordResponse(HttpClient.Version version) {
+        requests.increment();
+        if (version == HttpClient.Version.HTTP_2) {
+            http2Responses.increment();
+        }
+    }
+
+    void recordRetry() {
+        retries.increment();
+    }
+
+    void recordBody(long wire, long decoded, boolean compressed) {
+        wireBytes.add(wire);
+        decodedBytes.add(decoded);
+        if (compressed) {
+            compressedResponses.increment();
+        }
+    }
+
+    /**
+     * Returns the number of completed requests.
+     *
+     * @return the number of requests which received a response
+     */
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    /**
+     * Returns the number of responses which were received over HTTP/2.
+     *
+     * @return the number of HTTP/2 responses
+     */
+    public long getHttp2Responses() {
+        return http2Responses.sum();
+    }
+
+    /**
+     * Returns the number of requests which were retried because of a {@code 429} or {@code 5xx} response.
+     *
+     * @return the number of retries
+     */
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    /**
+     * Returns the number of responses which were received compressed.
+     *
+     * @return the number of {@code gzip} or {@code deflate} encoded responses
+     */
+    public long getCompressedResponses() {
+        return compressedResponses.sum();
+    }
+
+    /**
+     * Returns the number of body bytes received over the network, before decompression.
+     *
+     * @return the number of wire bytes of all read response bodies
+     */
+    public long getWireBytes() {
+        return wireBytes.sum();
+    }
+
+    /**
+     * Returns the number of body bytes after decompression.
+     *
+     * @return the number of decoded bytes of all read response bodies
+     */
+    public long getDecodedBytes() {
+        return decodedBytes.sum();
+    }
+
+    /**
+     * Returns the number of bytes which were saved by compression.
+     *
+     * @return the number of decoded bytes minus the number of wire bytes, never negative
+     */
+    public long getSavedBytes() {
+        return Math.max(0, getDecodedBytes() - getWireBytes());
+    }
+
+    /**
+     * Returns the number of connections which were opened.
+     *
+     * @return the number of opened connections over all hosts
+     */
+    public long getConnectionsOpened() {
+        return connectionsOpened.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    /**
+     * Returns the number of opened connections per host.
+     *
+     * @return a {@link Map} from {@code host:port} to the number of connections opened to it
+     */
+    public Map<String, Long> getConnectionsOpenedPerHost() {
+        Map<String, Long> result = new ConcurrentHashMap<>();
+
+        connectionsOpened.forEach((host, count) -> result.put(host, count.sum()));
+        return result;
+    }
+
+    /**
+     * Returns the number of requests which were served over an already open connection.
+     *
+     * @return the number of requests minus the number of opened connections, never negative
+     */
+    public long getReusedRequests() {
+        return Math.max(0, getRequests() - getConnectionsOpened());
+    }
+}
@@ -0,0 +1,54 @@
+package de.jonahd345.xenfororesourcemanagerapi.service;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * The policy for hedged requests of a {@link de.jonahd345.xenfororesourcemanagerapi.XenforoResourceManagerAPI}.
+ * If a request of a hedged endpoint has not answered within the observed latency percentile of the endpoint,
+ * a second identical request is sent. The first response wins and the other request is aborted.
+ * <br>
+ * Hedging trades a few percent of additional requests for a lower tail latency, so it should only be enabled
+ * for interactive lookups.
+ */
+@Getter
+@Builder
+public class HedgePolicy {
+    /**
+     * The names of the endpoints whose requests are hedged, e.g. {@code getResource}.
+     */
+    @Singular
+    private final Set<String> endpoints;
+
+    /**
+     * The latency percentile after which the second request is sent.
+     */
+    @Builder.Default
+    private final double percentile = 0.95;
+
+    /**
+     * The minimum delay before the second request is sent.
+     */
+    @Builder.Default
+    private final Duration minDelay = Duration.ofMillis(20);
+
+    /**
+     * The number of latency samples of an endpoint required before its requests are hedged.
+     */
+    @Builder.Default
+    private final int minSamples = 20;
+
+    /**
+     * Checks whether requests of the given endpoint are hedged.
+     *
+     * @param endpointName the name of the endpoint
+     * @return {@code true} if the endpoint is hedged
+     */
+    public boolean isHedged(String endpointName) {
+        return endpoints.contains(endpointName);
+    }
+}
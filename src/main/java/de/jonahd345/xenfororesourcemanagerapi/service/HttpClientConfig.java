@@ -0,0 +1,61 @@
+package de.jonahd345.xenfororesourcemanagerapi.service;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * Configuration of the long-lived {@link HttpClient} used by {@link HttpClientService}.
+ * Instances are created with {@link #builder()}; every option has a sensible default.
+ * <br>
+ * The connection pool of the JDK {@link HttpClient} is configured per JVM and read once, when the first client is created.
+ * The library leaves it to the application, which can set the system properties {@code jdk.httpclient.connectionPoolSize}
+ * (the maximum number of idle HTTP/1.1 connections, unbounded by default) and {@code jdk.httpclient.keepalive.timeout}
+ * (the idle time in seconds after which a connection is closed, 1200 by default) on the command line.
+ */
+@Getter
+@Builder
+public class HttpClientConfig {
+    /**
+     * The preferred HTTP version. With {@link HttpClient.Version#HTTP_2} requests are multiplexed over a single
+     * connection if the server supports it, otherwise the client falls back to HTTP/1.1 keep-alive connections.
+     */
+    @Builder.Default
+    private final HttpClient.Version version = HttpClient.Version.HTTP_2;
+
+    /**
+     * The maximum time to establish a connection, or {@code null} to wait without limit.
+     */
+    @Builder.Default
+    private final Duration connectTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Whether {@code gzip} and {@code deflate} compressed responses are requested.
+     * Compressed bodies are decompressed while they are read, so they are never buffered as a whole.
+     */
+    @Builder.Default
+    private final boolean compression = true;
+
+    /**
+     * The rate limiter shared by all requests, or {@code null} to send requests without limit.
+     * The same instance can be shared between multiple services to enforce one limit for all of them.
+     */
+    private final RateLimiter rateLimiter;
+
+    /**
+     * The policy for retrying throttled ({@code 429}) and failed ({@code 5xx}) requests.
+     */
+    @Builder.Default
+    private final RetryPolicy retryPolicy = RetryPolicy.defaults();
+
+    /**
+     * Returns the default configuration.
+     *
+     * @return a {@link HttpClientConfig} with all default values
+     */
+    public static HttpClientConfig defaults() {
+        return HttpClientConfig.builder().build();
+    }
+}
@@ -1,49 +1,431 @@
 package de.jonahd345.xenfororesourcemanagerapi.service;
 
+import de.jonahd345.xenfororesourcemanagerapi.transport.Transport;
+import de.jonahd345.xenfororesourcemanagerapi.util.CountingInputStream;
+import de.jonahd345.xenfororesourcemanagerapi.util.InflatingInputStream;
 import de.jonahd345.xenfororesourcemanagerapi.util.RequestResponse;
+import de.jonahd345.xenfororesourcemanagerapi.util.Futures;
+import de.jonahd345.xenfororesourcemanagerapi.util.StreamResponse;
+import lombok.Getter;
 
-import java.io.BufferedReader;
+import javax.net.ssl.SSLContext;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.NoSuchAlgorithmException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * A service class for making HTTP GET requests.
- * This class handles the creation of HTTP connections, sending GET requests, and reading the responses.
+ * This class holds one long-lived {@link HttpClient}, so connections are kept alive and reused between requests
+ * and multiplexed over HTTP/2 if the server supports it.
+ * <br>
+ * All requests pass the optional {@link RateLimiter} and throttled or failed requests are retried
+ * according to the {@link RetryPolicy} of the {@link HttpClientConfig}.
+ * <br>
+ * Unless disabled in the {@link HttpClientConfig}, compressed responses are requested and decompressed while the body is read.
+ * <br>
+ * This is the default {@link Transport} of the API client.
  */
-public class HttpClientService {
+public class HttpClientService implements Transport {
+    private final HttpClient httpClient;
+
+    private final RateLimiter rateLimiter;
+
+    private final RetryPolicy retryPolicy;
+
+    private final boolean compression;
+
+    /**
+     * The connection metrics of this service.
+     */
+    @Getter
+    private final ConnectionStats connectionStats;
+
+    /**
+     * Creates a service with the default {@link HttpClientConfig}.
+     */
+    public HttpClientService() {
+        this(HttpClientConfig.defaults());
+    }
+
+    /**
+     * Creates a service with the given configuration.
+     *
+     * @param config the configuration of the underlying {@link HttpClient}
+     */
+    public HttpClientService(HttpClientConfig config) {
+        this.connectionStats = new ConnectionStats();
+
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .version(config.getVersion())
+                .followRedirects(HttpClient.Redirect.NORMAL);
+        if (config.getConnectTimeout() != null) {
+            builder.connectTimeout(config.getConnectTimeout());
+        }
+        try {
+            builder.sslContext(new CountingSSLContext(SSLContext.getDefault(), connectionStats));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("No default SSLContext available.", e);
+        }
+        this.httpClient = builder.build();
+        this.rateLimiter = config.getRateLimiter();
+        this.retryPolicy = config.getRetryPolicy() != null ? config.getRetryPolicy() : RetryPolicy.builder().maxRetries(0).build();
+        this.compression = config.isCompression();
+    }
+
     /**
      * Makes an HTTP GET request to the specified URL and returns the response as a string.
+     * Use this if the raw text of the response is needed, otherwise prefer {@link #makeStreamingGetRequest(String)}.
      *
      * @param url the URL to send the GET request to
      * @return the response object {@link RequestResponse} containing the HTTP response code and the response message
      * @throws IOException if an I/O exception occurs
      */
     public RequestResponse makeGetRequest(String url) throws IOException {
-        URL urlObject = new URL(url);
-        HttpURLConnection connection = (HttpURLConnection) urlObject.openConnection();
-        connection.setRequestMethod("GET");
+        HttpRequest request = buildRequest(url, null, Map.of());
+        HttpResponse<InputStream> response = send(request, HttpResponse.BodyHandlers.ofInputStream(), new AtomicInteger());
 
-        try {
-            int responseCode = connection.getResponseCode();
-            InputStreamReader inputStreamReader;
-            if (responseCode == HttpURLConnection.HTTP_OK) {
-                inputStreamReader = new InputStreamReader(connection.getInputStream());
-            } else {
-                inputStreamReader = new InputStreamReader(connection.getErrorStream());
-            }
-
-            try (BufferedReader in = new BufferedReader(inputStreamReader)) {
-                StringBuilder response = new StringBuilder();
-                String inputLine;
-                while ((inputLine = in.readLine()) != null) {
-                    response.append(inputLine);
+        try (InputStream body = decode(response.headers(), response.body())) {
+            return new RequestResponse(response.statusCode(), new String(body.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Asynchronously makes an HTTP GET request to the specified URL.
+     * The returned future is completed by the {@link HttpClient} itself, no thread is blocked while waiting for the response.
+     *
+     * @param url the URL to send the GET request to
+     * @return a CompletableFuture containing the response object {@link RequestResponse}
+     */
+    public CompletableFuture<RequestResponse> makeGetRequestAsync(String url) {
+        CompletableFuture<HttpResponse<byte[]>> response = sendAsync(buildRequest(url, null, Map.of()), HttpResponse.BodyHandlers.ofByteArray(), new AtomicInteger());
+
+        return Futures.propagateCancellation(response.thenApply(r -> {
+            try (InputStream body = decode(r.headers(), new ByteArrayInputStream(r.body()))) {
+                return new RequestResponse(r.statusCode(), new String(body.readAllBytes(), StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }), response);
+    }
+
+    /**
+     * Makes an HTTP GET request to the specified URL and returns the response body as a stream.
+     * The body is read directly from the connection, the caller has to close the returned response.
+     *
+     * @param url the URL to send the GET request to
+     * @return the response object {@link StreamResponse} containing the HTTP response code, headers and body stream
+     * @throws IOException if an I/O exception occurs
+     */
+    public StreamResponse makeStreamingGetRequest(String url) throws IOException {
+        return makeStreamingGetRequest(url, null);
+    }
+
+    /**
+     * Makes an HTTP GET request to the specified URL and returns the response body as a stream.
+     * The body is read directly from the connection, the caller has to close the returned response.
+     *
+     * @param url the URL to send the GET request to
+     * @param timeout the time to wait for the response headers, which can be null to wait without limit
+     * @return the response object {@link StreamResponse} containing the HTTP response code, headers and body stream
+     * @throws IOException if an I/O exception occurs, e.g. {@link java.net.http.HttpTimeoutException} if the timeout elapsed
+     */
+    public StreamResponse makeStreamingGetRequest(String url, Duration timeout) throws IOException {
+        return makeStreamingGetRequest(url, timeout, Map.of());
+    }
+
+    /**
+     * Makes an HTTP GET request with additional headers to the specified URL and returns the response body as a stream,
+     * e.g. a conditional request with {@code If-None-Match} or {@code If-Modified-Since}.
+     * The body is read directly from the connection, the caller has to close the returned response.
+     *
+     * @param url the URL to send the GET request to
+     * @param timeout the time to wait for the response headers, which can be null to wait without limit
+     * @param headers the additional request headers
+     * @return the response object {@link StreamResponse} containing the HTTP response code, headers and body stream
+     * @throws IOException if an I/O exception occurs, e.g. {@link java.net.http.HttpTimeoutException} if the timeout elapsed
+     */
+    @Override
+    public StreamResponse makeStreamingGetRequest(String url, Duration timeout, Map<String, String> headers) throws IOException {
+        HttpRequest request = buildRequest(url, timeout, headers);
+        AtomicInteger retries = new AtomicInteger();
+        HttpResponse<InputStream> response = send(request, HttpResponse.BodyHandlers.ofInputStream(), retries);
+        StreamResponse streamResponse = new StreamResponse(response.statusCode(), response.headers(), decode(response.headers(), response.body()));
+
+        streamResponse.setRetries(retries.get());
+        return streamResponse;
+    }
+
+    /**
+     * Asynchronously makes an HTTP GET request to the specified URL and returns the response body as a stream.
+     * <br>
+     * The body is received as bytes before the future completes, so reading the stream never blocks the thread
+     * the future is completed on. The body is still never converted to a string.
+     *
+     * @param url the URL to send the GET request to
+     * @return a CompletableFuture containing the response object {@link StreamResponse}
+     */
+    public CompletableFuture<StreamResponse> makeStreamingGetRequestAsync(String url) {
+        return makeStreamingGetRequestAsync(url, null);
+    }
+
+    /**
+     * Asynchronously makes an HTTP GET request to the specified URL and returns the response body as a stream.
+     * <br>
+     * Cancelling the returned future aborts the request and closes its connection or HTTP/2 stream.
+     *
+     * @param url the URL to send the GET request to
+     * @param timeout the time to wait for the response headers, which can be null to wait without limit
+     * @return a CompletableFuture containing the response object {@link StreamResponse}
+     */
+    public CompletableFuture<StreamResponse> makeStreamingGetRequestAsync(String url, Duration timeout) {
+        return makeStreamingGetRequestAsync(url, timeout, Map.of());
+    }
+
+    /**
+     * Asynchronously makes an HTTP GET request with additional headers to the specified URL and returns the response body as a stream,
+     * e.g. a conditional request with {@code If-None-Match} or {@code If-Modified-Since}.
+     *
+     * @param url the URL to send the GET request to
+     * @param timeout the time to wait for the response headers, which can be null to wait without limit
+     * @param headers the additional request headers
+     * @return a CompletableFuture containing the response object {@link StreamResponse}
+     */
+    @Override
+    public CompletableFuture<StreamResponse> makeStreamingGetRequestAsync(String url, Duration timeout, Map<String, String> headers) {
+        AtomicInteger retries = new AtomicInteger();
+        CompletableFuture<HttpResponse<byte[]>> response = sendAsync(buildRequest(url, timeout, headers), HttpResponse.BodyHandlers.ofByteArray(), retries);
+
+        return Futures.propagateCancellation(response.thenApply(r -> {
+            StreamResponse streamResponse = new StreamResponse(r.statusCode(), r.headers(), decode(r.headers(), new ByteArrayInputStream(r.body())));
+
+            streamResponse.setRetries(retries.get());
+            return streamResponse;
+        }), response);
+    }
+
+    /**
+     * Builds a GET request.
+     *
+     * @param url the URL to send the GET request to
+     * @param timeout the time to wait for the response headers, which can be null to wait without limit
+     * @param headers the additional request headers
+     * @return the {@link HttpRequest}
+     */
+    private HttpRequest buildRequest(String url, Duration timeout, Map<String, String> headers) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url)).GET();
+
+        if (compression) {
+            builder.header("Accept-Encoding", "gzip, deflate");
+        }
+
+        if (timeout != null) {
+            builder.timeout(timeout);
+        }
+        headers.forEach(builder::header);
+        return builder.build();
+    }
+
+    /**
+     * Wraps a response body so it is decompressed according to its {@code Content-Encoding} while it is read,
+     * and records its wire and decoded size once it is closed.
+     *
+     * @param headers the response headers
+     * @param body the raw response body
+     * @return the decoded body
+     */
+    private InputStream decode(HttpHeaders headers, InputStream body) {
+        String encoding = headers.firstValue("Content-Encoding").orElse("").trim().toLowerCase(Locale.ROOT);
+        CountingInputStream wire = new CountingInputStream(body);
+        boolean compressed = encoding.equals("gzip") || encoding.equals("x-gzip") || encoding.equals("deflate");
+
+        return new CountingInputStream(compressed ? new InflatingInputStream(wire, !encoding.equals("deflate")) : wire) {
+            private boolean closed;
+
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    if (!closed) {
+                        closed = true;
+                        connectionStats.recordBody(wire.getCount(), getCount(), compressed);
+                    }
                 }
-                return new RequestResponse(responseCode, response.toString());
             }
-        } finally {
-            connection.disconnect();
+        };
+    }
+
+    /**
+     * Sends a request through the rate limiter and retries it according to the {@link RetryPolicy}.
+     *
+     * @param request the request to send
+     * @param bodyHandler the handler of the response body
+     * @param retries the counter of the retries of the request
+     * @param <B> the type of the response body
+     * @return the response of the last attempt
+     * @throws IOException if an I/O exception occurs
+     */
+    private <B> HttpResponse<B> send(HttpRequest request, HttpResponse.BodyHandler<B> bodyHandler, AtomicInteger retries) throws IOException {
+        for (int attempt = 0; ; attempt++) {
+            HttpResponse<B> response;
+
+            if (rateLimiter != null) {
+                rateLimiter.acquire();
+            }
+            try {
+                response = httpClient.send(request, bodyHandler);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("The HTTP request was interrupted.");
+            } finally {
+                if (rateLimiter != null) {
+                    rateLimiter.release();
+                }
+            }
+            connectionStats.recordResponse(response.version());
+
+            Duration delay = retryDelay(response, attempt);
+
+            if (delay == null) {
+                return response;
+            }
+            retries.incrementAndGet();
+            discard(response.body());
+            try {
+                Thread.sleep(delay.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("The HTTP request was interrupted.");
+            }
+        }
+    }
+
+    /**
+     * Asynchronously sends a request through the rate limiter and retries it according to the {@link RetryPolicy}.
+     * No thread is blocked while waiting for the rate limiter, the response or the backoff.
+     * Cancelling the returned future aborts the attempt which is currently in flight.
+     *
+     * @param request the request to send
+     * @param bodyHandler the handler of the response body
+     * @param retries the counter of the retries of the request
+     * @param <B> the type of the response body
+     * @return a CompletableFuture containing the response of the last attempt
+     */
+    private <B> CompletableFuture<HttpResponse<B>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<B> bodyHandler, AtomicInteger retries) {
+        CompletableFuture<HttpResponse<B>> result = new CompletableFuture<>();
+        AtomicReference<CompletableFuture<?>> current = new AtomicReference<>();
+
+        result.whenComplete((response, throwable) -> {
+            CompletableFuture<?> attempt = current.get();
+
+            if (throwable != null && attempt != null) {
+                attempt.cancel(true);
+            }
+        });
+        attemptAsync(request, bodyHandler, 0, retries, result, current);
+        return result;
+    }
+
+    /**
+     * Sends one attempt of a request and either completes the result or schedules the next attempt.
+     *
+     * @param request the request to send
+     * @param bodyHandler the handler of the response body
+     * @param attempt the number of the attempt, starting at {@code 0}
+     * @param retries the counter of the retries of the request
+     * @param result the future of the whole request
+     * @param current the future of the attempt or backoff which is currently in progress
+     * @param <B> the type of the response body
+     */
+    private <B> void attemptAsync(HttpRequest request, HttpResponse.BodyHandler<B> bodyHandler, int attempt, AtomicInteger retries,
+                                  CompletableFuture<HttpResponse<B>> result, AtomicReference<CompletableFuture<?>> current) {
+        CompletableFuture<Void> permit = rateLimiter != null ? rateLimiter.acquireAsync() : CompletableFuture.completedFuture(null);
+
+        permit.thenCompose(ignored -> {
+            CompletableFuture<HttpResponse<B>> send = httpClient.sendAsync(request, bodyHandler);
+
+            current.set(send);
+            if (result.isDone()) {
+                send.cancel(true);
+            }
+            return send.whenComplete((response, throwable) -> {
+                if (rateLimiter != null) {
+                    rateLimiter.release();
+                }
+            });
+        }).whenComplete((response, throwable) -> {
+            if (throwable != null) {
+                result.completeExceptionally(Futures.unwrap(throwable));
+                return;
+            }
+            connectionStats.recordResponse(response.version());
+
+            Duration delay = retryDelay(response, attempt);
+
+            if (delay == null) {
+                result.complete(response);
+                return;
+            }
+            retries.incrementAndGet();
+            discard(response.body());
+
+            CompletableFuture<Void> backoff = CompletableFuture.runAsync(() -> {}, CompletableFuture.delayedExecutor(delay.toMillis(), TimeUnit.MILLISECONDS));
+
+            current.set(backoff);
+            backoff.thenRun(() -> {
+                if (!result.isDone()) {
+                    attemptAsync(request, bodyHandler, attempt + 1, retries, result, current);
+                }
+            });
+        });
+    }
+
+    /**
+     * Computes the delay before the next attempt and pauses the rate limiter if the server throttled the client.
+     *
+     * @param response the response of the last attempt
+     * @param attempt the number of the last attempt
+     * @return the delay before the next attempt, which is null if the response should be returned
+     */
+    private Duration retryDelay(HttpResponse<?> response, int attempt) {
+        Duration delay = retryPolicy.retryDelay(response.statusCode(), response.headers(), attempt);
+
+        if (delay != null) {
+            connectionStats.recordRetry();
+            if (response.statusCode() == 429 && rateLimiter != null) {
+                rateLimiter.pause(delay);
+            }
+        }
+        return delay;
+    }
+
+    /**
+     * Discards the body of a response which is going to be retried.
+     *
+     * @param body the response body
+     */
+    private static void discard(Object body) {
+        if (body instanceof InputStream) {
+            try (InputStream in = (InputStream) body) {
+                in.transferTo(OutputStream.nullOutputStream());
+            } catch (IOException ignored) {}
         }
     }
 }
@@ -0,0 +1,66 @@
+package de.jonahd345.xenfororesourcemanagerapi.service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks the recent latencies of the requests per endpoint, used to compute the delay of hedged requests.
+ * Every endpoint keeps a ring buffer of its most recent samples.
+ */
+public class LatencyTracker {
+    private static final int SAMPLES = 256;
+
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    /**
+     * Records the latency of a successful request.
+     *
+     * @param endpointName the name of the endpoint
+     * @param nanos the latency in nanoseconds
+     */
+    public void record(String endpointName, long nanos) {
+        windows.computeIfAbsent(endpointName, key -> new Window()).add(nanos);
+    }
+
+    /**
+     * Returns the latency percentile of the given endpoint.
+     *
+     * @param endpointName the name of the endpoint
+     * @param percentile the percentile between {@code 0} and {@code 1}
+     * @param minSamples the number of samples required
+     * @return the latency, which can be null if fewer samples were recorded
+     */
+    public Duration percentile(String endpointName, double percentile, int minSamples) {
+        Window window = windows.get(endpointName);
+
+        return window != null ? window.percentile(percentile, minSamples) : null;
+    }
+
+    private static class Window {
+        private final long[] samples = new long[SAMPLES];
+
+        private long count;
+
+        private synchronized void add(long nanos) {
+            samples[(int) (count++ % SAMPLES)] = nanos;
+        }
+
+        private Duration percentile(double percentile, int minSamples) {
+            long[] sorted;
+
+            synchronized (this) {
+                if (count < Math.max(1, minSamples)) {
+                    return null;
+                }
+                sorted = Arrays.copyOf(samples, (int) Math.min(count, SAMPLES));
+            }
+            Arrays.sort(sorted);
+
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+
+            return Duration.ofNanos(sorted[Math.max(0, Math.min(sorted.length - 1, index))]);
+        }
+    }
+}
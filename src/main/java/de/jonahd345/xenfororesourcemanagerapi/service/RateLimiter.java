@@ -0,0 +1,160 @@
+package de.jonahd345.xenfororesourcemanagerapi.service;
+
+import de.jonahd345.xenfororesourcemanagerapi.util.AsyncSemaphore;
+
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A client-side rate limiter shared by all requests of a {@link HttpClientService}.
+ * It combines a token bucket, which allows short bursts above the sustained rate,
+ * with a limit for the number of concurrent requests. A request counts as in flight until its response headers arrived.
+ * <br>
+ * When the server throttles the client, {@link #pause(Duration)} stops all requests until the given delay has elapsed.
+ */
+public class RateLimiter {
+    private final double permitsPerNano;
+
+    private final int burst;
+
+    private final AsyncSemaphore concurrency;
+
+    private double tokens;
+
+    private long lastRefill;
+
+    private long pausedUntil;
+
+    private final LongAdder throttled = new LongAdder();
+
+    private final LongAdder waitedNanos = new LongAdder();
+
+    /**
+     * Creates a rate limiter.
+     *
+     * @param permitsPerSecond the sustained number of requests per second
+     * @param burst the number of requests which may be sent at once after an idle period
+     * @param maxConcurrentRequests the maximum number of requests in flight at the same time
+     */
+    public RateLimiter(double permitsPerSecond, int burst, int maxConcurrentRequests) {
+        if (permitsPerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("The rate and the burst size must be positive.");
+        }
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.burst = burst;
+        this.concurrency = new AsyncSemaphore(maxConcurrentRequests);
+        this.tokens = burst;
+        this.lastRefill = System.nanoTime();
+        this.pausedUntil = lastRefill;
+    }
+
+    /**
+     * Blocks until a request may be sent. {@link #release()} must be called once the request completed.
+     *
+     * @throws InterruptedIOException if the thread was interrupted while waiting
+     */
+    public void acquire() throws InterruptedIOException {
+        long wait = reserve();
+
+        if (wait > 0) {
+            long deadline = System.nanoTime() + wait;
+
+            for (long remaining = wait; remaining > 0; remaining = deadline - System.nanoTime()) {
+                LockSupport.parkNanos(remaining);
+                if (Thread.interrupted()) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for the rate limiter.");
+                }
+            }
+        }
+        CompletableFuture<Void> permit = concurrency.acquire();
+
+        try {
+            permit.get();
+        } catch (InterruptedException e) {
+            if (!permit.cancel(false)) {
+                concurrency.release();
+            }
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the rate limiter.");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Asynchronously waits until a request may be sent without blocking a thread.
+     * {@link #release()} must be called once the request completed.
+     *
+     * @return a CompletableFuture which is completed once the request may be sent
+     */
+    public CompletableFuture<Void> acquireAsync() {
+        long wait = reserve();
+
+        if (wait <= 0) {
+            return concurrency.acquire();
+        }
+        return CompletableFuture.runAsync(() -> {}, CompletableFuture.delayedExecutor(wait, TimeUnit.NANOSECONDS))
+                .thenCompose(ignored -> concurrency.acquire());
+    }
+
+    /**
+     * Releases the concurrency slot of a completed request.
+     */
+    public void release() {
+        concurrency.release();
+    }
+
+    /**
+     * Stops all requests until the delay has elapsed, e.g. after the server responded with {@code 429 Too Many Requests}.
+     *
+     * @param delay the time to wait before the next request is sent
+     */
+    public synchronized void pause(Duration delay) {
+        throttled.increment();
+        pausedUntil = Math.max(pausedUntil, System.nanoTime() + delay.toNanos());
+    }
+
+    /**
+     * Returns the number of times the server throttled the client.
+     *
+     * @return the number of calls to {@link #pause(Duration)}
+     */
+    public long getThrottledCount() {
+        return throttled.sum();
+    }
+
+    /**
+     * Returns the total time requests waited for a token.
+     *
+     * @return the total wait time
+     */
+    public Duration getTotalWaitTime() {
+        return Duration.ofNanos(waitedNanos.sum());
+    }
+
+    /**
+     * Takes a token from the bucket, going into debt if it is empty.
+     *
+     * @return the time in nanoseconds the caller has to wait before sending the request
+     */
+    private synchronized long reserve() {
+        long now = System.nanoTime();
+
+        tokens = Math.min(burst, tokens + (now - lastRefill) * permitsPerNano);
+        lastRefill = now;
+        tokens -= 1;
+
+        long wait = Math.max(tokens < 0 ? (long) (-tokens / permitsPerNano) : 0, pausedUntil - now);
+
+        if (wait > 0) {
+            waitedNanos.add(wait);
+        }
+        return wait;
+    }
+}
@@ -0,0 +1,157 @@
+package de.jonahd345.xenfororesourcemanagerapi.service;
+
+import de.jonahd345.xenfororesourcemanagerapi.util.Futures;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Deduplicates identical concurrent requests (single-flight).
+ * While a request for a key is in flight, every other caller for the same key shares its pending result
+ * instead of issuing its own request. Sync and async callers share the same in-flight requests.
+ * <br>
+ * Coalesced callers receive the same decoded object, which therefore must not be modified.
+ */
+public class RequestCoalescer {
+    private final ConcurrentHashMap<String, Flight> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder executed = new LongAdder();
+
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Executes the call on the calling thread, or waits for the result of an identical call which is already in flight.
+     * A waiting sync caller keeps an async call alive even if every async caller cancelled its copy.
+     *
+     * @param key the key identifying identical calls, the request URL
+     * @param call the blocking call
+     * @param <T> the type of the result
+     * @return the result of the call
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> call) {
+        Flight flight = new Flight();
+        Flight existing = inFlight.putIfAbsent(key, flight);
+
+        if (existing != null) {
+            coalesced.increment();
+            existing.waiters.incrementAndGet();
+            try {
+                return (T) existing.result.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        }
+        executed.increment();
+        try {
+            T result = call.get();
+
+            inFlight.remove(key, flight);
+            flight.result.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, flight);
+            flight.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Starts the asynchronous call, or joins an identical call which is already in flight.
+     * Every caller receives its own copy of the shared future. The call itself is only cancelled
+     * once every async caller cancelled its copy, so one caller cannot abort the request of the others.
+     *
+     * @param key the key identifying identical calls, the request URL
+     * @param call the asynchronous call
+     * @param <T> the type of the result
+     * @return a CompletableFuture containing the result of the call
+     */
+    public <T> CompletableFuture<T> executeAsync(String key, Supplier<CompletableFuture<T>> call) {
+        Flight flight = new Flight();
+        Flight existing = inFlight.putIfAbsent(key, flight);
+
+        if (existing != null) {
+            coalesced.increment();
+            return existing.join();
+        }
+        executed.increment();
+
+        CompletableFuture<T> result;
+        try {
+            result = call.get();
+        } catch (RuntimeException | Error e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+        flight.source = result;
+
+        CompletableFuture<T> copy = flight.join();
+
+        result.whenComplete((value, throwable) -> {
+            inFlight.remove(key, flight);
+            if (throwable != null) {
+                flight.result.completeExceptionally(Futures.unwrap(throwable));
+            } else {
+                flight.result.complete(value);
+            }
+        });
+        return copy;
+    }
+
+    /**
+     * Returns the number of requests which were actually executed.
+     *
+     * @return the executed request count
+     */
+    public long getExecutedCount() {
+        return executed.sum();
+    }
+
+    /**
+     * Returns the number of requests which were saved because they joined an identical in-flight request.
+     *
+     * @return the coalesced request count
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * Returns the number of requests which are currently in flight.
+     *
+     * @return the in-flight request count
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    private static class Flight {
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        private final AtomicInteger waiters = new AtomicInteger();
+
+        private volatile CompletableFuture<?> source;
+
+        /**
+         * Returns a copy of the shared result for one more async caller,
+         * cancelling the source once every async caller cancelled its copy.
+         */
+        @SuppressWarnings("unchecked")
+        private <T> CompletableFuture<T> join() {
+            CompletableFuture<T> copy = (CompletableFuture<T>) result.copy();
+
+            waiters.incrementAndGet();
+            copy.whenComplete((value, throwable) -> {
+                CompletableFuture<?> call = source;
+
+                if (copy.isCancelled() && waiters.decrementAndGet() == 0 && call != null) {
+                    call.cancel(true);
+                }
+            });
+            return copy;
+        }
+    }
+}
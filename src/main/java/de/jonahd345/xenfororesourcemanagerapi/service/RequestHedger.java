@@ -0,0 +1,128 @@
+package de.jonahd345.xenfororesourcemanagerapi.service;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Sends hedged requests according to a {@link HedgePolicy} and tracks the latency of every request.
+ */
+public class RequestHedger {
+    /**
+     * The hedge policy, which can be null if no request is hedged.
+     */
+    @Getter
+    private final HedgePolicy policy;
+
+    /**
+     * The latencies of the requests per endpoint.
+     */
+    @Getter
+    private final LatencyTracker latencyTracker = new LatencyTracker();
+
+    private final LongAdder hedged = new LongAdder();
+
+    private final LongAdder hedgeWins = new LongAdder();
+
+    /**
+     * Creates a hedger.
+     *
+     * @param policy the hedge policy, which can be null if no request should be hedged
+     */
+    public RequestHedger(HedgePolicy policy) {
+        this.policy = policy;
+    }
+
+    /**
+     * Sends a request and, if the endpoint is hedged and the request is slower than the configured latency percentile,
+     * a second identical request. The first successful response completes the returned future and the other request is cancelled.
+     *
+     * @param endpointName the name of the endpoint
+     * @param request the function sending the request
+     * @param <T> the type of the response
+     * @return a CompletableFuture containing the first successful response
+     */
+    public <T> CompletableFuture<T> send(String endpointName, Supplier<CompletableFuture<T>> request) {
+        long start = System.nanoTime();
+        Duration delay = policy != null && policy.isHedged(endpointName)
+                ? latencyTracker.percentile(endpointName, policy.getPercentile(), policy.getMinSamples()) : null;
+
+        if (delay == null) {
+            CompletableFuture<T> response = request.get();
+
+            response.thenRun(() -> latencyTracker.record(endpointName, System.nanoTime() - start));
+            return response;
+        }
+        if (delay.compareTo(policy.getMinDelay()) < 0) {
+            delay = policy.getMinDelay();
+        }
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(1);
+        CompletableFuture<T> first = request.get();
+        AtomicReference<CompletableFuture<T>> second = new AtomicReference<>();
+
+        first.whenComplete((response, throwable) -> complete(result, pending, response, throwable, false));
+        CompletableFuture.delayedExecutor(delay.toNanos(), TimeUnit.NANOSECONDS).execute(() -> {
+            if (result.isDone()) {
+                return;
+            }
+            pending.incrementAndGet();
+            hedged.increment();
+
+            CompletableFuture<T> hedge = request.get();
+
+            second.set(hedge);
+            hedge.whenComplete((response, throwable) -> complete(result, pending, response, throwable, true));
+            if (result.isDone()) {
+                hedge.cancel(true);
+            }
+        });
+        result.whenComplete((response, throwable) -> {
+            if (throwable == null) {
+                latencyTracker.record(endpointName, System.nanoTime() - start);
+            }
+            first.cancel(true);
+
+            CompletableFuture<T> hedge = second.get();
+
+            if (hedge != null) {
+                hedge.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Returns the number of hedge requests which were sent.
+     *
+     * @return the hedged request count
+     */
+    public long getHedgedCount() {
+        return hedged.sum();
+    }
+
+    /**
+     * Returns the number of hedge requests which answered before the original request.
+     *
+     * @return the hedge win count
+     */
+    public long getHedgeWinCount() {
+        return hedgeWins.sum();
+    }
+
+    private <T> void complete(CompletableFuture<T> result, AtomicInteger pending, T response, Throwable throwable, boolean hedge) {
+        if (throwable == null) {
+            if (result.complete(response) && hedge) {
+                hedgeWins.increment();
+            }
+        } else if (pending.decrementAndGet() == 0) {
+            result.completeExceptionally(throwable);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package de.jonahd345.xenfororesourcemanagerapi.service;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.net.http.HttpHeaders;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The retry policy of a {@link HttpClientService}.
+ * Responses with the code {@code 429} or {@code 5xx} are retried with an exponential backoff with full jitter.
+ * A {@code Retry-After} header sent by the server takes precedence over the computed backoff.
+ */
+@Getter
+@Builder
+public class RetryPolicy {
+    /**
+     * The maximum number of retries of a request, {@code 0} disables retries.
+     */
+    @Builder.Default
+    private final int maxRetries = 3;
+
+    /**
+     * The backoff before the first retry, it doubles with every further retry.
+     */
+    @Builder.Default
+    private final Duration baseDelay = Duration.ofMillis(500);
+
+    /**
+     * The maximum backoff between two attempts, also used to cap {@code Retry-After}.
+     */
+    @Builder.Default
+    private final Duration maxDelay = Duration.ofSeconds(30);
+
+    /**
+     * Returns the default policy.
+     *
+     * @return a {@link RetryPolicy} with all default values
+     */
+    public static RetryPolicy defaults() {
+        return RetryPolicy.builder().build();
+    }
+
+    /**
+     * Checks whether a response with the given code should be retried.
+     *
+     * @param code the HTTP response code
+     * @return {@code true} for {@code 429} and {@code 5xx}
+     */
+    public boolean isRetryable(int code) {
+        return code == 429 || code >= 500;
+    }
+
+    /**
+     * Computes the delay before the next attempt.
+     *
+     * @param code the HTTP response code of the last attempt
+     * @param headers the HTTP response headers of the last attempt
+     * @param attempt the number of the last attempt, starting at {@code 0}
+     * @return the delay before the next attempt, which is null if the request should not be retried
+     */
+    public Duration retryDelay(int code, HttpHeaders headers, int attempt) {
+        if (attempt >= maxRetries || !isRetryable(code)) {
+            return null;
+        }
+        Optional<Duration> retryAfter = headers.firstValue("Retry-After").map(RetryPolicy::parseRetryAfter);
+
+        if (retryAfter.isPresent() && retryAfter.get() != null) {
+            return retryAfter.get().compareTo(maxDelay) > 0 ? maxDelay : retryAfter.get();
+        }
+        long cap = Math.min(maxDelay.toMillis(), baseDelay.toMillis() << Math.min(attempt, 30));
+
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(cap + 1));
+    }
+
+    /**
+     * Parses the value of a {@code Retry-After} header, which is either a number of seconds or an HTTP date.
+     *
+     * @param value the header value
+     * @return the delay, which is null if the value is malformed
+     */
+    private static Duration parseRetryAfter(String value) {
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+        } catch (NumberFormatException ignored) {}
+        try {
+            Duration delay = Duration.between(ZonedDateTime.now(), ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+
+            return delay.isNegative() ? Duration.ZERO : delay;
+        } catch (DateTimeParseException ignored) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package de.jonahd345.xenfororesourcemanagerapi.service;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * The timeouts of the requests of a {@link de.jonahd345.xenfororesourcemanagerapi.XenforoResourceManagerAPI}, per endpoint.
+ * <br>
+ * The read timeout limits the time until the response headers arrive. The deadline limits the total time of a request
+ * including retries, the download and the decoding of the body. When a timeout elapses the request is aborted
+ * and its connection or HTTP/2 stream is closed.
+ */
+@Getter
+@Builder
+public class TimeoutPolicy {
+    /**
+     * The read timeout of endpoints without an own read timeout, or {@code null} to wait without limit.
+     */
+    @Builder.Default
+    private final Duration defaultReadTimeout = Duration.ofSeconds(30);
+
+    /**
+     * The read timeouts per endpoint name, e.g. {@code getResource}.
+     */
+    @Singular("readTimeout")
+    private final Map<String, Duration> readTimeouts;
+
+    /**
+     * The deadline of endpoints without an own deadline, or {@code null} for no deadline.
+     */
+    private final Duration defaultDeadline;
+
+    /**
+     * The deadlines per endpoint name, e.g. {@code getResource}.
+     */
+    @Singular("deadline")
+    private final Map<String, Duration> deadlines;
+
+    /**
+     * Returns the read timeout of the given endpoint.
+     *
+     * @param endpointName the name of the endpoint
+     * @return the read timeout, which can be null if the endpoint waits without limit
+     */
+    public Duration getReadTimeout(String endpointName) {
+        return readTimeouts.getOrDefault(endpointName, defaultReadTimeout);
+    }
+
+    /**
+     * Returns the deadline of the given endpoint.
+     *
+     * @param endpointName the name of the endpoint
+     * @return the deadline, which can be null if the endpoint has no deadline
+     */
+    public Duration getDeadline(String endpointName) {
+        return deadlines.getOrDefault(endpointName, defaultDeadline);
+    }
+
+    /**
+     * Returns the default policy, which has a read timeout of 30 seconds and no deadline.
+     *
+     * @return the default {@link TimeoutPolicy}
+     */
+    public static TimeoutPolicy defaults() {
+        return TimeoutPolicy.builder().build();
+    }
+}
@@ -0,0 +1,287 @@
+package de.jonahd345.xenfororesourcemanagerapi.store;
+
+import de.jonahd345.xenfororesourcemanagerapi.model.Author;
+import de.jonahd345.xenfororesourcemanagerapi.model.Category;
+import de.jonahd345.xenfororesourcemanagerapi.model.Identities;
+import de.jonahd345.xenfororesourcemanagerapi.model.Premium;
+import de.jonahd345.xenfororesourcemanagerapi.model.Resource;
+import de.jonahd345.xenfororesourcemanagerapi.model.Reviews;
+import de.jonahd345.xenfororesourcemanagerapi.model.Stats;
+import de.jonahd345.xenfororesourcemanagerapi.model.Update;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Encodes the models into the compact binary format of the {@link SnapshotStore}.
+ * Fields are written in declaration order without names, strings as length-prefixed UTF-8
+ * and nested objects behind a presence byte, so null fields cost one byte or four.
+ */
+final class BinaryCodec {
+    private BinaryCodec() {}
+
+    /**
+     * Encodes a model.
+     *
+     * @param type the type of the model
+     * @param value the model
+     * @return the encoded bytes
+     */
+    static byte[] encode(RecordType type, Object value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        DataOutputStream out = new DataOutputStream(bytes);
+
+        try {
+            switch (type) {
+                case RESOURCE:
+                    writeResource(out, (Resource) value);
+                    break;
+                case AUTHOR:
+                    writeAuthor(out, (Author) value);
+                    break;
+                case CATEGORY:
+                    writeCategory(out, (Category) value);
+                    break;
+                case UPDATE:
+                    writeUpdate(out, (Update) value);
+                    break;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes a model.
+     *
+     * @param type the type of the model
+     * @param in the buffer positioned at the encoded model
+     * @return the model
+     */
+    static Object decode(RecordType type, ByteBuffer in) {
+        switch (type) {
+            case RESOURCE:
+                return readResource(in);
+            case AUTHOR:
+                return readAuthor(in);
+            case CATEGORY:
+                return readCategory(in);
+            default:
+                return readUpdate(in);
+        }
+    }
+
+    private static void writeResource(DataOutputStream out, Resource resource) throws IOException {
+        out.writeInt(resource.getId());
+        writeString(out, resource.getTitle());
+        writeString(out, resource.getTag());
+        writeString(out, resource.getCurrentVersion());
+        out.writeBoolean(resource.getCategory() != null);
+        if (resource.getCategory() != null) {
+            writeCategory(out, resource.getCategory());
+        }
+        writeString(out, resource.getNativeMinecraftVersion());
+
+        List<String> versions = resource.getSupportedMinecraftVersions();
+
+        out.writeInt(versions != null ? versions.size() : -1);
+        if (versions != null) {
+            for (String version : versions) {
+                writeString(out, version);
+            }
+        }
+        writeString(out, resource.getIconLink());
+        out.writeBoolean(resource.getAuthor() != null);
+        if (resource.getAuthor() != null) {
+            writeAuthor(out, resource.getAuthor());
+        }
+
+        Premium premium = resource.getPremium();
+
+        out.writeBoolean(premium != null);
+        if (premium != null) {
+            out.writeDouble(premium.getPrice());
+            writeString(out, premium.getCurrency());
+        }
+
+        Stats stats = resource.getStats();
+
+        out.writeBoolean(stats != null);
+        if (stats != null) {
+            out.writeInt(stats.getDownloads());
+            out.writeInt(stats.getUpdates());
+            out.writeBoolean(stats.getReviews() != null);
+            if (stats.getReviews() != null) {
+                out.writeInt(stats.getReviews().getUnique());
+                out.writeInt(stats.getReviews().getTotal());
+            }
+            out.writeDouble(stats.getRating());
+        }
+        writeString(out, resource.getExternalDownloadUrl());
+        writeString(out, resource.getDescription());
+    }
+
+    private static Resource readResource(ByteBuffer in) {
+        Resource resource = new Resource();
+
+        resource.setId(in.getInt());
+        resource.setTitle(readString(in));
+        resource.setTag(readString(in));
+        resource.setCurrentVersion(readString(in));
+        resource.setCategory(in.get() != 0 ? readCategory(in) : null);
+        resource.setNativeMinecraftVersion(readString(in));
+
+        int count = in.getInt();
+
+        if (count >= 0) {
+            List<String> versions = new ArrayList<>(count);
+
+            for (int i = 0; i < count; i++) {
+                versions.add(readString(in));
+            }
+            resource.setSupportedMinecraftVersions(versions);
+        }
+        resource.setIconLink(readString(in));
+        resource.setAuthor(in.get() != 0 ? readAuthor(in) : null);
+        if (in.get() != 0) {
+            Premium premium = new Premium();
+
+            premium.setPrice(in.getDouble());
+            premium.setCurrency(readString(in));
+            resource.setPremium(premium);
+        }
+        if (in.get() != 0) {
+            Stats stats = new Stats();
+
+            stats.setDownloads(in.getInt());
+            stats.setUpdates(in.getInt());
+            if (in.get() != 0) {
+                Reviews reviews = new Reviews();
+
+                reviews.setUnique(in.getInt());
+                reviews.setTotal(in.getInt());
+                stats.setReviews(reviews);
+            }
+            stats.setRating(in.getDouble());
+            resource.setStats(stats);
+        }
+        resource.setExternalDownloadUrl(readString(in));
+        resource.setDescription(readString(in));
+        return resource;
+    }
+
+    private static void writeAuthor(DataOutputStream out, Author author) throws IOException {
+        Identities identities = author.getIdentities();
+
+        out.writeInt(author.getId());
+        writeString(out, author.getUsername());
+        out.writeInt(author.getResourceCount());
+        out.writeBoolean(identities != null);
+        if (identities != null) {
+            writeString(out, identities.getDiscord());
+            writeString(out, identities.getGithub());
+            writeString(out, identities.getYoutube());
+            writeString(out, identities.getAim());
+            writeString(out, identities.getMsn());
+            writeString(out, identities.getIcq());
+            writeString(out, identities.getYahoo());
+            writeString(out, identities.getSkype());
+            writeString(out, identities.getGtalk());
+            writeString(out, identities.getFacebook());
+            writeString(out, identities.getTwitter());
+        }
+        writeString(out, author.getAvatar());
+    }
+
+    private static Author readAuthor(ByteBuffer in) {
+        Author author = new Author();
+
+        author.setId(in.getInt());
+        author.setUsername(readString(in));
+        author.setResourceCount(in.getInt());
+        if (in.get() != 0) {
+            Identities identities = new Identities();
+
+            identities.setDiscord(readString(in));
+            identities.setGithub(readString(in));
+            identities.setYoutube(readString(in));
+            identities.setAim(readString(in));
+            identities.setMsn(readString(in));
+            identities.setIcq(readString(in));
+            identities.setYahoo(readString(in));
+            identities.setSkype(readString(in));
+            identities.setGtalk(readString(in));
+            identities.setFacebook(readString(in));
+            identities.setTwitter(readString(in));
+            author.setIdentities(identities);
+        }
+        author.setAvatar(readString(in));
+        return author;
+    }
+
+    private static void writeCategory(DataOutputStream out, Category category) throws IOException {
+        out.writeInt(category.getId());
+        writeString(out, category.getTitle());
+    }
+
+    private static Category readCategory(ByteBuffer in) {
+        Category category = new Category();
+
+        category.setId(in.getInt());
+        category.setTitle(readString(in));
+        return category;
+    }
+
+    private static void writeUpdate(DataOutputStream out, Update update) throws IOException {
+        out.writeInt(update.getId());
+        out.writeInt(update.getResourceId());
+        writeString(out, update.getTitle());
+        writeString(out, update.getMessage());
+    }
+
+    private static Update readUpdate(ByteBuffer in) {
+        Update update = new Update();
+
+        update.setId(in.getInt());
+        update.setResourceId(in.getInt());
+        update.setTitle(readString(in));
+        update.setMessage(readString(in));
+        return update;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+
+        if (length < 0) {
+            return null;
+        }
+        if (in.hasArray()) {
+            String value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+
+            in.position(in.position() + length);
+            return value;
+        }
+        byte[] bytes = new byte[length];
+
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
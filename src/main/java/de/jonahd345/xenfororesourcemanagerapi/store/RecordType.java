@@ -0,0 +1,49 @@
+package de.jonahd345.xenfororesourcemanagerapi.store;
+
+import de.jonahd345.xenfororesourcemanagerapi.model.Author;
+import de.jonahd345.xenfororesourcemanagerapi.model.Category;
+import de.jonahd345.xenfororesourcemanagerapi.model.Resource;
+import de.jonahd345.xenfororesourcemanagerapi.model.Update;
+import lombok.Getter;
+
+/**
+ * The model types which can be stored in a {@link SnapshotStore}.
+ */
+public enum RecordType {
+    RESOURCE(1, Resource.class),
+    AUTHOR(2, Author.class),
+    CATEGORY(3, Category.class),
+    UPDATE(4, Update.class);
+
+    /**
+     * The code of the type in the binary format.
+     */
+    @Getter
+    private final byte code;
+
+    /**
+     * The model class of the type.
+     */
+    @Getter
+    private final Class<?> modelClass;
+
+    RecordType(int code, Class<?> modelClass) {
+        this.code = (byte) code;
+        this.modelClass = modelClass;
+    }
+
+    /**
+     * Returns the type with the given code.
+     *
+     * @param code the code of the type in the binary format
+     * @return the {@link RecordType}, which can be null if the code is unknown
+     */
+    public static RecordType of(byte code) {
+        for (RecordType type : values()) {
+            if (type.code == code) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
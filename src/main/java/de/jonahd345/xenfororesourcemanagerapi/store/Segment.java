@@ -0,0 +1,222 @@
+package de.jonahd345.xenfororesourcemanagerapi.store;
+
+import lombok.Getter;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * One append-only segment file of a {@link SnapshotStore}.
+ * The part of the file which existed when it was opened or sealed is memory-mapped,
+ * records appended afterwards are read through the file channel until the segment is sealed.
+ */
+final class Segment implements Closeable {
+    /**
+     * The magic number at the start of every segment, {@code XRMS}.
+     */
+    static final int MAGIC = 0x58524d53;
+
+    /**
+     * The version of the binary format.
+     */
+    static final int VERSION = 1;
+
+    /**
+     * The size of the segment header.
+     */
+    static final int HEADER_SIZE = 8;
+
+    @Getter
+    private final long id;
+
+    @Getter
+    private final Path path;
+
+    private final FileChannel channel;
+
+    @Getter
+    private long size;
+
+    private volatile MappedByteBuffer mapped;
+
+    private Segment(long id, Path path, FileChannel channel, long size) {
+        this.id = id;
+        this.path = path;
+        this.channel = channel;
+        this.size = size;
+    }
+
+    /**
+     * Creates a new empty segment.
+     *
+     * @param directory the directory of the store
+     * @param id the ID of the segment
+     * @return the {@link Segment}
+     * @throws IOException if an I/O exception occurs
+     */
+    static Segment create(Path directory, long id) throws IOException {
+        Path path = directory.resolve(fileName(id));
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(VERSION).flip();
+
+        while (header.hasRemaining()) {
+            channel.write(header, HEADER_SIZE - header.remaining());
+        }
+        return new Segment(id, path, channel, HEADER_SIZE);
+    }
+
+    /**
+     * Opens and maps an existing segment.
+     *
+     * @param path the file of the segment
+     * @param id the ID of the segment
+     * @return the {@link Segment}
+     * @throws IOException if an I/O exception occurs or the file is not a segment
+     */
+    static Segment open(Path path, long id) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        Segment segment = new Segment(id, path, channel, channel.size());
+
+        try {
+            if (segment.size < HEADER_SIZE) {
+                throw new IOException("Not a snapshot segment: " + path);
+            }
+            segment.map();
+            if (segment.mapped.getInt(0) != MAGIC || segment.mapped.getInt(4) != VERSION) {
+                throw new IOException("Not a snapshot segment of version " + VERSION + ": " + path);
+            }
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return segment;
+    }
+
+    /**
+     * Checks whether a file starts with a complete segment header of the current version.
+     * A crash while a segment is created can leave a file which is shorter than the header.
+     *
+     * @param path the file of the segment
+     * @return {@code true} if the header is complete and valid
+     * @throws IOException if an I/O exception occurs
+     */
+    static boolean hasHeader(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) < 0) {
+                    return false;
+                }
+            }
+            return header.getInt(0) == MAGIC && header.getInt(4) == VERSION;
+        }
+    }
+
+    /**
+     * Returns the file name of a segment.
+     *
+     * @param id the ID of the segment
+     * @return the file name
+     */
+    static String fileName(long id) {
+        return String.format("segment-%016d.dat", id);
+    }
+
+    /**
+     * Returns the mapped part of the segment.
+     *
+     * @return a read-only view of the mapped bytes
+     */
+    ByteBuffer mapped() {
+        return mapped.duplicate();
+    }
+
+    /**
+     * Reads bytes of the segment, from the mapped part if possible.
+     *
+     * @param offset the offset of the bytes in the file
+     * @param length the number of bytes
+     * @return a buffer containing the bytes
+     * @throws IOException if an I/O exception occurs
+     */
+    ByteBuffer read(long offset, int length) throws IOException {
+        MappedByteBuffer buffer = mapped;
+
+        if (buffer != null && offset + length <= buffer.capacity()) {
+            return buffer.duplicate().position((int) offset).limit((int) offset + length).slice();
+        }
+        ByteBuffer result = ByteBuffer.allocate(length);
+
+        while (result.hasRemaining()) {
+            if (channel.read(result, offset + result.position()) < 0) {
+                throw new EOFException("Unexpected end of segment " + path);
+            }
+        }
+        return result.flip();
+    }
+
+    /**
+     * Appends bytes to the segment.
+     *
+     * @param bytes the bytes
+     * @return the offset of the bytes in the file
+     * @throws IOException if an I/O exception occurs
+     */
+    long append(ByteBuffer bytes) throws IOException {
+        long offset = size;
+
+        while (bytes.hasRemaining()) {
+            size += channel.write(bytes, size);
+        }
+        return offset;
+    }
+
+    /**
+     * Cuts off a corrupt tail, e.g. a record which was only partially written before a crash.
+     *
+     * @param size the new size of the file
+     * @throws IOException if an I/O exception occurs
+     */
+    void truncate(long size) throws IOException {
+        mapped = null;
+        channel.truncate(size);
+        this.size = size;
+        map();
+    }
+
+    /**
+     * Writes the segment to the disk and maps it, after which no more records are appended.
+     *
+     * @throws IOException if an I/O exception occurs
+     */
+    void seal() throws IOException {
+        channel.force(false);
+        map();
+    }
+
+    /**
+     * Writes the appended records to the disk.
+     *
+     * @throws IOException if an I/O exception occurs
+     */
+    void force() throws IOException {
+        channel.force(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        mapped = null;
+        channel.close();
+    }
+
+    private void map() throws IOException {
+        mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+    }
+}
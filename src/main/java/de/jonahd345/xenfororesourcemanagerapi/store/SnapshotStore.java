@@ -0,0 +1,750 @@
+package de.jonahd345.xenfororesourcemanagerapi.store;
+
+import de.jonahd345.xenfororesourcemanagerapi.catalog.CatalogIndex;
+import de.jonahd345.xenfororesourcemanagerapi.model.Author;
+import de.jonahd345.xenfororesourcemanagerapi.model.Category;
+import de.jonahd345.xenfororesourcemanagerapi.model.Resource;
+import de.jonahd345.xenfororesourcemanagerapi.model.Update;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.ToIntFunction;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * A persistent on-disk store for the decoded models, used to warm the in-process state after a restart
+ * from the local disk instead of the API.
+ * <br>
+ * Models are written in a compact binary format to append-only segment files. Every record carries a CRC
+ * and the time the model was fetched, which is returned as staleness metadata with every {@link StoredEntry}.
+ * Replacing or removing a model only appends a record, the space of the old records is reclaimed by compaction,
+ * which rewrites the live records into new segments once the configured share of the segments is garbage.
+ * <br>
+ * On open, the segments are memory-mapped and replayed to rebuild the in-memory index of record locations,
+ * reads are served from the mapped files. A partially written record at the end of a segment, e.g. after a crash, is cut off,
+ * and a last segment without a complete header is deleted.
+ * The store is thread-safe, reads run concurrently and writes are exclusive.
+ */
+public class SnapshotStore implements Closeable {
+    private static final int RECORD_HEADER_SIZE = 8;
+
+    private static final int BODY_HEADER_SIZE = 14;
+
+    private static final byte FLAG_TOMBSTONE = 1;
+
+    private final Path directory;
+
+    private final long maxSegmentBytes;
+
+    private final double compactionRatio;
+
+    private final long minCompactionBytes;
+
+    private final Logger logger = Logger.getLogger(SnapshotStore.class.getName());
+
+    private final TreeMap<Long, Segment> segments = new TreeMap<>();
+
+    private final Map<Long, Location> index = new HashMap<>();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Segment active;
+
+    /**
+     * The size of all records in the segments, including replaced and removed ones.
+     */
+    @Getter
+    private long totalBytes;
+
+    /**
+     * The size of the current records.
+     */
+    @Getter
+    private long liveBytes;
+
+    /**
+     * Constructor used by {@link #builder()} to open the store, creating the directory if necessary.
+     *
+     * @param directory the directory of the segment files
+     * @param maxSegmentBytes the size after which a new segment is started, 64 MiB if null
+     * @param compactionRatio the share of garbage in the segments which triggers a compaction, {@code 0.5} if null
+     * @param minCompactionBytes the total size below which no compaction is triggered, 4 MiB if null
+     * @throws UncheckedIOException if the directory or a segment cannot be read
+     */
+    @Builder
+    private SnapshotStore(Path directory, Long maxSegmentBytes, Double compactionRatio, Long minCompactionBytes) {
+        if (directory == null) {
+            throw new IllegalArgumentException("The directory must not be null.");
+        }
+        this.directory = directory;
+        this.maxSegmentBytes = maxSegmentBytes != null ? Math.max(1024, Math.min(Integer.MAX_VALUE, maxSegmentBytes)) : 64L << 20;
+        this.compactionRatio = compactionRatio != null ? Math.max(0.05, Math.min(1, compactionRatio)) : 0.5;
+        this.minCompactionBytes = minCompactionBytes != null ? Math.max(0, minCompactionBytes) : 4L << 20;
+        try {
+            Files.createDirectories(directory);
+            open();
+        } catch (IOException e) {
+            closeSegments();
+            throw new UncheckedIOException("Failed to open the snapshot store at " + directory, e);
+        }
+    }
+
+    /**
+     * Stores a resource with the current time as its fetch time.
+     *
+     * @param resource the resource
+     */
+    public void putResource(Resource resource) {
+        put(RecordType.RESOURCE, resource.getId(), resource, System.currentTimeMillis());
+    }
+
+    /**
+     * Stores multiple resources with the current time as their fetch time.
+     *
+     * @param resources the resources, e.g. one page of {@code listResources}
+     */
+    public void putResources(Collection<Resource> resources) {
+        putAll(RecordType.RESOURCE, resources, Resource::getId);
+    }
+
+    /**
+     * Returns a stored resource.
+     *
+     * @param id the ID of the resource
+     * @return the {@link StoredEntry} of the resource, which can be null if it is not stored
+     */
+    public StoredEntry<Resource> getResource(int id) {
+        return get(RecordType.RESOURCE, id);
+    }
+
+    /**
+     * Returns all stored resources.
+     *
+     * @return the {@link StoredEntry}s of the resources, in storage order
+     */
+    public List<StoredEntry<Resource>> getResources() {
+        return getAll(RecordType.RESOURCE);
+    }
+
+    /**
+     * Removes a stored resource.
+     *
+     * @param id the ID of the resource
+     * @return {@code true} if the resource was stored
+     */
+    public boolean removeResource(int id) {
+        return remove(RecordType.RESOURCE, id);
+    }
+
+    /**
+     * Stores an author with the current time as its fetch time.
+     *
+     * @param author the author
+     */
+    public void putAuthor(Author author) {
+        put(RecordType.AUTHOR, author.getId(), author, System.currentTimeMillis());
+    }
+
+    /**
+     * Returns a stored author.
+     *
+     * @param id the ID of the author
+     * @return the {@link StoredEntry} of the author, which can be null if it is not stored
+     */
+    public StoredEntry<Author> getAuthor(int id) {
+        return get(RecordType.AUTHOR, id);
+    }
+
+    /**
+     * Returns all stored authors.
+     *
+     * @return the {@link StoredEntry}s of the authors, in storage order
+     */
+    public List<StoredEntry<Author>> getAuthors() {
+        return getAll(RecordType.AUTHOR);
+    }
+
+    /**
+     * Removes a stored author.
+     *
+     * @param id the ID of the author
+     * @return {@code true} if the author was stored
+     */
+    public boolean removeAuthor(int id) {
+        return remove(RecordType.AUTHOR, id);
+    }
+
+    /**
+     * Stores multiple categories with the current time as their fetch time.
+     *
+     * @param categories the categories, e.g. the result of {@code listResourceCategories}
+     */
+    public void putCategories(Collection<Category> categories) {
+        putAll(RecordType.CATEGORY, categories, Category::getId);
+    }
+
+    /**
+     * Returns a stored category.
+     *
+     * @param id the ID of the category
+     * @return the {@link StoredEntry} of the category, which can be null if it is not stored
+     */
+    public StoredEntry<Category> getCategory(int id) {
+        return get(RecordType.CATEGORY, id);
+    }
+
+    /**
+     * Returns all stored categories.
+     *
+     * @return the {@link StoredEntry}s of the categories, in storage order
+     */
+    public List<StoredEntry<Category>> getCategories() {
+        return getAll(RecordType.CATEGORY);
+    }
+
+    /**
+     * Removes a stored category.
+     *
+     * @param id the ID of the category
+     * @return {@code true} if the category was stored
+     */
+    public boolean removeCategory(int id) {
+        return remove(RecordType.CATEGORY, id);
+    }
+
+    /**
+     * Stores multiple updates with the current time as their fetch time.
+     *
+     * @param updates the updates, e.g. one page of {@code getResourceUpdates}
+     */
+    public void putUpdates(Collection<Update> updates) {
+        putAll(RecordType.UPDATE, updates, Update::getId);
+    }
+
+    /**
+     * Returns a stored update.
+     *
+     * @param id the ID of the update
+     * @return the {@link StoredEntry} of the update, which can be null if it is not stored
+     */
+    public StoredEntry<Update> getUpdate(int id) {
+        return get(RecordType.UPDATE, id);
+    }
+
+    /**
+     * Returns all stored updates.
+     *
+     * @return the {@link StoredEntry}s of the updates, in storage order
+     */
+    public List<StoredEntry<Update>> getUpdates() {
+        return getAll(RecordType.UPDATE);
+    }
+
+    /**
+     * Removes a stored update.
+     *
+     * @param id the ID of the update
+     * @return {@code true} if the update was stored
+     */
+    public boolean removeUpdate(int id) {
+        return remove(RecordType.UPDATE, id);
+    }
+
+    /**
+     * Stores a model with the given fetch time, replacing the stored model of the same type and ID.
+     *
+     * @param type the type of the model
+     * @param id the ID of the model
+     * @param value the model, an instance of the model class of the type
+     * @param fetchedAt the time the model was fetched from the API in epoch milliseconds
+     * @throws UncheckedIOException if the record cannot be written
+     */
+    public void put(RecordType type, int id, Object value, long fetchedAt) {
+        ByteBuffer record = record(type, id, value, fetchedAt);
+
+        lock.writeLock().lock();
+        try {
+            append(type, id, record, fetchedAt);
+            compactIfNecessary();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write to the snapshot store at " + directory, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns a stored model.
+     *
+     * @param type the type of the model
+     * @param id the ID of the model
+     * @param <T> the model class of the type
+     * @return the {@link StoredEntry} of the model, which can be null if it is not stored
+     * @throws UncheckedIOException if the record cannot be read
+     */
+    public <T> StoredEntry<T> get(RecordType type, int id) {
+        lock.readLock().lock();
+        try {
+            Location location = index.get(key(type, id));
+
+            return location != null ? read(type, location) : null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read from the snapshot store at " + directory, e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns all stored models of a type. The records are read in file order, so most reads are sequential.
+     *
+     * @param type the type of the models
+     * @param <T> the model class of the type
+     * @return the {@link StoredEntry}s of the models, in storage order
+     * @throws UncheckedIOException if a record cannot be read
+     */
+    public <T> List<StoredEntry<T>> getAll(RecordType type) {
+        lock.readLock().lock();
+        try {
+            List<Location> locations = new ArrayList<>();
+
+            for (Map.Entry<Long, Location> entry : index.entrySet()) {
+                if (typeOf(entry.getKey()) == type.getCode()) {
+                    locations.add(entry.getValue());
+                }
+            }
+            locations.sort(Location.ORDER);
+
+            List<StoredEntry<T>> entries = new ArrayList<>(locations.size());
+
+            for (Location location : locations) {
+                entries.add(read(type, location));
+            }
+            return entries;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read from the snapshot store at " + directory, e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a stored model.
+     *
+     * @param type the type of the model
+     * @param id the ID of the model
+     * @return {@code true} if the model was stored
+     * @throws UncheckedIOException if the record cannot be written
+     */
+    public boolean remove(RecordType type, int id) {
+        lock.writeLock().lock();
+        try {
+            if (!index.containsKey(key(type, id))) {
+                return false;
+            }
+            ByteBuffer tombstone = ByteBuffer.allocate(RECORD_HEADER_SIZE + BODY_HEADER_SIZE);
+
+            writeRecord(tombstone, type, FLAG_TOMBSTONE, id, System.currentTimeMillis(), null);
+            append(type, id, tombstone, 0);
+            compactIfNecessary();
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write to the snapshot store at " + directory, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Warms a {@link CatalogIndex} with the stored resources.
+     *
+     * @param catalogIndex the index to fill
+     * @param maxAge the maximum age of the loaded resources, or null to load all of them
+     * @return the number of loaded resources
+     */
+    public int loadInto(CatalogIndex catalogIndex, Duration maxAge) {
+        List<Resource> resources = new ArrayList<>();
+
+        for (StoredEntry<Resource> entry : getResources()) {
+            if (maxAge == null || !entry.isOlderThan(maxAge)) {
+                resources.add(entry.getValue());
+            }
+        }
+        catalogIndex.putAll(resources);
+        return resources.size();
+    }
+
+    /**
+     * Returns the number of stored models.
+     *
+     * @return the number of models of all types
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of segment files.
+     *
+     * @return the segment count
+     */
+    public int getSegmentCount() {
+        lock.readLock().lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Writes the appended records to the disk. Without a flush, records are written by the operating system at its own pace.
+     *
+     * @throws UncheckedIOException if the records cannot be written
+     */
+    public void flush() {
+        lock.writeLock().lock();
+        try {
+            active.force();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to flush the snapshot store at " + directory, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rewrites the current records into new segments and deletes the old segments.
+     * Until the old segments are deleted, a crash leaves both copies on the disk, which replay to the same state.
+     *
+     * @throws UncheckedIOException if the segments cannot be rewritten
+     */
+    public void compact() {
+        lock.writeLock().lock();
+        try {
+            compactSegments();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compact the snapshot store at " + directory, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Flushes and closes the segment files.
+     *
+     * @throws IOException if an I/O exception occurs
+     */
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            if (active != null) {
+                active.force();
+            }
+            closeSegments();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Opens the existing segments in ID order and replays them into the index.
+     * The last segment is deleted if its header is incomplete, an invalid header of an earlier segment fails the open.
+     */
+    private void open() throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "segment-*.dat")) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+
+                segments.put(Long.parseLong(name.substring(8, name.length() - 4)), null);
+            }
+        }
+        for (Long id : new ArrayList<>(segments.keySet())) {
+            Path file = directory.resolve(Segment.fileName(id));
+
+            if (id.equals(segments.lastKey()) && !Segment.hasHeader(file)) {
+                // like a torn record, a crash while the last segment was created leaves an incomplete header
+                logger.severe("Missing or invalid header in snapshot segment " + file + ", deleting the segment");
+                Files.delete(file);
+                segments.remove(id);
+                continue;
+            }
+            Segment segment = Segment.open(file, id);
+
+            segments.put(id, segment);
+            replay(segment);
+        }
+        active = segments.isEmpty() ? null : segments.lastEntry().getValue();
+        if (active == null) {
+            active = Segment.create(directory, 1);
+            segments.put(active.getId(), active);
+        }
+    }
+
+    /**
+     * Applies the records of a segment to the index, cutting off the segment at the first incomplete or corrupt record.
+     */
+    private void replay(Segment segment) throws IOException {
+        ByteBuffer buffer = segment.mapped();
+        CRC32 crc = new CRC32();
+        int offset = Segment.HEADER_SIZE;
+
+        while (offset + RECORD_HEADER_SIZE <= buffer.limit()) {
+            int length = buffer.getInt(offset);
+            int checksum = buffer.getInt(offset + 4);
+
+            if (length < BODY_HEADER_SIZE || length > buffer.limit() - offset - RECORD_HEADER_SIZE) {
+                break;
+            }
+            crc.reset();
+            crc.update(buffer.duplicate().position(offset + RECORD_HEADER_SIZE).limit(offset + RECORD_HEADER_SIZE + length));
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+            int body = offset + RECORD_HEADER_SIZE;
+            RecordType type = RecordType.of(buffer.get(body));
+            int size = RECORD_HEADER_SIZE + length;
+
+            totalBytes += size;
+            if (type != null) {
+                long key = key(type, buffer.getInt(body + 2));
+
+                if (buffer.get(body + 1) == FLAG_TOMBSTONE) {
+                    unindex(key);
+                } else {
+                    index(key, new Location(segment, offset, size, buffer.getLong(body + 6)));
+                }
+            }
+            offset += size;
+        }
+        if (offset < buffer.limit()) {
+            logger.severe("Corrupt or incomplete record in snapshot segment " + segment.getPath() + " at offset " + offset
+                    + ", discarding " + (buffer.limit() - offset) + " bytes");
+            segment.truncate(offset);
+        }
+    }
+
+    /**
+     * Encodes a complete record.
+     */
+    private static ByteBuffer record(RecordType type, int id, Object value, long fetchedAt) {
+        byte[] payload = BinaryCodec.encode(type, value);
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + BODY_HEADER_SIZE + payload.length);
+
+        writeRecord(record, type, (byte) 0, id, fetchedAt, payload);
+        return record;
+    }
+
+    /**
+     * Writes the record header, body header, payload and checksum into the buffer and flips it.
+     */
+    private static void writeRecord(ByteBuffer record, RecordType type, byte flags, int id, long fetchedAt, byte[] payload) {
+        CRC32 crc = new CRC32();
+
+        record.putInt(BODY_HEADER_SIZE + (payload != null ? payload.length : 0)).putInt(0)
+                .put(type.getCode()).put(flags).putInt(id).putLong(fetchedAt);
+        if (payload != null) {
+            record.put(payload);
+        }
+        crc.update(record.array(), RECORD_HEADER_SIZE, record.position() - RECORD_HEADER_SIZE);
+        record.putInt(4, (int) crc.getValue()).flip();
+    }
+
+    /**
+     * Encodes multiple models outside the lock and appends them under one lock.
+     */
+    private <T> void putAll(RecordType type, Collection<T> values, ToIntFunction<T> id) {
+        long now = System.currentTimeMillis();
+        List<ByteBuffer> records = new ArrayList<>(values.size());
+
+        for (T value : values) {
+            records.add(record(type, id.applyAsInt(value), value, now));
+        }
+        lock.writeLock().lock();
+        try {
+            int i = 0;
+
+            for (T value : values) {
+                append(type, id.applyAsInt(value), records.get(i++), now);
+            }
+            compactIfNecessary();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write to the snapshot store at " + directory, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Appends a record to the active segment, starting a new segment if it is full, and updates the index.
+     */
+    private void append(RecordType type, int id, ByteBuffer record, long fetchedAt) throws IOException {
+        int size = record.remaining();
+
+        if (active.getSize() + size > maxSegmentBytes && active.getSize() > Segment.HEADER_SIZE) {
+            roll();
+        }
+        long offset = active.append(record);
+        long key = key(type, id);
+
+        totalBytes += size;
+        if (size == RECORD_HEADER_SIZE + BODY_HEADER_SIZE && record.get(RECORD_HEADER_SIZE + 1) == FLAG_TOMBSTONE) {
+            unindex(key);
+        } else {
+            index(key, new Location(active, offset, size, fetchedAt));
+        }
+    }
+
+    /**
+     * Seals the active segment and starts a new one.
+     */
+    private void roll() throws IOException {
+        active.seal();
+        active = Segment.create(directory, active.getId() + 1);
+        segments.put(active.getId(), active);
+    }
+
+    private void index(long key, Location location) {
+        Location previous = index.put(key, location);
+
+        if (previous != null) {
+            liveBytes -= previous.size;
+        }
+        liveBytes += location.size;
+    }
+
+    private void unindex(long key) {
+        Location previous = index.remove(key);
+
+        if (previous != null) {
+            liveBytes -= previous.size;
+        }
+    }
+
+    /**
+     * Decodes the record at a location.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> StoredEntry<T> read(RecordType type, Location location) throws IOException {
+        ByteBuffer record = location.segment.read(location.offset, location.size);
+
+        record.position(RECORD_HEADER_SIZE + BODY_HEADER_SIZE);
+        return new StoredEntry<>((T) BinaryCodec.decode(type, record), location.fetchedAt);
+    }
+
+    private void compactIfNecessary() throws IOException {
+        if (totalBytes >= minCompactionBytes && totalBytes - liveBytes >= totalBytes * compactionRatio) {
+            compactSegments();
+        }
+    }
+
+    /**
+     * Copies the current records in storage order into new segments, then deletes the old segments.
+     */
+    private void compactSegments() throws IOException {
+        List<Map.Entry<Long, Location>> live = new ArrayList<>(index.entrySet());
+        List<Segment> old = new ArrayList<>(segments.values());
+
+        live.sort(Map.Entry.comparingByValue(Location.ORDER));
+        if (active.getSize() > Segment.HEADER_SIZE) {
+            roll();
+        } else {
+            old.remove(active);
+        }
+        totalBytes = 0;
+        liveBytes = 0;
+        for (Map.Entry<Long, Location> entry : live) {
+            Location location = entry.getValue();
+            ByteBuffer record = location.segment.read(location.offset, location.size);
+
+            if (active.getSize() + location.size > maxSegmentBytes && active.getSize() > Segment.HEADER_SIZE) {
+                roll();
+            }
+            long offset = active.append(record);
+
+            totalBytes += location.size;
+            liveBytes += location.size;
+            index.put(entry.getKey(), new Location(active, offset, location.size, location.fetchedAt));
+        }
+        active.force();
+        for (Segment segment : old) {
+            segments.remove(segment.getId());
+            segment.close();
+            try {
+                Files.deleteIfExists(segment.getPath());
+            } catch (IOException e) {
+                logger.severe("Failed to delete the compacted snapshot segment " + segment.getPath() + "\nException: " + e);
+            }
+        }
+    }
+
+    private void closeSegments() {
+        for (Segment segment : segments.values()) {
+            if (segment == null) {
+                continue;
+            }
+            try {
+                segment.close();
+            } catch (IOException e) {
+                logger.severe("Failed to close the snapshot segment " + segment.getPath() + "\nException: " + e);
+            }
+        }
+        segments.clear();
+        index.clear();
+        active = null;
+    }
+
+    private static long key(RecordType type, int id) {
+        return (long) type.getCode() << 32 | id & 0xffffffffL;
+    }
+
+    private static byte typeOf(long key) {
+        return (byte) (key >>> 32);
+    }
+
+    /**
+     * The location of the current record of a model.
+     */
+    private static class Location {
+        private static final Comparator<Location> ORDER = Comparator.<Location>comparingLong(location -> location.segment.getId())
+                .thenComparingLong(location -> location.offset);
+
+        private final Segment segment;
+
+        private final long offset;
+
+        private final int size;
+
+        private final long fetchedAt;
+
+        private Location(Segment segment, long offset, int size, long fetchedAt) {
+            this.segment = segment;
+            this.offset = offset;
+            this.size = size;
+            this.fetchedAt = fetchedAt;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package de.jonahd345.xenfororesourcemanagerapi.store;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Represents a model read from a {@link SnapshotStore}, together with the time it was fetched from the API.
+ *
+ * @param <T> the type of the model
+ */
+@Getter
+public class StoredEntry<T> {
+    /**
+     * The stored model.
+     */
+    private final T value;
+
+    /**
+     * The time the model was fetched from the API in epoch milliseconds.
+     */
+    private final long fetchedAt;
+
+    /**
+     * Creates an entry.
+     *
+     * @param value the stored model
+     * @param fetchedAt the time the model was fetched from the API in epoch milliseconds
+     */
+    StoredEntry(T value, long fetchedAt) {
+        this.value = value;
+        this.fetchedAt = fetchedAt;
+    }
+
+    /**
+     * Returns the age of the entry.
+     *
+     * @return the time since the model was fetched
+     */
+    public Duration getAge() {
+        return Duration.ofMillis(Math.max(0, System.currentTimeMillis() - fetchedAt));
+    }
+
+    /**
+     * Checks whether the entry is older than the given age, e.g. to refresh stale entries from the API after a restart.
+     *
+     * @param maxAge the maximum age
+     * @return {@code true} if the model was fetched longer than {@code maxAge} ago
+     */
+    public boolean isOlderThan(Duration maxAge) {
+        return getAge().compareTo(maxAge) > 0;
+    }
+}
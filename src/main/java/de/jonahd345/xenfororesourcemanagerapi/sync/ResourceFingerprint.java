@@ -0,0 +1,103 @@
+package de.jonahd345.xenfororesourcemanagerapi.sync;
+
+import de.jonahd345.xenfororesourcemanagerapi.model.Author;
+import de.jonahd345.xenfororesourcemanagerapi.model.Category;
+import de.jonahd345.xenfororesourcemanagerapi.model.Premium;
+import de.jonahd345.xenfororesourcemanagerapi.model.Resource;
+import de.jonahd345.xenfororesourcemanagerapi.model.Stats;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Represents the last-known state of a resource, used by the {@link SyncEngine} to detect changes.
+ * The fields which change most often are kept as they are, every other field is summarized in a content hash.
+ */
+@Data
+public class ResourceFingerprint {
+    /**
+     * The current version of the resource.
+     */
+    private final String currentVersion;
+
+    /**
+     * The number of updates.
+     */
+    private final int updates;
+
+    /**
+     * The number of downloads, {@code 0} if downloads are not tracked.
+     */
+    private final int downloads;
+
+    /**
+     * A 64-bit hash of all other fields of the resource.
+     */
+    private final long contentHash;
+
+    /**
+     * Creates the fingerprint of a resource.
+     *
+     * @param resource the resource
+     * @param trackDownloads whether a change of the downloads counts as a change of the resource
+     * @return the {@link ResourceFingerprint}
+     */
+    public static ResourceFingerprint of(Resource resource, boolean trackDownloads) {
+        Stats stats = resource.getStats();
+
+        return new ResourceFingerprint(resource.getCurrentVersion(), stats != null ? stats.getUpdates() : 0,
+                trackDownloads && stats != null ? stats.getDownloads() : 0, contentHash(resource));
+    }
+
+    /**
+     * Hashes every field of a resource except the version, updates and downloads with 64-bit FNV-1a.
+     */
+    private static long contentHash(Resource resource) {
+        Category category = resource.getCategory();
+        Author author = resource.getAuthor();
+        Premium premium = resource.getPremium();
+        Stats stats = resource.getStats();
+        long hash = 0xcbf29ce484222325L;
+
+        hash = mix(hash, resource.getTitle());
+        hash = mix(hash, resource.getTag());
+        hash = mix(hash, category != null ? category.getId() : -1);
+        hash = mix(hash, resource.getNativeMinecraftVersion());
+        hash = mix(hash, resource.getIconLink());
+        hash = mix(hash, author != null ? author.getId() : -1);
+        hash = mix(hash, author != null ? author.getUsername() : null);
+        hash = mix(hash, premium != null ? Double.hashCode(premium.getPrice()) : -1);
+        hash = mix(hash, premium != null ? premium.getCurrency() : null);
+        hash = mix(hash, stats != null ? Double.hashCode(stats.getRating()) : -1);
+        hash = mix(hash, stats != null && stats.getReviews() != null ? stats.getReviews().getTotal() : -1);
+        hash = mix(hash, resource.getExternalDownloadUrl());
+        hash = mix(hash, resource.getDescription());
+
+        List<String> versions = resource.getSupportedMinecraftVersions();
+
+        hash = mix(hash, versions != null ? versions.size() : -1);
+        if (versions != null) {
+            for (String version : versions) {
+                hash = mix(hash, version);
+            }
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, String value) {
+        if (value == null) {
+            return mix(hash, -1);
+        }
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * 0x100000001b3L;
+        }
+        return mix(hash, value.length());
+    }
+
+    private static long mix(long hash, int value) {
+        for (int i = 0; i < 4; i++) {
+            hash = (hash ^ (value >>> (i * 8) & 0xff)) * 0x100000001b3L;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,202 @@
+package de.jonahd345.xenfororesourcemanagerapi.sync;
+
+import de.jonahd345.xenfororesourcemanagerapi.XenforoResourceManagerAPI;
+import de.jonahd345.xenfororesourcemanagerapi.json.Projection;
+import de.jonahd345.xenfororesourcemanagerapi.model.Resource;
+import de.jonahd345.xenfororesourcemanagerapi.util.Futures;
+import lombok.Builder;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Synchronizes a mirror of the resource catalog incrementally.
+ * The engine walks the {@code listResources} pages, compares every resource to its {@link ResourceFingerprint}
+ * in the {@link SyncState} and reports only added, changed and removed resources to the {@link SyncListener}.
+ * <br>
+ * Once a number of consecutive pages contained no change, the run stops early, so the cost of a run scales with
+ * the churn instead of the size of the catalog. This relies on recently updated resources being listed first.
+ * Removed resources can only be detected by walking all pages, so early stopping can be disabled for periodic full runs.
+ */
+public class SyncEngine {
+    private final XenforoResourceManagerAPI api;
+
+    private final SyncListener listener;
+
+    private final Integer category;
+
+    private final int maxUnchangedPages;
+
+    private final boolean trackDownloads;
+
+    private final ExecutorService executorService;
+
+    /**
+     * Constructor used by {@link #builder()} to initialize the engine.
+     *
+     * @param api the API client used to fetch the pages
+     * @param listener the listener receiving the changes
+     * @param category the category ID to synchronize, or null for the whole catalog. Use one {@link SyncState} per category
+     * @param maxUnchangedPages the number of consecutive unchanged pages after which a run stops, {@code 3} if null, {@code 0} to always walk all pages
+     * @param trackDownloads whether a change of the downloads counts as a change, {@code true} if null
+     * @param executorService the executor service the pages are decoded and the listener is called on, the executor service of the API client if null
+     */
+    @Builder
+    private SyncEngine(XenforoResourceManagerAPI api, SyncListener listener, Integer category, Integer maxUnchangedPages,
+                       Boolean trackDownloads, ExecutorService executorService) {
+        if (api == null || listener == null) {
+            throw new IllegalArgumentException("The API client and the listener must not be null.");
+        }
+        this.api = api;
+        this.listener = listener;
+        this.category = category;
+        this.maxUnchangedPages = maxUnchangedPages != null ? Math.max(0, maxUnchangedPages) : 3;
+        this.trackDownloads = trackDownloads == null || trackDownloads;
+        this.executorService = executorService != null ? executorService : api.getExecutorService();
+    }
+
+    /**
+     * Runs a sync, stopping early once the configured number of consecutive pages is unchanged.
+     * The state is updated in place, also for the changes handled before a run fails.
+     *
+     * @param state the state of the previous run, an empty state for the first run
+     * @return a CompletableFuture containing the {@link SyncResult}, completed exceptionally if a page cannot be fetched
+     */
+    public CompletableFuture<SyncResult> sync(SyncState state) {
+        return new Run(state, maxUnchangedPages).start();
+    }
+
+    /**
+     * Runs a sync which walks all pages and therefore also detects removed resources.
+     * The state is updated in place, also for the changes handled before a run fails.
+     *
+     * @param state the state of the previous run, an empty state for the first run
+     * @return a CompletableFuture containing the {@link SyncResult}, completed exceptionally if a page cannot be fetched
+     */
+    public CompletableFuture<SyncResult> fullSync(SyncState state) {
+        return new Run(state, 0).start();
+    }
+
+    private class Run {
+        private final SyncState state;
+
+        private final int maxUnchangedPages;
+
+        private final BitSet seen = new BitSet();
+
+        private final CompletableFuture<SyncResult> result = new CompletableFuture<>();
+
+        private int page = 1;
+
+        private int unchangedPages;
+
+        private int added;
+
+        private int changed;
+
+        private volatile CompletableFuture<?> current;
+
+        private Run(SyncState state, int maxUnchangedPages) {
+            this.state = state;
+            this.maxUnchangedPages = maxUnchangedPages;
+            result.whenComplete((value, throwable) -> {
+                CompletableFuture<?> request = current;
+
+                if (throwable != null && request != null) {
+                    request.cancel(true);
+                }
+            });
+        }
+
+        private CompletableFuture<SyncResult> start() {
+            next();
+            return result;
+        }
+
+        private void next() {
+            if (result.isDone()) {
+                return;
+            }
+            CompletableFuture<List<Resource>> request = api.listResourcesAsync(category, page, Projection.FULL, executorService);
+
+            current = request;
+            request.whenCompleteAsync((resources, throwable) -> {
+                try {
+                    if (throwable != null) {
+                        result.completeExceptionally(Futures.unwrap(throwable));
+                    } else {
+                        onPage(resources);
+                    }
+                } catch (RuntimeException | Error e) {
+                    result.completeExceptionally(e);
+                }
+            }, executorService);
+        }
+
+        private void onPage(List<Resource> resources) {
+            if (resources == null) {
+                // an error response must neither be mistaken for the end of the catalog nor for an early stop
+                result.completeExceptionally(new IllegalStateException("Page " + page + " of the resources could not be fetched."));
+                return;
+            }
+            if (resources.isEmpty()) {
+                finish(true);
+                return;
+            }
+            boolean pageChanged = false;
+
+            for (Resource resource : resources) {
+                ResourceFingerprint fingerprint = ResourceFingerprint.of(resource, trackDownloads);
+                ResourceFingerprint previous = state.getResources().get(resource.getId());
+
+                seen.set(resource.getId());
+                // the fingerprint is only stored once the listener handled the change, so a failed listener sees it again next run
+                if (previous == null) {
+                    listener.onAdded(resource);
+                    state.getResources().put(resource.getId(), fingerprint);
+                    added++;
+                    pageChanged = true;
+                } else if (!previous.equals(fingerprint)) {
+                    listener.onChanged(resource, previous);
+                    state.getResources().put(resource.getId(), fingerprint);
+                    changed++;
+                    pageChanged = true;
+                }
+            }
+            unchangedPages = pageChanged ? 0 : unchangedPages + 1;
+            if (maxUnchangedPages > 0 && unchangedPages >= maxUnchangedPages) {
+                finish(false);
+                return;
+            }
+            page++;
+            next();
+        }
+
+        private void finish(boolean complete) {
+            int removed = 0;
+
+            if (complete) {
+                List<Integer> missing = new ArrayList<>();
+
+                for (Map.Entry<Integer, ResourceFingerprint> entry : state.getResources().entrySet()) {
+                    if (!seen.get(entry.getKey())) {
+                        missing.add(entry.getKey());
+                    }
+                }
+                for (int id : missing) {
+                    listener.onRemoved(id, state.getResources().get(id));
+                    state.getResources().remove(id);
+                    removed++;
+                }
+                state.setCompleteRuns(state.getCompleteRuns() + 1);
+            } else {
+                state.setPartialRuns(state.getPartialRuns() + 1);
+            }
+            result.complete(new SyncResult(page, added, changed, removed, complete, state));
+        }
+    }
+}
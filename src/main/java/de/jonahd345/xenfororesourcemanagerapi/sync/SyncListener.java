@@ -0,0 +1,33 @@
+package de.jonahd345.xenfororesourcemanagerapi.sync;
+
+import de.jonahd345.xenfororesourcemanagerapi.model.Resource;
+
+/**
+ * Receives the changes detected by a {@link SyncEngine}.
+ * Calls are serialized, so implementations do not need to be thread-safe.
+ * If a call throws, the run fails and the change is not recorded in the {@link SyncState}, so the next run reports it again.
+ */
+public interface SyncListener {
+    /**
+     * Called for a resource which was not known before.
+     *
+     * @param resource the new {@link Resource}
+     */
+    default void onAdded(Resource resource) {}
+
+    /**
+     * Called for a known resource whose version, stats or content changed.
+     *
+     * @param resource the changed {@link Resource}
+     * @param previous the fingerprint of the last-known state of the resource
+     */
+    default void onChanged(Resource resource, ResourceFingerprint previous) {}
+
+    /**
+     * Called for a known resource which was not found on any page, only if the sync walked all pages.
+     *
+     * @param id the ID of the removed resource
+     * @param previous the fingerprint of the last-known state of the resource
+     */
+    default void onRemoved(int id, ResourceFingerprint previous) {}
+}
@@ -0,0 +1,41 @@
+package de.jonahd345.xenfororesourcemanagerapi.sync;
+
+import lombok.Data;
+import lombok.ToString;
+
+/**
+ * Represents the result of one run of a {@link SyncEngine}.
+ */
+@Data
+public class SyncResult {
+    /**
+     * The number of fetched pages.
+     */
+    private final int pages;
+
+    /**
+     * The number of resources which were added.
+     */
+    private final int added;
+
+    /**
+     * The number of resources which changed.
+     */
+    private final int changed;
+
+    /**
+     * The number of resources which were removed.
+     */
+    private final int removed;
+
+    /**
+     * Whether all pages were walked. Removed resources are only detected by complete runs.
+     */
+    private final boolean complete;
+
+    /**
+     * The updated state, to be passed to the next run.
+     */
+    @ToString.Exclude
+    private final SyncState state;
+}
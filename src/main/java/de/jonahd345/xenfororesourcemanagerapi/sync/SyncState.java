@@ -0,0 +1,29 @@
+package de.jonahd345.xenfororesourcemanagerapi.sync;
+
+import lombok.Data;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Represents the last-known state of a synchronized catalog or category.
+ * The state is a plain data object and can be persisted between runs, e.g. with Gson.
+ * One state must only be used by one sync at a time.
+ */
+@Data
+public class SyncState {
+    /**
+     * The fingerprints of the known resources by resource ID.
+     */
+    private final Map<Integer, ResourceFingerprint> resources = new HashMap<>();
+
+    /**
+     * The number of runs which walked all pages, and therefore detected removed resources.
+     */
+    private long completeRuns;
+
+    /**
+     * The number of runs which stopped early because the pages were unchanged.
+     */
+    private long partialRuns;
+}
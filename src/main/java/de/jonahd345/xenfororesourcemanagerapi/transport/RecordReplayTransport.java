@@ -0,0 +1,291 @@
+package de.jonahd345.xenfororesourcemanagerapi.transport;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import de.jonahd345.xenfororesourcemanagerapi.util.StreamResponse;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.http.HttpHeaders;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link Transport} which records real responses to disk and serves them back, e.g. for tests which must not reach the API
+ * or for load tests which should measure the client instead of the network.
+ * <br>
+ * Every request is stored in its own JSON file in the directory, named after the hash of its query, so recordings of the real API
+ * can be replayed for any base URL. Replayed responses are kept in memory
+ * and delayed by the configured latency. A replayed response with an {@code ETag} answers a matching conditional request with {@code 304}.
+ */
+public class RecordReplayTransport implements Transport {
+    private static final Set<String> TRANSFER_HEADERS = Set.of("content-encoding", "content-length", "transfer-encoding", ":status");
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
+
+    /**
+     * The modes of a {@link RecordReplayTransport}.
+     */
+    public enum Mode {
+        /**
+         * Every request is sent through the delegate and its response is recorded, replacing an existing recording.
+         */
+        RECORD,
+        /**
+         * Every request is served from its recording, a request without recording fails.
+         */
+        REPLAY,
+        /**
+         * Requests are served from their recordings, requests without recording are sent through the delegate and recorded.
+         */
+        REPLAY_OR_RECORD
+    }
+
+    private final Path directory;
+
+    /**
+     * The mode of this transport.
+     */
+    @Getter
+    private final Mode mode;
+
+    private final Transport delegate;
+
+    private final long latency;
+
+    private final long jitter;
+
+    private final Map<String, Recording> recordings = new ConcurrentHashMap<>();
+
+    private final LongAdder recorded = new LongAdder();
+
+    private final LongAdder replayed = new LongAdder();
+
+    /**
+     * Constructor used by {@link #builder()} to initialize the transport.
+     *
+     * @param directory the directory of the recordings, which is created if necessary
+     * @param mode the mode, {@link Mode#REPLAY} if null
+     * @param delegate the transport recorded responses are fetched with, required unless the mode is {@link Mode#REPLAY}
+     * @param latency the delay of every replayed response, none if null
+     * @param jitter the maximum random delay added to the latency, none if null
+     */
+    @Builder
+    private RecordReplayTransport(Path directory, Mode mode, Transport delegate, Duration latency, Duration jitter) {
+        if (directory == null) {
+            throw new IllegalArgumentException("The directory must not be null.");
+        }
+        this.directory = directory;
+        this.mode = mode != null ? mode : Mode.REPLAY;
+        if (this.mode != Mode.REPLAY && delegate == null) {
+            throw new IllegalArgumentException("The delegate must not be null if responses are recorded.");
+        }
+        this.delegate = delegate;
+        this.latency = latency != null ? latency.toNanos() : 0;
+        this.jitter = jitter != null ? jitter.toNanos() : 0;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public StreamResponse makeStreamingGetRequest(String url, Duration timeout, Map<String, String> headers) throws IOException {
+        Recording recording = mode != Mode.RECORD ? load(url) : null;
+
+        if (recording == null) {
+            if (mode == Mode.REPLAY) {
+                throw new FileNotFoundException("No recording for " + url + " in " + directory);
+            }
+            return record(url, delegate.makeStreamingGetRequest(url, timeout, headers));
+        }
+        long delay = delay();
+
+        if (delay > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while replaying " + url);
+            }
+        }
+        return replay(recording, headers);
+    }
+
+    @Override
+    public CompletableFuture<StreamResponse> makeStreamingGetRequestAsync(String url, Duration timeout, Map<String, String> headers) {
+        Recording recording;
+        try {
+            recording = mode != Mode.RECORD ? load(url) : null;
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        if (recording == null) {
+            if (mode == Mode.REPLAY) {
+                return CompletableFuture.failedFuture(new FileNotFoundException("No recording for " + url + " in " + directory));
+            }
+            return delegate.makeStreamingGetRequestAsync(url, timeout, headers).thenApply(response -> {
+                try {
+                    return record(url, response);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        long delay = delay();
+
+        if (delay <= 0) {
+            return CompletableFuture.completedFuture(replay(recording, headers));
+        }
+        return CompletableFuture.supplyAsync(() -> replay(recording, headers), CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * Returns the number of recorded responses.
+     *
+     * @return the recorded response count
+     */
+    public long getRecordedCount() {
+        return recorded.sum();
+    }
+
+    /**
+     * Returns the number of replayed responses.
+     *
+     * @return the replayed response count
+     */
+    public long getReplayedCount() {
+        return replayed.sum();
+    }
+
+    /**
+     * Returns the file of the recording of a URL.
+     *
+     * @param url the requested URL
+     * @return the path of the recording, which does not need to exist
+     */
+    public Path getRecordingPath(String url) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(key(url).getBytes(StandardCharsets.UTF_8));
+            StringBuilder name = new StringBuilder(36);
+
+            for (int i = 0; i < 16; i++) {
+                name.append(Character.forDigit(hash[i] >> 4 & 0xf, 16)).append(Character.forDigit(hash[i] & 0xf, 16));
+            }
+            return directory.resolve(name.append(".json").toString());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Loads the recording of a URL from memory or disk.
+     */
+    private Recording load(String url) throws IOException {
+        Recording recording = recordings.get(key(url));
+
+        if (recording != null) {
+            return recording;
+        }
+        Path path = getRecordingPath(url);
+
+        if (!Files.exists(path)) {
+            return null;
+        }
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            recording = GSON.fromJson(reader, Recording.class);
+        }
+        recordings.put(key(url), recording);
+        return recording;
+    }
+
+    /**
+     * Reads the body of a response, writes the recording and returns a response with the buffered body.
+     */
+    private StreamResponse record(String url, StreamResponse response) throws IOException {
+        if (response.getCode() == 304) {
+            // the answer to a conditional request, which must not replace the recorded body
+            return response;
+        }
+        Recording recording = new Recording();
+        Map<String, List<String>> headers = new HashMap<>();
+
+        try (response) {
+            recording.setBody(new String(response.getBody().readAllBytes(), StandardCharsets.UTF_8));
+        }
+        response.getHeaders().map().forEach((name, values) -> {
+            if (!TRANSFER_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                headers.put(name, values);
+            }
+        });
+        recording.setUrl(url);
+        recording.setCode(response.getCode());
+        recording.setHeaders(headers);
+
+        Path path = getRecordingPath(url);
+        Path temp = Files.createTempFile(directory, "recording", ".tmp");
+
+        try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            GSON.toJson(recording, writer);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        recordings.put(key(url), recording);
+        recorded.increment();
+        return toResponse(recording.getCode(), recording.getHeaders(), recording.getBody());
+    }
+
+    /**
+     * Builds the response of a recording, {@code 304} if the request carries the recorded {@code ETag}.
+     */
+    private StreamResponse replay(Recording recording, Map<String, String> requestHeaders) {
+        Map<String, List<String>> headers = recording.getHeaders() != null ? recording.getHeaders() : Map.of();
+        String etag = HttpHeaders.of(headers, (name, value) -> true).firstValue("ETag").orElse(null);
+
+        replayed.increment();
+        if (etag != null && etag.equals(requestHeaders.get("If-None-Match"))) {
+            return toResponse(304, headers, "");
+        }
+        return toResponse(recording.getCode(), headers, recording.getBody());
+    }
+
+    private static StreamResponse toResponse(int code, Map<String, List<String>> headers, String body) {
+        return new StreamResponse(code, HttpHeaders.of(headers != null ? headers : Map.of(), (name, value) -> true),
+                new ByteArrayInputStream(body != null ? body.getBytes(StandardCharsets.UTF_8) : new byte[0]));
+    }
+
+    /**
+     * Returns the part of a URL identifying the request regardless of the base URL, the query.
+     */
+    private static String key(String url) {
+        int query = url.indexOf('?');
+
+        return query >= 0 ? url.substring(query + 1) : url;
+    }
+
+    private long delay() {
+        return latency + (jitter > 0 ? ThreadLocalRandom.current().nextLong(jitter) : 0);
+    }
+}
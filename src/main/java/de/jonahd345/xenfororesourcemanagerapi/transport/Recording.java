@@ -0,0 +1,32 @@
+package de.jonahd345.xenfororesourcemanagerapi.transport;
+
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents one recorded response of a {@link RecordReplayTransport}, stored as a JSON file which can also be written by hand.
+ */
+@Data
+class Recording {
+    /**
+     * The requested URL.
+     */
+    private String url;
+
+    /**
+     * The HTTP response code.
+     */
+    private int code;
+
+    /**
+     * The HTTP response headers, without the headers describing the transfer encoding of the original body.
+     */
+    private Map<String, List<String>> headers;
+
+    /**
+     * The decompressed response body.
+     */
+    private String body;
+}
@@ -0,0 +1,270 @@
+package de.jonahd345.xenfororesourcemanagerapi.transport;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.Builder;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * An embedded HTTP server imitating the API on the loopback interface, for tests and offline performance tests.
+ * Point the API client at {@link #getBaseUrl()} with {@code XenforoResourceManagerAPI.builder().baseUrl(...)}.
+ * <br>
+ * Every {@code action} is answered by a fixed body or a handler of the query parameters. The server can delay every response
+ * and answer a share of the requests with {@code 429 Too Many Requests} or {@code 500 Internal Server Error},
+ * chosen by a seeded random generator so runs are repeatable.
+ */
+public class StubServer implements Closeable {
+    /**
+     * The path of the API on the stub server, the same as on SpigotMC.
+     */
+    public static final String PATH = "/simple/0.2/index.php";
+
+    static {
+        // the server writes the headers and the body separately, without TCP_NODELAY every response waits for a delayed ACK
+        System.getProperties().putIfAbsent("sun.net.httpserver.nodelay", "true");
+    }
+
+    private final HttpServer server;
+
+    private final ExecutorService executorService;
+
+    private final Map<String, Function<Map<String, String>, String>> handlers = new ConcurrentHashMap<>();
+
+    private final long latency;
+
+    private final long jitter;
+
+    private final double throttleRate;
+
+    private final double errorRate;
+
+    private final int retryAfter;
+
+    private final Random random;
+
+    private final LongAdder requests = new LongAdder();
+
+    private final LongAdder throttled = new LongAdder();
+
+    private final LongAdder errors = new LongAdder();
+
+    /**
+     * Constructor used by {@link #builder()} to bind the server. The server accepts requests once {@link #start()} is called.
+     *
+     * @param port the port to bind, an ephemeral port if null or {@code 0}
+     * @param threads the number of threads handling requests, {@code 32} if null
+     * @param latency the delay of every response, none if null
+     * @param jitter the maximum random delay added to the latency, none if null
+     * @param throttleRate the share of requests answered with {@code 429}, between {@code 0} and {@code 1}, none if null
+     * @param errorRate the share of requests answered with {@code 500}, between {@code 0} and {@code 1}, none if null
+     * @param retryAfter the {@code Retry-After} of throttled responses, 1 second if null
+     * @param seed the seed of the random generator choosing throttled and failed requests and the jitter, {@code 0} if null
+     * @throws UncheckedIOException if the port cannot be bound
+     */
+    @Builder
+    private StubServer(Integer port, Integer threads, Duration latency, Duration jitter, Double throttleRate,
+                       Double errorRate, Duration retryAfter, Long seed) {
+        this.latency = latency != null ? latency.toNanos() : 0;
+        this.jitter = jitter != null ? jitter.toNanos() : 0;
+        this.throttleRate = throttleRate != null ? throttleRate : 0;
+        this.errorRate = errorRate != null ? errorRate : 0;
+        this.retryAfter = retryAfter != null ? (int) Math.max(0, retryAfter.toSeconds()) : 1;
+        this.random = new Random(seed != null ? seed : 0);
+
+        AtomicInteger thread = new AtomicInteger();
+
+        this.executorService = Executors.newFixedThreadPool(threads != null ? Math.max(1, threads) : 32, runnable -> {
+            Thread worker = new Thread(runnable, "stub-server-" + thread.incrementAndGet());
+
+            worker.setDaemon(true);
+            return worker;
+        });
+        try {
+            this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port != null ? port : 0), 128);
+        } catch (IOException e) {
+            executorService.shutdown();
+            throw new UncheckedIOException(e);
+        }
+        server.setExecutor(executorService);
+        server.createContext(PATH, this::handle);
+    }
+
+    /**
+     * Answers an action with a fixed JSON body.
+     *
+     * @param action the action, e.g. {@code listResources}
+     * @param json the body
+     * @return this server
+     */
+    public StubServer respond(String action, String json) {
+        return respond(action, parameters -> json);
+    }
+
+    /**
+     * Answers an action with the body returned by a handler.
+     *
+     * @param action the action, e.g. {@code getResource}
+     * @param handler the function returning the body for the query parameters, or null to answer with {@code 404}
+     * @return this server
+     */
+    public StubServer respond(String action, Function<Map<String, String>, String> handler) {
+        handlers.put(action, handler);
+        return this;
+    }
+
+    /**
+     * Starts accepting requests.
+     *
+     * @return this server
+     */
+    public StubServer start() {
+        server.start();
+        return this;
+    }
+
+    /**
+     * Returns the port the server is bound to.
+     *
+     * @return the port
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Returns the URL of the imitated API.
+     *
+     * @return the base URL to configure the API client with
+     */
+    public String getBaseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + getPort() + PATH;
+    }
+
+    /**
+     * Returns the number of received requests.
+     *
+     * @return the request count
+     */
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    /**
+     * Returns the number of requests answered with {@code 429}.
+     *
+     * @return the throttled request count
+     */
+    public long getThrottledCount() {
+        return throttled.sum();
+    }
+
+    /**
+     * Returns the number of requests answered with {@code 500}.
+     *
+     * @return the failed request count
+     */
+    public long getErrorCount() {
+        return errors.sum();
+    }
+
+    /**
+     * Stops the server and its threads.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        executorService.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requests.increment();
+
+            double roll;
+            long delay;
+
+            synchronized (random) {
+                roll = random.nextDouble();
+                delay = latency + (jitter > 0 ? (long) (random.nextDouble() * jitter) : 0);
+            }
+            if (delay > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(delay);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            if (roll < throttleRate) {
+                throttled.increment();
+                exchange.getResponseHeaders().set("Retry-After", String.valueOf(retryAfter));
+                send(exchange, 429, error(429, "Too many requests"));
+                return;
+            }
+            if (roll < throttleRate + errorRate) {
+                errors.increment();
+                send(exchange, 500, error(500, "Internal server error"));
+                return;
+            }
+            Map<String, String> parameters = parameters(exchange.getRequestURI().getRawQuery());
+            Function<Map<String, String>, String> handler = handlers.get(parameters.getOrDefault("action", ""));
+            String body = handler != null ? handler.apply(parameters) : null;
+
+            if (body == null) {
+                send(exchange, 404, error(404, "Not found"));
+            } else {
+                send(exchange, 200, body);
+            }
+        }
+    }
+
+    private static void send(HttpExchange exchange, int code, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
+        exchange.sendResponseHeaders(code, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static String error(int code, String message) {
+        return "{\"code\":" + code + ",\"message\":\"" + message + "\"}";
+    }
+
+    private static Map<String, String> parameters(String query) {
+        Map<String, String> parameters = new HashMap<>();
+
+        if (query == null) {
+            return parameters;
+        }
+        for (String parameter : query.split("&")) {
+            int separator = parameter.indexOf('=');
+
+            if (separator > 0) {
+                parameters.put(URLDecoder.decode(parameter.substring(0, separator), StandardCharsets.UTF_8),
+                        URLDecoder.decode(parameter.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return parameters;
+    }
+}
@@ -0,0 +1,39 @@
+package de.jonahd345.xenfororesourcemanagerapi.transport;
+
+import de.jonahd345.xenfororesourcemanagerapi.util.StreamResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The transport the API client sends its GET requests through.
+ * The default transport is the {@link de.jonahd345.xenfororesourcemanagerapi.service.HttpClientService},
+ * other implementations can replay recorded responses or route the requests elsewhere, e.g. for tests and load tests.
+ * <br>
+ * The body of a returned {@link StreamResponse} must already be decompressed.
+ */
+public interface Transport {
+    /**
+     * Sends a GET request and returns the response body as a stream. The caller has to close the returned response.
+     *
+     * @param url the URL to send the GET request to
+     * @param timeout the time to wait for the response headers, which can be null to wait without limit
+     * @param headers the additional request headers, e.g. the validators of a conditional request
+     * @return the response object {@link StreamResponse} containing the HTTP response code, headers and body stream
+     * @throws IOException if an I/O exception occurs
+     */
+    StreamResponse makeStreamingGetRequest(String url, Duration timeout, Map<String, String> headers) throws IOException;
+
+    /**
+     * Asynchronously sends a GET request and returns the response body as a stream.
+     * Cancelling the returned future should abort the request.
+     *
+     * @param url the URL to send the GET request to
+     * @param timeout the time to wait for the response headers, which can be null to wait without limit
+     * @param headers the additional request headers, e.g. the validators of a conditional request
+     * @return a CompletableFuture containing the response object {@link StreamResponse}
+     */
+    CompletableFuture<StreamResponse> makeStreamingGetRequestAsync(String url, Duration timeout, Map<String, String> headers);
+}
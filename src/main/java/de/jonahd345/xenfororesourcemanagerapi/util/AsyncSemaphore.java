@@ -0,0 +1,76 @@
+package de.jonahd345.xenfororesourcemanagerapi.util;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A utility class representing a semaphore whose permits are acquired as a {@link CompletableFuture}.
+ * Waiting for a permit does not block a thread, the future is completed once a permit is released.
+ * Waiters are served in FIFO order.
+ */
+public class AsyncSemaphore {
+    private final ArrayDeque<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+
+    private int permits;
+
+    /**
+     * Creates a semaphore.
+     *
+     * @param permits the number of permits, must be positive
+     */
+    public AsyncSemaphore(int permits) {
+        if (permits <= 0) {
+            throw new IllegalArgumentException("The number of permits must be positive.");
+        }
+        this.permits = permits;
+    }
+
+    /**
+     * Acquires a permit.
+     *
+     * @return a CompletableFuture which is completed once the permit was acquired
+     */
+    public CompletableFuture<Void> acquire() {
+        synchronized (waiters) {
+            if (permits > 0) {
+                permits--;
+                return CompletableFuture.completedFuture(null);
+            }
+            CompletableFuture<Void> waiter = new CompletableFuture<>();
+
+            waiters.add(waiter);
+            return waiter;
+        }
+    }
+
+    /**
+     * Releases a permit, handing it directly to the longest waiting acquirer if there is one.
+     */
+    public void release() {
+        CompletableFuture<Void> waiter;
+
+        synchronized (waiters) {
+            do {
+                waiter = waiters.poll();
+                if (waiter == null) {
+                    permits++;
+                    return;
+                }
+            } while (waiter.isDone());
+        }
+        if (!waiter.complete(null)) {
+            release();
+        }
+    }
+
+    /**
+     * Returns the number of available permits.
+     *
+     * @return the number of available permits
+     */
+    public int availablePermits() {
+        synchronized (waiters) {
+            return permits;
+        }
+    }
+}
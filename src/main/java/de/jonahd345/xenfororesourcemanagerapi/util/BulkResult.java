@@ -0,0 +1,39 @@
+package de.jonahd345.xenfororesourcemanagerapi.util;
+
+import lombok.Data;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A utility class representing the result of a bulk request.
+ * Every requested ID is contained in exactly one of {@link #results}, {@link #notFound} or {@link #failures}.
+ *
+ * @param <T> the type of the fetched objects
+ */
+@Data
+public class BulkResult<T> {
+    /**
+     * The fetched objects by ID.
+     */
+    private final Map<Integer, T> results;
+
+    /**
+     * The IDs for which the API returned no object, e.g. because it does not exist.
+     */
+    private final Set<Integer> notFound;
+
+    /**
+     * The exceptions of the IDs whose request failed.
+     */
+    private final Map<Integer, Throwable> failures;
+
+    /**
+     * Checks whether every request succeeded.
+     *
+     * @return {@code true} if no request failed
+     */
+    public boolean isSuccessful() {
+        return failures.isEmpty();
+    }
+}
@@ -0,0 +1,44 @@
+package de.jonahd345.xenfororesourcemanagerapi.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A utility class for {@link CompletableFuture}.
+ */
+public class Futures {
+    private Futures() {}
+
+    /**
+     * Cancels the source future once the dependent future completes exceptionally, e.g. because it was cancelled
+     * or timed out. A {@link CompletableFuture} derived with {@code thenApply} or similar does not propagate
+     * its cancellation to its source, this restores the propagation for futures backed by a network request.
+     *
+     * @param dependent the future derived from the source
+     * @param source the future to cancel
+     * @param <T> the type of the dependent future
+     * @return the dependent future
+     */
+    public static <T> CompletableFuture<T> propagateCancellation(CompletableFuture<T> dependent, CompletableFuture<?> source) {
+        dependent.whenComplete((result, throwable) -> {
+            if (throwable != null && !source.isDone()) {
+                source.cancel(true);
+            }
+        });
+        return dependent;
+    }
+
+    /**
+     * Returns the actual cause of an exception thrown by a {@link CompletableFuture}.
+     *
+     * @param throwable the exception, which can be wrapped in a {@link CompletionException} or {@link ExecutionException}
+     * @return the unwrapped cause
+     */
+    public static Throwable unwrap(Throwable throwable) {
+        while ((throwable instanceof CompletionException || throwable instanceof ExecutionException) && throwable.getCause() != null) {
+            throwable = throwable.getCause();
+        }
+        return throwable;
+    }
+}
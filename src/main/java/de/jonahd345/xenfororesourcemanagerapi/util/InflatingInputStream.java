@@ -0,0 +1,245 @@
+package de.jonahd345.xenfororesourcemanagerapi.util;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * A utility class which decompresses a {@code gzip} or {@code deflate} encoded {@link InputStream} while it is read.
+ * Only one buffer of compressed input is held at a time, the inflated body is never buffered as a whole.
+ * <br>
+ * Unlike {@link java.util.zip.GZIPInputStream} the {@link Inflater}s and input buffers are pooled and reused
+ * after the stream is closed, so decoding many small responses does not allocate native inflater memory for each of them.
+ */
+public class InflatingInputStream extends InputStream {
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final int MAX_POOLED = 32;
+
+    private static final BlockingQueue<Inflater> INFLATERS = new ArrayBlockingQueue<>(MAX_POOLED);
+
+    private static final BlockingQueue<byte[]> BUFFERS = new ArrayBlockingQueue<>(MAX_POOLED);
+
+    private final InputStream in;
+
+    private final boolean gzip;
+
+    private final CRC32 crc = new CRC32();
+
+    private final byte[] single = new byte[1];
+
+    private Inflater inflater;
+
+    private byte[] buffer;
+
+    private int position;
+
+    private int limit;
+
+    private boolean started;
+
+    private boolean finished;
+
+    /**
+     * Creates an inflating stream.
+     *
+     * @param in the compressed stream
+     * @param gzip {@code true} for the {@code gzip} format, {@code false} for {@code deflate} with or without zlib header
+     */
+    public InflatingInputStream(InputStream in, boolean gzip) {
+        this.in = in;
+        this.gzip = gzip;
+        this.inflater = INFLATERS.poll();
+        this.buffer = BUFFERS.poll();
+        if (inflater == null) {
+            inflater = new Inflater(true);
+        }
+        if (buffer == null) {
+            buffer = new byte[BUFFER_SIZE];
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        return read(single, 0, 1) == -1 ? -1 : single[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (inflater == null) {
+            throw new IOException("Stream closed");
+        }
+        if (!started) {
+            readHeader();
+            started = true;
+        }
+        if (finished || len == 0) {
+            return finished ? -1 : 0;
+        }
+        try {
+            while (true) {
+                int read = inflater.inflate(b, off, len);
+
+                if (read > 0) {
+                    crc.update(b, off, read);
+                    return read;
+                }
+                if (inflater.finished()) {
+                    finished = true;
+                    position = limit - inflater.getRemaining();
+                    if (gzip) {
+                        readTrailer();
+                    }
+                    return -1;
+                }
+                if (inflater.needsDictionary()) {
+                    throw new ZipException("Compressed stream requires a preset dictionary");
+                }
+                if (inflater.needsInput()) {
+                    position = limit;
+                    if (fill() == -1) {
+                        throw new EOFException("Unexpected end of compressed stream");
+                    }
+                    inflater.setInput(buffer, 0, limit);
+                }
+            }
+        } catch (DataFormatException e) {
+            throw new ZipException(e.getMessage() != null ? e.getMessage() : "Invalid compressed data");
+        }
+    }
+
+    /**
+     * Returns the inflater and the buffer to the pool and closes the compressed stream.
+     *
+     * @throws IOException if an I/O exception occurs
+     */
+    @Override
+    public void close() throws IOException {
+        if (inflater != null) {
+            inflater.reset();
+            if (!INFLATERS.offer(inflater)) {
+                inflater.end();
+            }
+            BUFFERS.offer(buffer);
+            inflater = null;
+            buffer = null;
+        }
+        in.close();
+    }
+
+    /**
+     * Skips the gzip header, or the optional zlib header of a deflate stream, and passes the rest of the buffer to the inflater.
+     *
+     * @throws IOException if an I/O exception occurs or the header is invalid
+     */
+    private void readHeader() throws IOException {
+        if (gzip) {
+            if (nextByte() != 0x1f || nextByte() != 0x8b) {
+                throw new ZipException("Not in GZIP format");
+            }
+            if (nextByte() != 8) {
+                throw new ZipException("Unsupported compression method");
+            }
+            int flags = nextByte();
+
+            skip(6);
+            if ((flags & 4) != 0) {
+                skip(nextByte() | nextByte() << 8);
+            }
+            if ((flags & 8) != 0) {
+                while (nextByte() != 0) {}
+            }
+            if ((flags & 16) != 0) {
+                while (nextByte() != 0) {}
+            }
+            if ((flags & 2) != 0) {
+                skip(2);
+            }
+        } else {
+            while (limit - position < 2 && fill() != -1) {}
+
+            int cmf = limit - position >= 2 ? buffer[position] & 0xff : 0;
+            int flg = limit - position >= 2 ? buffer[position + 1] & 0xff : 0;
+
+            // servers send "deflate" both with and without the zlib wrapper
+            if ((cmf & 0x0f) == 8 && (cmf << 8 | flg) % 31 == 0) {
+                if ((flg & 0x20) != 0) {
+                    throw new ZipException("Compressed stream requires a preset dictionary");
+                }
+                position += 2;
+            }
+        }
+        inflater.setInput(buffer, position, limit - position);
+    }
+
+    /**
+     * Reads and verifies the CRC and size trailer of a gzip stream.
+     *
+     * @throws IOException if an I/O exception occurs or the trailer does not match the inflated data
+     */
+    private void readTrailer() throws IOException {
+        long expectedCrc = nextByte() | nextByte() << 8 | nextByte() << 16 | (long) nextByte() << 24;
+        long expectedSize = nextByte() | nextByte() << 8 | nextByte() << 16 | (long) nextByte() << 24;
+
+        if (expectedCrc != crc.getValue() || expectedSize != (inflater.getBytesWritten() & 0xffffffffL)) {
+            throw new ZipException("Corrupt GZIP trailer");
+        }
+    }
+
+    /**
+     * Reads one header or trailer byte from the buffer, refilling it if necessary.
+     *
+     * @return the unsigned byte
+     * @throws IOException if an I/O exception occurs or the stream ended
+     */
+    private int nextByte() throws IOException {
+        if (position >= limit && fill() == -1) {
+            throw new EOFException("Unexpected end of compressed stream");
+        }
+        return buffer[position++] & 0xff;
+    }
+
+    /**
+     * Skips header bytes.
+     *
+     * @param count the number of bytes to skip
+     * @throws IOException if an I/O exception occurs or the stream ended
+     */
+    private void skip(int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            nextByte();
+        }
+    }
+
+    /**
+     * Appends the next chunk of the compressed stream to the unread bytes of the buffer.
+     *
+     * @return the number of bytes read, or {@code -1} if the stream ended
+     * @throws IOException if an I/O exception occurs
+     */
+    private int fill() throws IOException {
+        if (position >= limit) {
+            position = 0;
+            limit = 0;
+        } else if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            limit -= position;
+            position = 0;
+        }
+        if (limit == buffer.length) {
+            return 0;
+        }
+        int read = in.read(buffer, limit, buffer.length - limit);
+
+        if (read > 0) {
+            limit += read;
+        }
+        return read;
+    }
+}
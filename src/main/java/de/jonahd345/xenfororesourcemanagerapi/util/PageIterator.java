@@ -0,0 +1,137 @@
+package de.jonahd345.xenfororesourcemanagerapi.util;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A utility class which lazily iterates over the elements of a paginated endpoint.
+ * Page {@code N + 1} is only requested once page {@code N} is consumed, optionally a number of pages is read ahead
+ * in the background. The iteration ends at the first page which is {@code null} or empty.
+ *
+ * @param <T> the type of the elements
+ */
+public class PageIterator<T> implements Iterator<T>, AutoCloseable {
+    private final IntFunction<CompletableFuture<List<T>>> pageFetcher;
+
+    private final int readAhead;
+
+    private final ArrayDeque<CompletableFuture<List<T>>> pending = new ArrayDeque<>();
+
+    private Iterator<T> current = Collections.emptyIterator();
+
+    private int nextPage;
+
+    private boolean ended;
+
+    /**
+     * Creates an iterator starting at the first page.
+     *
+     * @param pageFetcher the function fetching a page by its number, starting at {@code 1}
+     * @param readAhead the number of pages which are requested in the background before they are consumed
+     */
+    public PageIterator(IntFunction<CompletableFuture<List<T>>> pageFetcher, int readAhead) {
+        this(pageFetcher, 1, readAhead);
+    }
+
+    /**
+     * Creates an iterator starting at the given page.
+     *
+     * @param pageFetcher the function fetching a page by its number, starting at {@code 1}
+     * @param firstPage the first page to fetch
+     * @param readAhead the number of pages which are requested in the background before they are consumed
+     */
+    public PageIterator(IntFunction<CompletableFuture<List<T>>> pageFetcher, int firstPage, int readAhead) {
+        this.pageFetcher = pageFetcher;
+        this.nextPage = Math.max(1, firstPage);
+        this.readAhead = Math.max(0, readAhead);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (ended) {
+                return false;
+            }
+            fill(1);
+
+            List<T> page = join(pending.poll());
+
+            if (page == null || page.isEmpty()) {
+                close();
+                return false;
+            }
+            current = page.iterator();
+            fill(readAhead);
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    /**
+     * Returns the number of the next page which is consumed, e.g. to resume the iteration later.
+     *
+     * @return the page number
+     */
+    public int getNextPage() {
+        return nextPage - pending.size();
+    }
+
+    /**
+     * Ends the iteration and cancels all pages which were read ahead.
+     */
+    @Override
+    public void close() {
+        ended = true;
+        current = Collections.emptyIterator();
+        for (CompletableFuture<List<T>> page; (page = pending.poll()) != null; ) {
+            page.cancel(true);
+        }
+    }
+
+    /**
+     * Returns a sequential {@link Stream} over the remaining elements, closing the stream closes this iterator.
+     *
+     * @return a lazy {@link Stream} of the elements
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(this::close);
+    }
+
+    /**
+     * Requests pages until the given number of pages is pending.
+     *
+     * @param count the number of pages which should be pending
+     */
+    private void fill(int count) {
+        while (pending.size() < count) {
+            pending.add(pageFetcher.apply(nextPage++));
+        }
+    }
+
+    private List<T> join(CompletableFuture<List<T>> page) {
+        try {
+            return page.join();
+        } catch (CompletionException e) {
+            close();
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+}
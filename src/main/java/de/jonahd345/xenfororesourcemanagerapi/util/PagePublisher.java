@@ -0,0 +1,203 @@
+package de.jonahd345.xenfororesourcemanagerapi.util;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+/**
+ * A utility class which publishes the elements of a paginated endpoint to {@link Flow.Subscriber}s with backpressure.
+ * Pages are only requested while the subscriber has signalled demand which the already fetched elements cannot satisfy,
+ * at most {@code 1 + prefetch} pages are in flight at a time. The publication ends at the first page which is {@code null} or empty.
+ * <br>
+ * Every subscriber receives its own iteration starting at the first page. Cancelling the subscription cancels the pending pages,
+ * and a failed page is delivered through {@link Flow.Subscriber#onError(Throwable)}.
+ * Signals are delivered on the thread which requested the elements or on the thread which completed a page.
+ *
+ * @param <T> the type of the elements
+ */
+public class PagePublisher<T> implements Flow.Publisher<T> {
+    private final IntFunction<CompletableFuture<List<T>>> pageFetcher;
+
+    private final int firstPage;
+
+    private final int prefetch;
+
+    /**
+     * Creates a publisher starting at the first page.
+     *
+     * @param pageFetcher the function fetching a page by its number, starting at {@code 1}
+     * @param prefetch the number of pages which are requested ahead while there is unsatisfied demand
+     */
+    public PagePublisher(IntFunction<CompletableFuture<List<T>>> pageFetcher, int prefetch) {
+        this(pageFetcher, 1, prefetch);
+    }
+
+    /**
+     * Creates a publisher starting at the given page.
+     *
+     * @param pageFetcher the function fetching a page by its number, starting at {@code 1}
+     * @param firstPage the first page to fetch
+     * @param prefetch the number of pages which are requested ahead while there is unsatisfied demand
+     */
+    public PagePublisher(IntFunction<CompletableFuture<List<T>>> pageFetcher, int firstPage, int prefetch) {
+        this.pageFetcher = pageFetcher;
+        this.firstPage = Math.max(1, firstPage);
+        this.prefetch = Math.max(0, prefetch);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("subscriber");
+        }
+        subscriber.onSubscribe(new PageSubscription(subscriber));
+    }
+
+    private class PageSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super T> subscriber;
+
+        private final AtomicLong demand = new AtomicLong();
+
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private final ArrayDeque<CompletableFuture<List<T>>> pending = new ArrayDeque<>();
+
+        private Iterator<T> current = Collections.emptyIterator();
+
+        private int nextPage = firstPage;
+
+        private volatile boolean cancelled;
+
+        private Throwable invalidRequest;
+
+        private boolean done;
+
+        private PageSubscription(Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("The requested number of elements must be positive, but was " + n);
+                cancelled = true;
+            } else {
+                demand.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        /**
+         * Emits the fetched elements while there is demand and requests the next pages if the demand is not satisfied.
+         * Only one thread drains at a time, a call while another thread is draining makes that thread loop once more.
+         */
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+
+            do {
+                if (!done) {
+                    emit();
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        /**
+         * Runs one pass of the drain loop.
+         */
+        private void emit() {
+            while (true) {
+                if (cancelled) {
+                    terminate();
+                    if (invalidRequest != null) {
+                        subscriber.onError(invalidRequest);
+                    }
+                    return;
+                }
+                long requested = demand.get();
+                long emitted = 0;
+
+                while (emitted < requested && current.hasNext() && !cancelled) {
+                    subscriber.onNext(current.next());
+                    emitted++;
+                }
+                if (emitted > 0 && requested != Long.MAX_VALUE) {
+                    demand.addAndGet(-emitted);
+                }
+                if (cancelled) {
+                    continue;
+                }
+                if (current.hasNext()) {
+                    return;
+                }
+                CompletableFuture<List<T>> page = pending.peek();
+
+                if (page != null && page.isDone()) {
+                    pending.poll();
+
+                    List<T> elements;
+                    try {
+                        elements = page.join();
+                    } catch (RuntimeException e) {
+                        terminate();
+                        subscriber.onError(Futures.unwrap(e));
+                        return;
+                    }
+                    if (elements == null || elements.isEmpty()) {
+                        terminate();
+                        subscriber.onComplete();
+                        return;
+                    }
+                    current = elements.iterator();
+                    continue;
+                }
+                if (demand.get() > 0) {
+                    fill();
+                }
+                return;
+            }
+        }
+
+        /**
+         * Requests pages until {@code 1 + prefetch} pages are pending, each completed page drains again.
+         */
+        private void fill() {
+            while (pending.size() < 1 + prefetch) {
+                CompletableFuture<List<T>> page;
+                try {
+                    page = pageFetcher.apply(nextPage++);
+                } catch (RuntimeException e) {
+                    page = CompletableFuture.failedFuture(e);
+                }
+                pending.add(page);
+                page.whenComplete((elements, throwable) -> drain());
+            }
+        }
+
+        /**
+         * Ends the subscription and cancels all pending pages.
+         */
+        private void terminate() {
+            done = true;
+            current = Collections.emptyIterator();
+            for (CompletableFuture<List<T>> page; (page = pending.poll()) != null; ) {
+                page.cancel(true);
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package de.jonahd345.xenfororesourcemanagerapi.util;
+
+import lombok.Data;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.http.HttpHeaders;
+
+/**
+ * A utility class representing a streamed request response.
+ * Unlike {@link RequestResponse} the body is not materialized as a string, it is read directly from the connection.
+ * The response must be closed after the body was consumed.
+ */
+@Data
+public class StreamResponse implements Closeable {
+    /**
+     * The HTTP response code.
+     */
+    private final int code;
+
+    /**
+     * The HTTP response headers.
+     */
+    private final HttpHeaders headers;
+
+    /**
+     * The response body as a stream.
+     */
+    private final InputStream body;
+
+    /**
+     * The number of retries before this response was received, e.g. after {@code 429} or {@code 5xx} responses.
+     */
+    private int retries;
+
+    /**
+     * Discards the unread rest of the body and closes it.
+     * Reading the body to its end allows the underlying connection to be reused for the next request.
+     *
+     * @throws IOException if an I/O exception occurs
+     */
+    @Override
+    public void close() throws IOException {
+        try (InputStream in = body) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+    }
+}
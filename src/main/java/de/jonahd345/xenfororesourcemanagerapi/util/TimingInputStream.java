@@ -0,0 +1,63 @@
+package de.jonahd345.xenfororesourcemanagerapi.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * A utility class which counts the bytes read from the wrapped {@link InputStream} and the time spent waiting for them.
+ * When a body is decoded while it is streamed, this separates the time waiting for the network from the time spent decoding.
+ */
+public class TimingInputStream extends CountingInputStream {
+    private long nanos;
+
+    /**
+     * Creates a timing stream.
+     *
+     * @param in the stream to time the reads of
+     */
+    public TimingInputStream(InputStream in) {
+        super(in);
+    }
+
+    /**
+     * Returns the time spent in reads so far.
+     *
+     * @return the time in nanoseconds
+     */
+    public long getNanos() {
+        return nanos;
+    }
+
+    @Override
+    public int read() throws IOException {
+        long start = System.nanoTime();
+
+        try {
+            return super.read();
+        } finally {
+            nanos += System.nanoTime() - start;
+        }
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        long start = System.nanoTime();
+
+        try {
+            return super.read(b, off, len);
+        } finally {
+            nanos += System.nanoTime() - start;
+        }
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long start = System.nanoTime();
+
+        try {
+            return super.skip(n);
+        } finally {
+            nanos += System.nanoTime() - start;
+        }
+    }
+}
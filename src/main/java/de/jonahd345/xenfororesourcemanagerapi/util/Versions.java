@@ -0,0 +1,144 @@
+package de.jonahd345.xenfororesourcemanagerapi.util;
+
+import java.util.Comparator;
+import java.util.Locale;
+
+/**
+ * A utility class for comparing resource versions.
+ * Resource versions are free text, so the comparison follows semantic versioning where possible
+ * and degrades gracefully for versions like {@code v2.1 beta} or {@code Build 45}:
+ * <ul>
+ *     <li>a leading {@code v} is ignored and the leading numeric components are compared as numbers, missing components count as {@code 0}</li>
+ *     <li>a version with a qualifier, e.g. {@code 1.0-SNAPSHOT}, is lower than the same version without one</li>
+ *     <li>qualifiers are compared per identifier, numeric identifiers as numbers and lower than alphanumeric ones</li>
+ *     <li>build metadata after {@code +} is ignored</li>
+ * </ul>
+ */
+public class Versions {
+    /**
+     * Compares versions as described in {@link Versions}. Null versions are lower than every other version.
+     */
+    public static final Comparator<String> COMPARATOR = Versions::compare;
+
+    private Versions() {}
+
+    /**
+     * Compares two versions.
+     *
+     * @param a the first version, which can be null
+     * @param b the second version, which can be null
+     * @return a negative number, zero or a positive number if the first version is lower, equal or higher
+     */
+    public static int compare(String a, String b) {
+        if (a == null || b == null) {
+            return a == null ? (b == null ? 0 : -1) : 1;
+        }
+        Version first = new Version(a);
+        Version second = new Version(b);
+        int length = Math.max(first.numbers.length, second.numbers.length);
+
+        for (int i = 0; i < length; i++) {
+            int result = compareNumbers(i < first.numbers.length ? first.numbers[i] : "0", i < second.numbers.length ? second.numbers[i] : "0");
+
+            if (result != 0) {
+                return result;
+            }
+        }
+        if (first.qualifier.isEmpty() || second.qualifier.isEmpty()) {
+            return Boolean.compare(first.qualifier.isEmpty(), second.qualifier.isEmpty());
+        }
+        return compareQualifiers(first.qualifier, second.qualifier);
+    }
+
+    /**
+     * Checks whether a version is newer than another.
+     *
+     * @param candidate the version which may be newer, e.g. {@code Resource.currentVersion}
+     * @param current the version which is installed
+     * @return {@code true} if the candidate is higher than the current version
+     */
+    public static boolean isNewer(String candidate, String current) {
+        return compare(candidate, current) > 0;
+    }
+
+    private static int compareQualifiers(String a, String b) {
+        String[] first = a.split("[.\\-_ ]+");
+        String[] second = b.split("[.\\-_ ]+");
+
+        for (int i = 0; i < Math.min(first.length, second.length); i++) {
+            boolean firstNumeric = isNumeric(first[i]);
+            boolean secondNumeric = isNumeric(second[i]);
+            int result;
+
+            if (firstNumeric && secondNumeric) {
+                result = compareNumbers(first[i], second[i]);
+            } else if (firstNumeric || secondNumeric) {
+                result = firstNumeric ? -1 : 1;
+            } else {
+                result = first[i].compareTo(second[i]);
+            }
+            if (result != 0) {
+                return result;
+            }
+        }
+        return Integer.compare(first.length, second.length);
+    }
+
+    /**
+     * Compares two numeric strings of arbitrary length without parsing them.
+     */
+    private static int compareNumbers(String a, String b) {
+        a = stripLeadingZeros(a);
+        b = stripLeadingZeros(b);
+        return a.length() != b.length() ? Integer.compare(a.length(), b.length()) : a.compareTo(b);
+    }
+
+    private static String stripLeadingZeros(String number) {
+        int start = 0;
+
+        while (start < number.length() - 1 && number.charAt(start) == '0') {
+            start++;
+        }
+        return number.substring(start);
+    }
+
+    private static boolean isNumeric(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (!Character.isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A version split into its leading numeric components and the remaining qualifier.
+     */
+    private static class Version {
+        private final String[] numbers;
+
+        private final String qualifier;
+
+        private Version(String version) {
+            String value = version.trim().toLowerCase(Locale.ROOT);
+            int metadata = value.indexOf('+');
+
+            if (metadata >= 0) {
+                value = value.substring(0, metadata);
+            }
+            if (value.startsWith("v") && value.length() > 1 && Character.isDigit(value.charAt(1))) {
+                value = value.substring(1);
+            }
+            int end = 0;
+
+            while (end < value.length() && (Character.isDigit(value.charAt(end)) || value.charAt(end) == '.' && end + 1 < value.length() && Character.isDigit(value.charAt(end + 1)))) {
+                end++;
+            }
+            this.numbers = end > 0 ? value.substring(0, end).split("\\.") : new String[0];
+            this.qualifier = value.substring(end).replaceFirst("^[.\\-_ ]+", "");
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package de.jonahd345.xenfororesourcemanagerapi.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A utility class for virtual threads, which are available from Java 21.
+ * The library is compiled for Java 17, so the virtual thread executor is looked up at runtime
+ * and the common pool is used instead on older runtimes.
+ */
+public class VirtualThreads {
+    private static final MethodHandle NEW_EXECUTOR = lookup();
+
+    private VirtualThreads() {}
+
+    /**
+     * Checks whether the runtime supports virtual threads.
+     *
+     * @return {@code true} on Java 21 or newer
+     */
+    public static boolean isAvailable() {
+        return NEW_EXECUTOR != null;
+    }
+
+    /**
+     * Creates an executor service which starts a new virtual thread for every task.
+     * Blocking calls on such a thread do not block a platform thread, so thousands of blocking requests can run concurrently
+     * without sizing a thread pool. The executor does not need to be shut down, its threads end with their tasks.
+     *
+     * @return the virtual thread executor, or {@link ForkJoinPool#commonPool()} if the runtime does not support virtual threads
+     */
+    public static ExecutorService newExecutorService() {
+        if (NEW_EXECUTOR == null) {
+            return ForkJoinPool.commonPool();
+        }
+        try {
+            return (ExecutorService) NEW_EXECUTOR.invokeExact();
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to create a virtual thread executor", e);
+        }
+    }
+
+    /**
+     * Looks up {@code Executors.newVirtualThreadPerTaskExecutor()}.
+     *
+     * @return the method handle, which is null if the method does not exist
+     */
+    private static MethodHandle lookup() {
+        // Java 19 and 20 only contain virtual threads as a preview feature
+        if (Runtime.version().feature() < 21) {
+            return null;
+        }
+        try {
+            return MethodHandles.publicLookup().findStatic(Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+}
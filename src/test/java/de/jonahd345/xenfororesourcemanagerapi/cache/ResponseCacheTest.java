@@ -0,0 +1,41 @@
+package de.jonahd345.xenfororesourcemanagerapi.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ResponseCacheTest {
+    @Test
+    void expiredEntryWithValidatorsIsCountedOnce() {
+        ResponseCache cache = new ResponseCache(CachePolicy.builder().timeToLive("getResource", Duration.ZERO).build());
+
+        cache.put("a", "getResource", "value", 10, "\"etag\"", null, null);
+        for (int i = 0; i < 5; i++) {
+            assertNull(cache.get("a"));
+        }
+        assertEquals(1, cache.getExpirationCount());
+        assertEquals(5, cache.getMissCount());
+        assertNotNull(cache.getEntry("a"));
+
+        // a revalidated entry can expire again
+        cache.revalidated("a", "getResource", cache.getEntry("a"));
+        assertNull(cache.get("a"));
+        assertEquals(2, cache.getExpirationCount());
+    }
+
+    @Test
+    void expiredEntryWithoutValidatorsIsRemoved() {
+        ResponseCache cache = new ResponseCache(CachePolicy.builder().timeToLive("getResource", Duration.ZERO).build());
+
+        cache.put("a", "getResource", "value", 10);
+        assertNull(cache.get("a"));
+        assertNull(cache.get("a"));
+
+        assertEquals(1, cache.getExpirationCount());
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,70 @@
+package de.jonahd345.xenfororesourcemanagerapi.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class VersionCacheTest {
+    @Test
+    void invalidateKeepsTheOtherVersionsReachable() {
+        VersionCache cache = new VersionCache(Duration.ofHours(1));
+
+        for (int id = 1; id <= 40; id++) {
+            cache.put(id, "v" + id);
+        }
+        for (int id = 1; id <= 40; id += 3) {
+            cache.invalidate(id);
+        }
+        cache.invalidate(1000);
+
+        for (int id = 1; id <= 40; id++) {
+            assertEquals(id % 3 == 1 ? null : "v" + id, cache.get(id));
+        }
+        assertEquals(26, cache.size());
+    }
+
+    @Test
+    void matchesAMapUnderRandomPutsAndInvalidations() {
+        VersionCache cache = new VersionCache(Duration.ofHours(1));
+        Map<Integer, String> expected = new HashMap<>();
+        Random random = new Random(7);
+
+        for (int i = 0; i < 50_000; i++) {
+            // a small ID range produces long probe sequences and many shifted entries
+            int id = 1 + random.nextInt(500);
+
+            if (random.nextInt(3) == 0) {
+                cache.invalidate(id);
+                expected.remove(id);
+            } else {
+                cache.put(id, "v" + i);
+                expected.put(id, "v" + i);
+            }
+        }
+        for (int id = 1; id <= 500; id++) {
+            assertEquals(expected.get(id), cache.get(id));
+        }
+        assertEquals(expected.size(), cache.size());
+    }
+
+    @Test
+    void ignoresInvalidEntriesAndClears() {
+        VersionCache cache = new VersionCache(Duration.ofHours(1));
+
+        cache.put(0, "1.0");
+        cache.put(-1, "1.0");
+        cache.put(1, null);
+        cache.put(2, "1.0");
+        assertEquals(1, cache.size());
+
+        cache.clear();
+        assertNull(cache.get(2));
+        assertEquals(0, cache.size());
+    }
+}
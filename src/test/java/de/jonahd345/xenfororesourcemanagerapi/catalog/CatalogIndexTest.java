@@ -0,0 +1,122 @@
+package de.jonahd345.xenfororesourcemanagerapi.catalog;
+
+import de.jonahd345.xenfororesourcemanagerapi.model.Category;
+import de.jonahd345.xenfororesourcemanagerapi.model.Premium;
+import de.jonahd345.xenfororesourcemanagerapi.model.Resource;
+import de.jonahd345.xenfororesourcemanagerapi.model.Stats;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CatalogIndexTest {
+    @Test
+    void freeResourcesWithEmptyPremiumAreNotPremium() {
+        CatalogIndex index = new CatalogIndex();
+
+        index.put(resource(1, 4, 100, "0.00", ""));
+        index.put(resource(2, 4, 200, "4.99", "USD"));
+        index.put(resource(3, 4, 300, null, null));
+
+        assertArrayEquals(new int[]{2}, index.getByPremium(true));
+        assertArrayEquals(new int[]{1, 3}, index.getByPremium(false));
+        assertFalse(index.get(1).isPremium());
+        assertNull(index.get(1).getCurrency());
+        assertTrue(index.get(2).isPremium());
+        assertEquals("USD", index.get(2).getCurrency());
+    }
+
+    @Test
+    void replacingAResourceMovesItBetweenPremiumAndFree() {
+        CatalogIndex index = new CatalogIndex();
+
+        index.put(resource(1, 4, 100, "4.99", "USD"));
+        index.put(resource(1, 4, 100, "0.00", ""));
+
+        assertArrayEquals(new int[0], index.getByPremium(true));
+        assertArrayEquals(new int[]{1}, index.getByPremium(false));
+    }
+
+    @Test
+    void bulkPutMatchesIncrementalPut() {
+        List<Resource> resources = new ArrayList<>();
+
+        for (int id = 500; id >= 1; id--) {
+            resources.add(resource(id, id % 7, id * 31 % 1000, id % 5 == 0 ? "2.50" : "0.00", id % 5 == 0 ? "EUR" : ""));
+        }
+        CatalogIndex bulk = new CatalogIndex();
+        CatalogIndex incremental = new CatalogIndex();
+
+        bulk.putAll(resources);
+        resources.forEach(incremental::put);
+        assertIndexesEqual(incremental, bulk);
+
+        // replacing every resource moves them to other categories and changes their downloads
+        List<Resource> replacements = new ArrayList<>();
+
+        for (int id = 1; id <= 500; id += 2) {
+            replacements.add(resource(id, (id + 3) % 7, id * 17 % 1000, "0.00", ""));
+        }
+        bulk.putAll(replacements);
+        replacements.forEach(incremental::put);
+        assertIndexesEqual(incremental, bulk);
+        assertEquals(500, bulk.size());
+    }
+
+    @Test
+    void bulkPutKeepsTheLastResourceOfAnId() {
+        List<Resource> resources = new ArrayList<>();
+
+        for (int id = 1; id <= 40; id++) {
+            resources.add(resource(id, 1, id, "0.00", ""));
+        }
+        resources.add(resource(7, 2, 1000, "1.00", "USD"));
+
+        CatalogIndex index = new CatalogIndex();
+
+        index.putAll(resources);
+        assertEquals(39, index.getByCategory(1).length);
+        assertArrayEquals(new int[]{7}, index.getByCategory(2));
+        assertArrayEquals(new int[]{7}, index.getByPremium(true));
+        assertArrayEquals(new int[]{7, 40}, index.top(StatsColumn.DOWNLOADS, 2));
+    }
+
+    private static void assertIndexesEqual(CatalogIndex expected, CatalogIndex actual) {
+        for (int category = 0; category < 7; category++) {
+            assertArrayEquals(expected.getByCategory(category), actual.getByCategory(category));
+        }
+        assertArrayEquals(expected.getByPremium(true), actual.getByPremium(true));
+        assertArrayEquals(expected.getByPremium(false), actual.getByPremium(false));
+        assertArrayEquals(expected.getByMinecraftVersion("1.20"), actual.getByMinecraftVersion("1.20"));
+        for (StatsColumn column : StatsColumn.values()) {
+            assertArrayEquals(expected.top(column, Integer.MAX_VALUE), actual.top(column, Integer.MAX_VALUE));
+        }
+    }
+
+    private static Resource resource(int id, int categoryId, int downloads, String price, String currency) {
+        Resource resource = new Resource();
+        Category category = new Category();
+        Stats stats = new Stats();
+
+        category.setId(categoryId);
+        stats.setDownloads(downloads);
+        resource.setId(id);
+        resource.setCategory(category);
+        resource.setStats(stats);
+        resource.setSupportedMinecraftVersions(id % 2 == 0 ? List.of("1.20", "1.19") : List.of("1.19"));
+        if (price != null) {
+            Premium premium = new Premium();
+
+            premium.setPrice(Double.parseDouble(price));
+            premium.setCurrency(currency);
+            resource.setPremium(premium);
+        }
+        return resource;
+    }
+}
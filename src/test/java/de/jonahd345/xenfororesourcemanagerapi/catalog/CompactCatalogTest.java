@@ -0,0 +1,68 @@
+package de.jonahd345.xenfororesourcemanagerapi.catalog;
+
+import de.jonahd345.xenfororesourcemanagerapi.model.Author;
+import de.jonahd345.xenfororesourcemanagerapi.model.Category;
+import de.jonahd345.xenfororesourcemanagerapi.model.Resource;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CompactCatalogTest {
+    @Test
+    void modifyingAReturnedAuthorDoesNotChangeOtherResources() {
+        CompactCatalog catalog = new CompactCatalog();
+
+        catalog.put(resource(1, 10, "alice", 4, "Spigot"));
+        catalog.put(resource(2, 10, "alice", 4, "Spigot"));
+
+        catalog.get(1).getAuthor().setUsername("mallory");
+        catalog.get(1).getCategory().setTitle("Changed");
+
+        assertEquals("alice", catalog.get(2).getAuthor().getUsername());
+        assertEquals("Spigot", catalog.get(2).getCategory().getTitle());
+        assertEquals("alice", catalog.getAuthor(10).getUsername());
+    }
+
+    @Test
+    void replacedAuthorIsSeenByOlderResources() {
+        CompactCatalog catalog = new CompactCatalog();
+
+        catalog.put(resource(1, 10, "alice", 4, "Spigot"));
+        catalog.put(resource(2, 10, "alice2", 4, "Spigot"));
+
+        assertEquals("alice2", catalog.get(1).getAuthor().getUsername());
+        assertEquals("alice2", catalog.get(1).toResource().getAuthor().getUsername());
+        assertEquals(10, catalog.get(1).getAuthorId());
+    }
+
+    @Test
+    void resourceWithoutCategoryAndAuthor() {
+        CompactCatalog catalog = new CompactCatalog();
+        Resource resource = new Resource();
+
+        resource.setId(1);
+        resource.setCurrentVersion("1.0");
+        catalog.put(resource);
+
+        assertNull(catalog.get(1).getCategory());
+        assertNull(catalog.get(1).getAuthor());
+        assertEquals(0, catalog.get(1).getCategoryId());
+        assertEquals("1.0", catalog.get(1).getCurrentVersion());
+    }
+
+    private static Resource resource(int id, int authorId, String username, int categoryId, String categoryTitle) {
+        Resource resource = new Resource();
+        Author author = new Author();
+        Category category = new Category();
+
+        author.setId(authorId);
+        author.setUsername(username);
+        category.setId(categoryId);
+        category.setTitle(categoryTitle);
+        resource.setId(id);
+        resource.setAuthor(author);
+        resource.setCategory(category);
+        return resource;
+    }
+}
@@ -0,0 +1,80 @@
+package de.jonahd345.xenfororesourcemanagerapi.crawler;
+
+import de.jonahd345.xenfororesourcemanagerapi.XenforoResourceManagerAPI;
+import de.jonahd345.xenfororesourcemanagerapi.model.Resource;
+import de.jonahd345.xenfororesourcemanagerapi.transport.StubServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CatalogCrawlerTest {
+    private final AtomicBoolean failing = new AtomicBoolean(true);
+
+    private StubServer server;
+
+    private XenforoResourceManagerAPI api;
+
+    @BeforeEach
+    void setUp() {
+        server = StubServer.builder().build()
+                .respond("listResources", parameters -> {
+                    int page = Integer.parseInt(parameters.get("page"));
+
+                    if (page == 2 && failing.get()) {
+                        return null;
+                    }
+                    return page <= 3 ? "[{\"id\":" + page + "}]" : "[]";
+                })
+                .start();
+        api = XenforoResourceManagerAPI.builder().baseUrl(server.getBaseUrl()).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void failedPageDoesNotCompleteTheCategory() {
+        Set<Integer> ids = new ConcurrentSkipListSet<>();
+        AtomicReference<CrawlCheckpoint> last = new AtomicReference<>();
+        CrawlListener listener = new CrawlListener() {
+            @Override
+            public void onPage(int categoryId, int page, List<Resource> resources) {
+                resources.forEach(resource -> ids.add(resource.getId()));
+            }
+
+            @Override
+            public void onProgress(CrawlProgress progress) {
+                last.set(progress.getCheckpoint());
+            }
+        };
+        CatalogCrawler crawler = CatalogCrawler.builder().api(api).listener(listener).maxConcurrency(1).ordered(true).build();
+
+        CompletionException e = assertThrows(CompletionException.class, () -> crawler.crawl(List.of(5), new CrawlCheckpoint()).join());
+
+        assertTrue(e.getCause() instanceof IllegalStateException);
+        assertNotNull(last.get());
+        assertFalse(last.get().getCompletedCategories().contains(5));
+        assertEquals(2, last.get().getNextPage(5));
+
+        failing.set(false);
+        CrawlCheckpoint checkpoint = crawler.crawl(List.of(5), last.get()).join();
+
+        assertTrue(checkpoint.getCompletedCategories().contains(5));
+        assertEquals(Set.of(1, 2, 3), ids);
+    }
+}
@@ -0,0 +1,172 @@
+package de.jonahd345.xenfororesourcemanagerapi.feed;
+
+import de.jonahd345.xenfororesourcemanagerapi.XenforoResourceManagerAPI;
+import de.jonahd345.xenfororesourcemanagerapi.model.Update;
+import de.jonahd345.xenfororesourcemanagerapi.transport.StubServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UpdateFeedTest {
+    private static final List<Integer> RESOURCES = List.of(1);
+
+    private final AtomicReference<String> updates = new AtomicReference<>("[]");
+
+    private final AtomicReference<String> secondPage = new AtomicReference<>("[]");
+
+    private StubServer server;
+
+    private XenforoResourceManagerAPI api;
+
+    @BeforeEach
+    void setUp() {
+        server = StubServer.builder().build()
+                .respond("getResourceUpdates", parameters -> switch (parameters.get("page")) {
+                    case "1" -> updates.get();
+                    case "2" -> secondPage.get();
+                    default -> "[]";
+                })
+                .start();
+        api = XenforoResourceManagerAPI.builder().baseUrl(server.getBaseUrl()).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void firstUpdateOfAResourceWithoutUpdatesIsDelivered() {
+        List<Integer> delivered = new ArrayList<>();
+        UpdateFeed feed = feed((resourceId, list) -> list.forEach(update -> delivered.add(update.getId())));
+        FeedState state = new FeedState();
+
+        feed.pollAll(state, RESOURCES).join();
+        feed.pollAll(state, RESOURCES).join();
+
+        UpdateWatermark watermark = state.getWatermark(1);
+
+        assertTrue(watermark.isPolled());
+        assertEquals(Duration.ofMinutes(15).toMillis(), watermark.getInterval());
+
+        updates.set("[{\"id\":7,\"resource_id\":1,\"title\":\"1.1\"}]");
+        feed.pollAll(state, RESOURCES).join();
+
+        assertEquals(List.of(7), delivered);
+        assertEquals(7, watermark.getLastUpdateId());
+        assertEquals(Duration.ofMinutes(10).toMillis(), watermark.getInterval());
+    }
+
+    @Test
+    void failedListenerReceivesTheUpdatesAgain() {
+        FeedState state = new FeedState();
+        List<Integer> delivered = new ArrayList<>();
+        List<Throwable> failures = new ArrayList<>();
+
+        feed((resourceId, list) -> {}).pollAll(state, RESOURCES).join();
+        updates.set("[{\"id\":8,\"resource_id\":1,\"title\":\"1.2\"},{\"id\":7,\"resource_id\":1,\"title\":\"1.1\"}]");
+
+        FeedResult failed = feed(new UpdateListener() {
+            @Override
+            public void onUpdates(int resourceId, List<Update> list) {
+                throw new IllegalStateException("database unavailable");
+            }
+
+            @Override
+            public void onFailure(int resourceId, Throwable throwable) {
+                failures.add(throwable);
+            }
+        }).pollAll(state, RESOURCES).join();
+
+        assertEquals(1, failed.getFailures());
+        assertEquals(1, failures.size());
+        assertEquals(0, state.getWatermark(1).getLastUpdateId());
+        assertEquals(1, state.getWatermark(1).getFailures());
+
+        feed((resourceId, list) -> list.forEach(update -> delivered.add(update.getId()))).pollAll(state, RESOURCES).join();
+
+        assertEquals(List.of(7, 8), delivered);
+        assertEquals(8, state.getWatermark(1).getLastUpdateId());
+        assertEquals(0, state.getWatermark(1).getFailures());
+    }
+
+    @Test
+    void failedPageKeepsTheWatermark() {
+        FeedState state = new FeedState();
+        List<Integer> delivered = new ArrayList<>();
+        UpdateFeed feed = feed((resourceId, list) -> list.forEach(update -> delivered.add(update.getId())));
+
+        updates.set("[{\"id\":5,\"resource_id\":1,\"title\":\"1.0\"}]");
+        feed.pollAll(state, RESOURCES).join();
+        assertEquals(5, state.getWatermark(1).getLastUpdateId());
+
+        // page 1 only contains new updates, so page 2 is fetched, which fails
+        updates.set("[{\"id\":10,\"resource_id\":1,\"title\":\"1.4\"},{\"id\":9,\"resource_id\":1,\"title\":\"1.3\"}]");
+        secondPage.set(null);
+
+        FeedResult failed = feed.pollAll(state, RESOURCES).join();
+
+        assertEquals(1, failed.getFailures());
+        assertTrue(delivered.isEmpty());
+        assertEquals(5, state.getWatermark(1).getLastUpdateId());
+
+        secondPage.set("[{\"id\":8,\"resource_id\":1,\"title\":\"1.2\"},{\"id\":5,\"resource_id\":1,\"title\":\"1.0\"}]");
+        feed.pollAll(state, RESOURCES).join();
+
+        assertEquals(List.of(8, 9, 10), delivered);
+        assertEquals(10, state.getWatermark(1).getLastUpdateId());
+    }
+
+    @Test
+    void failedFirstPageIsAFailureInsteadOfNoUpdates() {
+        FeedState state = new FeedState();
+        UpdateFeed feed = feed((resourceId, list) -> {});
+
+        feed.pollAll(state, RESOURCES).join();
+        updates.set(null);
+
+        FeedResult failed = feed.pollAll(state, RESOURCES).join();
+
+        assertEquals(1, failed.getFailures());
+        assertEquals(1, state.getWatermark(1).getFailures());
+        assertEquals(Duration.ofMinutes(10).toMillis(), state.getWatermark(1).getInterval());
+    }
+
+    @Test
+    void throwingFailureListenerDoesNotBlockTheResource() {
+        FeedState state = new FeedState();
+        UpdateFeed feed = feed(new UpdateListener() {
+            @Override
+            public void onUpdates(int resourceId, List<Update> list) {
+                throw new IllegalStateException("database unavailable");
+            }
+
+            @Override
+            public void onFailure(int resourceId, Throwable throwable) {
+                throw new IllegalStateException("alerting unavailable");
+            }
+        });
+
+        feed.pollAll(state, RESOURCES).join();
+        updates.set("[{\"id\":7,\"resource_id\":1,\"title\":\"1.1\"}]");
+
+        assertEquals(1, feed.pollAll(state, RESOURCES).join().getFailures());
+
+        FeedResult again = feed.pollAll(state, RESOURCES).join();
+
+        assertEquals(1, again.getPolled());
+        assertEquals(2, state.getWatermark(1).getFailures());
+    }
+
+    private UpdateFeed feed(UpdateListener listener) {
+        return UpdateFeed.builder().api(api).listener(listener).minInterval(Duration.ofMinutes(10)).build();
+    }
+}
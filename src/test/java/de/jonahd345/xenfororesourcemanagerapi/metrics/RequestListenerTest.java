@@ -0,0 +1,67 @@
+package de.jonahd345.xenfororesourcemanagerapi.metrics;
+
+import de.jonahd345.xenfororesourcemanagerapi.XenforoResourceManagerAPI;
+import de.jonahd345.xenfororesourcemanagerapi.model.Resource;
+import de.jonahd345.xenfororesourcemanagerapi.transport.StubServer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+class RequestListenerTest {
+    private static final RequestListener FAILING = new RequestListener() {
+        @Override
+        public void onRequestStart(String endpointName) {
+            throw new IllegalStateException("exporter unavailable");
+        }
+
+        @Override
+        public void onRequestEnd(RequestTrace trace) {
+            throw new IllegalStateException("exporter unavailable");
+        }
+    };
+
+    @Test
+    void failingListenerDoesNotFailTheRequest() {
+        try (StubServer server = StubServer.builder().build()
+                .respond("getResource", parameters -> "{\"id\":" + parameters.get("id") + "}")
+                .start()) {
+            XenforoResourceManagerAPI api = XenforoResourceManagerAPI.builder()
+                    .baseUrl(server.getBaseUrl())
+                    .requestListener(FAILING)
+                    .build();
+
+            Resource resource = api.getResource(3);
+            Resource async = api.getResourceAsync(4).join();
+
+            assertNotNull(resource);
+            assertEquals(3, resource.getId());
+            assertEquals(4, async.getId());
+        }
+    }
+
+    @Test
+    void combinedListenerCallsTheFollowingListenersAfterAFailure() {
+        List<String> events = new ArrayList<>();
+        RequestListener recording = new RequestListener() {
+            @Override
+            public void onRequestStart(String endpointName) {
+                events.add("start " + endpointName);
+            }
+
+            @Override
+            public void onRequestEnd(RequestTrace trace) {
+                events.add("end " + trace.getEndpointName());
+            }
+        };
+        RequestListener listener = RequestListener.of(FAILING, recording);
+
+        listener.onRequestStart("getResource");
+        listener.onRequestEnd(RequestTrace.builder().endpointName("getResource").build());
+
+        assertEquals(List.of("start getResource", "end getResource"), events);
+    }
+}
@@ -0,0 +1,157 @@
+package de.jonahd345.xenfororesourcemanagerapi.store;
+
+import de.jonahd345.xenfororesourcemanagerapi.model.Resource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SnapshotStoreTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void replaysPutsAndRemovesAfterReopen() throws IOException {
+        try (SnapshotStore store = open()) {
+            store.put(RecordType.RESOURCE, 1, resource(1, "1.0"), 1000);
+            store.put(RecordType.RESOURCE, 2, resource(2, "1.0"), 2000);
+            store.put(RecordType.RESOURCE, 1, resource(1, "2.0"), 3000);
+            store.removeResource(2);
+        }
+        try (SnapshotStore store = open()) {
+            StoredEntry<Resource> entry = store.getResource(1);
+
+            assertEquals(1, store.size());
+            assertEquals("2.0", entry.getValue().getCurrentVersion());
+            assertEquals(3000, entry.getFetchedAt());
+            assertNull(store.getResource(2));
+        }
+    }
+
+    @Test
+    void cutsOffTornRecordAtTheEnd() throws IOException {
+        try (SnapshotStore store = open()) {
+            for (int id = 1; id <= 3; id++) {
+                store.put(RecordType.RESOURCE, id, resource(id, "1.0"), 1000);
+            }
+        }
+        Path segment = directory.resolve(Segment.fileName(1));
+        long size = Files.size(segment);
+
+        // the length and checksum of a record whose body was never written
+        Files.write(segment, new byte[] {0, 0, 0, 40, 1, 2, 3, 4, 5}, StandardOpenOption.APPEND);
+
+        try (SnapshotStore store = open()) {
+            assertEquals(3, store.size());
+            assertEquals(size, Files.size(segment));
+            store.put(RecordType.RESOURCE, 4, resource(4, "1.0"), 1000);
+        }
+        try (SnapshotStore store = open()) {
+            assertEquals(4, store.size());
+            assertEquals("1.0", store.getResource(4).getValue().getCurrentVersion());
+        }
+    }
+
+    @Test
+    void compactionKeepsOnlyCurrentRecords() throws IOException {
+        try (SnapshotStore store = open()) {
+            for (int round = 1; round <= 3; round++) {
+                for (int id = 1; id <= 10; id++) {
+                    store.put(RecordType.RESOURCE, id, resource(id, round + ".0"), round);
+                }
+            }
+            store.removeResource(10);
+            assertTrue(store.getTotalBytes() > store.getLiveBytes());
+
+            store.compact();
+
+            assertEquals(store.getLiveBytes(), store.getTotalBytes());
+            assertEquals(9, store.size());
+            assertFalse(Files.exists(directory.resolve(Segment.fileName(1))));
+        }
+        try (SnapshotStore store = open()) {
+            assertEquals(9, store.size());
+            assertEquals(store.getLiveBytes(), store.getTotalBytes());
+            for (int id = 1; id <= 9; id++) {
+                StoredEntry<Resource> entry = store.getResource(id);
+
+                assertEquals("3.0", entry.getValue().getCurrentVersion());
+                assertEquals(3, entry.getFetchedAt());
+            }
+            assertNull(store.getResource(10));
+        }
+    }
+
+    @Test
+    void compactsAutomaticallyOnceTheGarbageRatioIsReached() throws IOException {
+        try (SnapshotStore store = SnapshotStore.builder().directory(directory).minCompactionBytes(0L).compactionRatio(0.5).build()) {
+            for (int i = 0; i < 100; i++) {
+                store.put(RecordType.RESOURCE, 1, resource(1, i + ".0"), i);
+            }
+            assertTrue(store.getTotalBytes() - store.getLiveBytes() < store.getTotalBytes() * 0.5);
+            assertEquals("99.0", store.getResource(1).getValue().getCurrentVersion());
+        }
+    }
+
+    @Test
+    void deletesLastSegmentWithIncompleteHeader() throws IOException {
+        try (SnapshotStore store = open()) {
+            store.put(RecordType.RESOURCE, 1, resource(1, "1.0"), 1000);
+        }
+        Path torn = directory.resolve(Segment.fileName(2));
+
+        Files.write(torn, new byte[] {0x58, 0x52, 0x4d});
+
+        try (SnapshotStore store = open()) {
+            assertFalse(Files.exists(torn));
+            assertEquals(1, store.getSegmentCount());
+            assertEquals("1.0", store.getResource(1).getValue().getCurrentVersion());
+        }
+    }
+
+    @Test
+    void startsEmptyIfTheOnlySegmentHasNoHeader() throws IOException {
+        Files.write(directory.resolve(Segment.fileName(1)), new byte[0]);
+
+        try (SnapshotStore store = open()) {
+            assertEquals(0, store.size());
+            store.put(RecordType.RESOURCE, 1, resource(1, "1.0"), 1000);
+        }
+        try (SnapshotStore store = open()) {
+            assertEquals(1, store.size());
+        }
+    }
+
+    @Test
+    void failsOnInvalidHeaderOfAnEarlierSegment() throws IOException {
+        try (SnapshotStore store = open()) {
+            store.put(RecordType.RESOURCE, 1, resource(1, "1.0"), 1000);
+        }
+        Files.write(directory.resolve(Segment.fileName(0)), new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+
+        assertThrows(UncheckedIOException.class, this::open);
+    }
+
+    private SnapshotStore open() {
+        return SnapshotStore.builder().directory(directory).build();
+    }
+
+    private static Resource resource(int id, String version) {
+        Resource resource = new Resource();
+
+        resource.setId(id);
+        resource.setTitle("Resource " + id);
+        resource.setCurrentVersion(version);
+        return resource;
+    }
+}
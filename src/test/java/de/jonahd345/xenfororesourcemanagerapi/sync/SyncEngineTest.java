@@ -0,0 +1,142 @@
+package de.jonahd345.xenfororesourcemanagerapi.sync;
+
+import de.jonahd345.xenfororesourcemanagerapi.XenforoResourceManagerAPI;
+import de.jonahd345.xenfororesourcemanagerapi.model.Resource;
+import de.jonahd345.xenfororesourcemanagerapi.transport.StubServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SyncEngineTest {
+    private final AtomicReference<String> page = new AtomicReference<>();
+
+    private final AtomicReference<String> secondPage = new AtomicReference<>("[]");
+
+    private StubServer server;
+
+    private XenforoResourceManagerAPI api;
+
+    @BeforeEach
+    void setUp() {
+        server = StubServer.builder().build()
+                .respond("listResources", parameters -> switch (parameters.get("page")) {
+                    case "1" -> page.get();
+                    case "2" -> secondPage.get();
+                    default -> "[]";
+                })
+                .start();
+        api = XenforoResourceManagerAPI.builder().baseUrl(server.getBaseUrl()).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void failedListenerSeesTheChangeAgain() {
+        SyncState state = new SyncState();
+        List<Integer> added = new ArrayList<>();
+        SyncListener failing = new SyncListener() {
+            @Override
+            public void onAdded(Resource resource) {
+                throw new IllegalStateException("database unavailable");
+            }
+        };
+        SyncListener recording = new SyncListener() {
+            @Override
+            public void onAdded(Resource resource) {
+                added.add(resource.getId());
+            }
+        };
+
+        page.set("[{\"id\":1,\"current_version\":\"1.0\"},{\"id\":2,\"current_version\":\"1.0\"}]");
+
+        CompletionException e = assertThrows(CompletionException.class, () -> engine(failing).fullSync(state).join());
+
+        assertTrue(e.getCause() instanceof IllegalStateException);
+        assertTrue(state.getResources().isEmpty());
+
+        SyncResult result = engine(recording).fullSync(state).join();
+
+        assertEquals(List.of(1, 2), added);
+        assertEquals(2, result.getAdded());
+        assertEquals(2, state.getResources().size());
+    }
+
+    @Test
+    void failedListenerSeesTheChangedAndRemovedResourcesAgain() {
+        SyncState state = new SyncState();
+
+        page.set("[{\"id\":1,\"current_version\":\"1.0\"},{\"id\":2,\"current_version\":\"1.0\"}]");
+        engine(new SyncListener() {}).fullSync(state).join();
+
+        page.set("[{\"id\":1,\"current_version\":\"2.0\"}]");
+        assertThrows(CompletionException.class, () -> engine(new SyncListener() {
+            @Override
+            public void onChanged(Resource resource, ResourceFingerprint previous) {
+                throw new IllegalStateException("database unavailable");
+            }
+        }).fullSync(state).join());
+        assertEquals("1.0", state.getResources().get(1).getCurrentVersion());
+
+        assertThrows(CompletionException.class, () -> engine(new SyncListener() {
+            @Override
+            public void onRemoved(int id, ResourceFingerprint previous) {
+                throw new IllegalStateException("database unavailable");
+            }
+        }).fullSync(state).join());
+        assertEquals("2.0", state.getResources().get(1).getCurrentVersion());
+        assertTrue(state.getResources().containsKey(2));
+
+        List<Integer> removed = new ArrayList<>();
+        SyncResult result = engine(new SyncListener() {
+            @Override
+            public void onRemoved(int id, ResourceFingerprint previous) {
+                removed.add(id);
+            }
+        }).fullSync(state).join();
+
+        assertEquals(List.of(2), removed);
+        assertEquals(0, result.getChanged());
+        assertEquals(1, state.getResources().size());
+    }
+
+    @Test
+    void failedPageFailsTheRunWithoutRemovingResources() {
+        SyncState state = new SyncState();
+
+        page.set("[{\"id\":1,\"current_version\":\"1.0\"},{\"id\":2,\"current_version\":\"1.0\"}]");
+        engine(new SyncListener() {}).fullSync(state).join();
+
+        page.set("[{\"id\":1,\"current_version\":\"2.0\"}]");
+        secondPage.set(null);
+
+        CompletionException e = assertThrows(CompletionException.class, () -> engine(new SyncListener() {}).fullSync(state).join());
+
+        assertTrue(e.getCause() instanceof IllegalStateException);
+        assertEquals("2.0", state.getResources().get(1).getCurrentVersion());
+        assertTrue(state.getResources().containsKey(2));
+        assertEquals(1, state.getCompleteRuns());
+        assertEquals(0, state.getPartialRuns());
+
+        secondPage.set("[]");
+        SyncResult result = engine(new SyncListener() {}).fullSync(state).join();
+
+        assertTrue(result.isComplete());
+        assertEquals(1, result.getRemoved());
+    }
+
+    private SyncEngine engine(SyncListener listener) {
+        return SyncEngine.builder().api(api).listener(listener).build();
+    }
+}
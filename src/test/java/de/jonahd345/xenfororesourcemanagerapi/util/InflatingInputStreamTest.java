@@ -0,0 +1,167 @@
+package de.jonahd345.xenfororesourcemanagerapi.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class InflatingInputStreamTest {
+    private static final byte[] DATA = data();
+
+    @Test
+    void inflatesGzip() throws IOException {
+        byte[] compressed = gzip(DATA);
+
+        assertArrayEquals(DATA, inflate(compressed, true));
+        assertArrayEquals(DATA, inflateBytewise(compressed, true));
+    }
+
+    @Test
+    void skipsOptionalGzipHeaderFields() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CRC32 crc = new CRC32();
+
+        // FHCRC | FEXTRA | FNAME | FCOMMENT
+        out.write(new byte[] {0x1f, (byte) 0x8b, 8, 2 | 4 | 8 | 16, 0, 0, 0, 0, 0, 3});
+        out.write(new byte[] {5, 0, 'x', 'r', 2, 0, 'a'});
+        out.write("resources.json\0".getBytes(StandardCharsets.ISO_8859_1));
+        out.write("a comment\0".getBytes(StandardCharsets.ISO_8859_1));
+        out.write(new byte[] {0x12, 0x34});
+        out.write(rawDeflate(DATA));
+        crc.update(DATA);
+        writeInt(out, (int) crc.getValue());
+        writeInt(out, DATA.length);
+
+        assertArrayEquals(DATA, inflate(out.toByteArray(), true));
+    }
+
+    @Test
+    void rejectsCorruptGzipTrailer() throws IOException {
+        byte[] compressed = gzip(DATA);
+        byte[] badCrc = compressed.clone();
+        byte[] badSize = compressed.clone();
+
+        badCrc[badCrc.length - 8] ^= 1;
+        badSize[badSize.length - 1] ^= 1;
+
+        assertThrows(ZipException.class, () -> inflate(badCrc, true));
+        assertThrows(ZipException.class, () -> inflate(badSize, true));
+    }
+
+    @Test
+    void rejectsInvalidAndTruncatedGzip() throws IOException {
+        byte[] compressed = gzip(DATA);
+
+        assertThrows(ZipException.class, () -> inflate(new byte[] {0x1f, 0x00, 8, 0}, true));
+        assertThrows(EOFException.class, () -> inflate(Arrays.copyOf(compressed, compressed.length / 2), true));
+        assertThrows(EOFException.class, () -> inflate(Arrays.copyOf(compressed, compressed.length - 4), true));
+    }
+
+    @Test
+    void inflatesDeflateWithAndWithoutZlibHeader() throws IOException {
+        ByteArrayOutputStream zlib = new ByteArrayOutputStream();
+
+        try (DeflaterOutputStream out = new DeflaterOutputStream(zlib)) {
+            out.write(DATA);
+        }
+        assertArrayEquals(DATA, inflate(zlib.toByteArray(), false));
+        assertArrayEquals(DATA, inflate(rawDeflate(DATA), false));
+        assertArrayEquals(new byte[0], inflate(rawDeflate(new byte[0]), false));
+    }
+
+    @Test
+    void reusesPooledInflatersAcrossStreams() throws IOException {
+        byte[] gzip = gzip(DATA);
+        byte[] deflate = rawDeflate(DATA);
+
+        for (int i = 0; i < 100; i++) {
+            // a stream closed before its end must not leave state behind for the next one
+            try (InputStream in = new InflatingInputStream(new ByteArrayInputStream(gzip), true)) {
+                in.read(new byte[100]);
+            }
+            assertArrayEquals(DATA, inflate(i % 2 == 0 ? gzip : deflate, i % 2 == 0));
+        }
+    }
+
+    @Test
+    void failsAfterClose() throws IOException {
+        InputStream in = new InflatingInputStream(new ByteArrayInputStream(gzip(DATA)), true);
+
+        in.close();
+        assertThrows(IOException.class, in::read);
+    }
+
+    private static byte[] inflate(byte[] compressed, boolean gzip) throws IOException {
+        try (InputStream in = new InflatingInputStream(new ByteArrayInputStream(compressed), gzip)) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static byte[] inflateBytewise(byte[] compressed, boolean gzip) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (InputStream in = new InflatingInputStream(new ByteArrayInputStream(compressed), gzip)) {
+            for (int b; (b = in.read()) != -1; ) {
+                out.write(b);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] rawDeflate(byte[] data) throws IOException {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (DeflaterOutputStream deflate = new DeflaterOutputStream(out, deflater)) {
+            deflate.write(data);
+        } finally {
+            deflater.end();
+        }
+        return out.toByteArray();
+    }
+
+    private static void writeInt(ByteArrayOutputStream out, int value) {
+        out.write(value);
+        out.write(value >>> 8);
+        out.write(value >>> 16);
+        out.write(value >>> 24);
+    }
+
+    /**
+     * Returns more than one buffer of partly compressible data, so the input is refilled while inflating.
+     */
+    private static byte[] data() {
+        Random random = new Random(42);
+        StringBuilder json = new StringBuilder("[");
+
+        for (int i = 0; i < 2000; i++) {
+            json.append("{\"id\":").append(i).append(",\"current_version\":\"").append(random.nextInt(100)).append('.')
+                    .append(Long.toHexString(random.nextLong())).append("\"},");
+        }
+        return json.append("{}]").toString().getBytes(StandardCharsets.UTF_8);
+    }
+}